@@ -59,6 +59,7 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.cloud:spring-cloud-starter-openfeign:${property("openfeignVersion")}")
+    implementation("org.postgresql:postgresql:${property("postgresVersion")}")
 
     // Compile Only
     compileOnly("org.projectlombok:lombok:${property("lombokVersion")}")
@@ -69,7 +70,6 @@ dependencies {
     annotationProcessor("org.projectlombok:lombok-mapstruct-binding:${property("lombokMapstructBindingVersion")}")
 
     // Runtime Only
-    runtimeOnly("org.postgresql:postgresql:${property("postgresVersion")}")
     runtimeOnly("io.jsonwebtoken:jjwt-impl:${property("jjwtVersion")}")
     runtimeOnly("io.jsonwebtoken:jjwt-jackson:${property("jjwtVersion")}")
 
@@ -158,9 +158,25 @@ tasks.jacocoTestCoverageVerification {
 }
 
 tasks.test {
+    useJUnitPlatform {
+        excludeTags("benchmark")
+    }
     finalizedBy(tasks.jacocoTestReport)
 }
 
+tasks.register<Test>("benchmark") {
+    description = "Runs the timed comparisons tagged as benchmarks."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+    testLogging {
+        showStandardStreams = true
+    }
+}
+
 tasks.check {
     dependsOn(tasks.jacocoTestCoverageVerification)
 }
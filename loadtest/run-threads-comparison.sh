@@ -0,0 +1,53 @@
+#!/usr/bin/env bash
+# Compara el servicio con hilos de plataforma y con hilos virtuales bajo la misma carga.
+# Levanta el stub de servicios externos, arranca el servicio una vez por perfil
+# (VIRTUAL_THREADS_ENABLED=false y true), ejecuta threads-comparison.js con k6 y deja
+# los resúmenes en loadtest/results/<perfil>.json.
+#
+# Requiere PostgreSQL con los datos de prueba (ORDER_ID debe pertenecer a CLIENT_ID),
+# k6 y python3. Variables opcionales: LATENCY_MS, VUS, DURATION, RESTAURANT_ID,
+# ORDER_ID, CLIENT_ID, STUB_PORT.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+STUB_PORT="${STUB_PORT:-8090}"
+LATENCY_MS="${LATENCY_MS:-200}"
+STUB_URL="http://localhost:${STUB_PORT}"
+
+mkdir -p loadtest/results
+./gradlew -q bootJar
+
+python3 loadtest/stub_services.py --port "${STUB_PORT}" --latency-ms "${LATENCY_MS}" &
+STUB_PID=$!
+APP_PID=""
+
+cleanup() {
+    [[ -n "${APP_PID}" ]] && kill "${APP_PID}" 2>/dev/null || true
+    kill "${STUB_PID}" 2>/dev/null || true
+}
+trap cleanup EXIT
+
+JAR="$(ls build/libs/*.jar | grep -v plain | head -n 1)"
+
+for PROFILE in platform virtual; do
+    VIRTUAL_THREADS_ENABLED=$([[ "${PROFILE}" == virtual ]] && echo true || echo false) \
+    USUARIOS_SERVICE_URL="${STUB_URL}" \
+    TRAZABILIDAD_SERVICE_URL="${STUB_URL}" \
+    MENSAJERIA_SERVICE_URL="${STUB_URL}" \
+        java -jar "${JAR}" > "loadtest/results/${PROFILE}.log" 2>&1 &
+    APP_PID=$!
+
+    until curl -sf http://localhost:8082/actuator/health > /dev/null; do
+        kill -0 "${APP_PID}" 2>/dev/null || { echo "El servicio no arrancó (${PROFILE})"; exit 1; }
+        sleep 1
+    done
+
+    k6 run --quiet -e PROFILE="${PROFILE}" loadtest/threads-comparison.js
+    curl -s "http://localhost:8082/actuator/metrics/hikaricp.connections.pending" \
+        > "loadtest/results/${PROFILE}-hikari-pending.json" || true
+
+    kill "${APP_PID}"
+    wait "${APP_PID}" 2>/dev/null || true
+    APP_PID=""
+done
@@ -0,0 +1,74 @@
+"""Simula Usuarios, Trazabilidad y Mensajería con una latencia fija para las pruebas de carga.
+
+    python3 loadtest/stub_services.py --port 8090 --latency-ms 200
+
+Cada petición se atiende en su propio hilo, así que el stub no limita la concurrencia.
+"""
+
+import argparse
+import json
+import re
+import time
+from http.server import BaseHTTPRequestHandler, ThreadingHTTPServer
+
+USER_PATH = re.compile(r"^/api/v1/users/(\d+)$")
+TRACEABILITY_PATH = re.compile(r"^/traceability/(\d+)$")
+
+
+class StubHandler(BaseHTTPRequestHandler):
+    latency_seconds = 0.2
+
+    def do_GET(self):
+        time.sleep(self.latency_seconds)
+        user = USER_PATH.match(self.path)
+        if user:
+            user_id = int(user.group(1))
+            self._send(200, {
+                "id": user_id,
+                "firstName": "Usuario",
+                "lastName": str(user_id),
+                "phone": "+573005698325",
+                "email": f"usuario{user_id}@plazoleta.com",
+                "role": "CLIENT",
+                "restaurantId": None,
+            })
+        elif TRACEABILITY_PATH.match(self.path) or self.path.startswith("/traceability/efficiency/"):
+            self._send(200, [])
+        else:
+            self._send(404, {"message": "Not Found"})
+
+    def do_POST(self):
+        time.sleep(self.latency_seconds)
+        length = int(self.headers.get("Content-Length", 0))
+        self.rfile.read(length)
+        self._send(200, {})
+
+    def _send(self, status, body):
+        payload = json.dumps(body).encode("utf-8")
+        self.send_response(status)
+        self.send_header("Content-Type", "application/json")
+        self.send_header("Content-Length", str(len(payload)))
+        self.end_headers()
+        self.wfile.write(payload)
+
+    def log_message(self, format, *args):
+        pass
+
+
+class StubServer(ThreadingHTTPServer):
+    daemon_threads = True
+    request_queue_size = 4096
+
+
+def main():
+    parser = argparse.ArgumentParser()
+    parser.add_argument("--port", type=int, default=8090)
+    parser.add_argument("--latency-ms", type=int, default=200)
+    args = parser.parse_args()
+    StubHandler.latency_seconds = args.latency_ms / 1000
+    server = StubServer(("0.0.0.0", args.port), StubHandler)
+    server.serve_forever()
+
+
+if __name__ == "__main__":
+    main()
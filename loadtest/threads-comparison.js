@@ -0,0 +1,88 @@
+// Carga para comparar el servicio con hilos de plataforma y con hilos virtuales.
+// Se ejecuta una vez por perfil contra el servicio ya levantado con ese perfil
+// (ver run-threads-comparison.sh); el perfil solo etiqueta el resumen.
+//
+//   k6 run -e PROFILE=virtual -e ORDER_ID=1 -e CLIENT_ID=3 loadtest/threads-comparison.js
+//
+// Variables: BASE_URL, JWT_SECRET, PROFILE (platform|virtual), VUS, DURATION,
+// RESTAURANT_ID, ORDER_ID y CLIENT_ID (dueño del pedido ORDER_ID).
+
+import http from 'k6/http';
+import crypto from 'k6/crypto';
+import encoding from 'k6/encoding';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8082';
+const JWT_SECRET = __ENV.JWT_SECRET || 'plazoleta-secret-key-for-jwt-token-generation-must-be-at-least-256-bits';
+const PROFILE = __ENV.PROFILE || 'platform';
+const VUS = Number(__ENV.VUS || 1000);
+const DURATION = __ENV.DURATION || '60s';
+const RESTAURANT_ID = __ENV.RESTAURANT_ID || '1';
+const ORDER_ID = __ENV.ORDER_ID || '1';
+const CLIENT_ID = Number(__ENV.CLIENT_ID || 3);
+
+export const options = {
+    scenarios: {
+        // Consulta el pedido en la base y la trazabilidad por Feign: bloquea el hilo durante la
+        // latencia del servicio externo.
+        traceability: {
+            executor: 'constant-vus',
+            vus: Math.ceil(VUS / 2),
+            duration: DURATION,
+            exec: 'traceability',
+        },
+        // Menú servido desde la base o la caché: mide cuánto afecta la carga bloqueada al resto.
+        menu: {
+            executor: 'constant-vus',
+            vus: Math.floor(VUS / 2),
+            duration: DURATION,
+            exec: 'menu',
+        },
+    },
+    tags: { profile: PROFILE },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+const clientToken = token({ sub: 'cliente@plazoleta.com', role: 'CLIENT', userId: CLIENT_ID });
+
+export function traceability() {
+    const response = http.get(`${BASE_URL}/api/v1/orders/${ORDER_ID}/traceability`, {
+        headers: { Authorization: `Bearer ${clientToken}` },
+        tags: { endpoint: 'traceability' },
+    });
+    check(response, { 'traceability 200': (r) => r.status === 200 });
+}
+
+export function menu() {
+    const response = http.get(`${BASE_URL}/api/v1/restaurants/${RESTAURANT_ID}/dishes?page=0&size=10`, {
+        headers: { Authorization: `Bearer ${clientToken}`, 'Accept-Encoding': 'gzip' },
+        tags: { endpoint: 'menu' },
+    });
+    check(response, { 'menu 200': (r) => r.status === 200 });
+}
+
+export function handleSummary(data) {
+    return {
+        [`loadtest/results/${PROFILE}.json`]: JSON.stringify(data, null, 2),
+        stdout: summaryLine(data),
+    };
+}
+
+function summaryLine(data) {
+    const duration = data.metrics.http_req_duration.values;
+    return `${PROFILE}: ${data.metrics.http_reqs.values.rate.toFixed(1)} req/s, `
+        + `p99 ${duration['p(99)'].toFixed(1)} ms, `
+        + `errores ${(data.metrics.http_req_failed.values.rate * 100).toFixed(2)} %\n`;
+}
+
+// Firma un JWT HS256 con el mismo secreto que usa el servicio, válido por una hora.
+function token(claims) {
+    const header = encoding.b64encode(JSON.stringify({ alg: 'HS256', typ: 'JWT' }), 'rawurl');
+    const payload = encoding.b64encode(JSON.stringify({
+        ...claims,
+        iat: Math.floor(Date.now() / 1000),
+        exp: Math.floor(Date.now() / 1000) + 3600,
+    }), 'rawurl');
+    const signature = crypto.hmac('sha256', JWT_SECRET, `${header}.${payload}`, 'base64rawurl');
+    return `${header}.${payload}.${signature}`;
+}
@@ -59,9 +59,20 @@ public class DishHandler implements IDishHandler {
     @Transactional(readOnly = true)
     public PagedResponse<DishMenuItemResponseDto> getDishesByRestaurant(
             Long restaurantId, String category, int page, int size) {
-        PagedResult<Dish> pagedResult = dishServicePort.getDishesByRestaurant(
-                restaurantId, category, page, size);
+        return toPagedResponse(dishServicePort.getDishesByRestaurant(restaurantId, category, page, size));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponse<DishMenuItemResponseDto> getDishesByRestaurant(
+            Long restaurantId, String category, int page, int size, boolean countTotal) {
+        if (countTotal) {
+            return getDishesByRestaurant(restaurantId, category, page, size);
+        }
+        return toPagedResponse(dishServicePort.getDishesByRestaurantSlice(restaurantId, category, page, size));
+    }
 
+    private PagedResponse<DishMenuItemResponseDto> toPagedResponse(PagedResult<Dish> pagedResult) {
         List<DishMenuItemResponseDto> dishes = pagedResult.getContent().stream()
                 .map(dishDtoMapper::toDishMenuItemResponseDto)
                 .toList();
@@ -74,6 +85,7 @@ public class DishHandler implements IDishHandler {
                 .totalPages(pagedResult.getTotalPages())
                 .first(pagedResult.isFirst())
                 .last(pagedResult.isLast())
+                .hasNext(pagedResult.isHasNext())
                 .build();
     }
 }
@@ -16,4 +16,10 @@ public interface IDishHandler {
     DishResponseDto changeDishActiveStatus(Long dishId, DishActiveRequestDto requestDto, Long ownerId);
 
     PagedResponse<DishMenuItemResponseDto> getDishesByRestaurant(Long restaurantId, String category, int page, int size);
+
+    /**
+     * With {@code countTotal} false the totals are not computed and reported as -1; use {@code hasNext} to page.
+     */
+    PagedResponse<DishMenuItemResponseDto> getDishesByRestaurant(Long restaurantId, String category, int page, int size,
+                                                                 boolean countTotal);
 }
@@ -4,11 +4,13 @@ import com.pragma.plazoleta.application.dto.request.AssignOrderRequestDto;
 import com.pragma.plazoleta.application.dto.request.CreateOrderRequestDto;
 import com.pragma.plazoleta.application.dto.request.DeliverOrderRequestDto;
 import com.pragma.plazoleta.application.dto.request.MarkOrderReadyRequestDto;
+import com.pragma.plazoleta.application.dto.response.CursorPageResponse;
 import com.pragma.plazoleta.application.dto.response.OrderResponseDto;
 import com.pragma.plazoleta.application.dto.response.PagedResponse;
 
 import com.pragma.plazoleta.application.dto.response.TraceabilityResponseDto;
 import java.util.List;
+import java.util.Optional;
 
 public interface IOrderHandler {
 
@@ -16,8 +18,17 @@ public interface IOrderHandler {
 
     PagedResponse<OrderResponseDto> getOrdersByStatus(Long employeeId, String status, int page, int size);
 
+    /**
+     * With {@code countTotal} false the totals are not computed and reported as -1; use {@code hasNext} to page.
+     */
+    PagedResponse<OrderResponseDto> getOrdersByStatus(Long employeeId, String status, int page, int size, boolean countTotal);
+
+    CursorPageResponse<OrderResponseDto> getOrderQueue(Long employeeId, String status, String cursor, int size);
+
     OrderResponseDto assignOrderToEmployee(AssignOrderRequestDto request, Long employeeId);
 
+    Optional<OrderResponseDto> claimNextPendingOrder(Long employeeId);
+
     OrderResponseDto markOrderAsReady(MarkOrderReadyRequestDto request, Long employeeId);
 
     OrderResponseDto deliverOrder(DeliverOrderRequestDto request, Long employeeId);
@@ -25,5 +36,7 @@ public interface IOrderHandler {
     OrderResponseDto cancelOrder(Long orderId, Long clientId);
 
     List<TraceabilityResponseDto> getTraceabilityByOrderId(Long orderId, Long clientId);
+
+    Long getEmployeeRestaurantId(Long employeeId);
 }
 
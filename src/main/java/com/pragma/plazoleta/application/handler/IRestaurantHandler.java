@@ -10,4 +10,9 @@ public interface IRestaurantHandler {
     RestaurantResponse createRestaurant(CreateRestaurantRequest request);
 
     PagedResponse<RestaurantListItemResponse> getAllRestaurants(int page, int size);
+
+    /**
+     * With {@code countTotal} false the totals are not computed and reported as -1; use {@code hasNext} to page.
+     */
+    PagedResponse<RestaurantListItemResponse> getAllRestaurants(int page, int size, boolean countTotal);
 }
@@ -0,0 +1,45 @@
+package com.pragma.plazoleta.application.handler;
+
+import com.pragma.plazoleta.domain.model.OrderCursor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Encodes queue cursors as opaque URL-safe tokens so clients never depend on their contents.
+ */
+final class OrderCursorCodec {
+
+    private static final String SEPARATOR = "|";
+
+    private OrderCursorCodec() {
+        throw new AssertionError("Cannot instantiate OrderCursorCodec");
+    }
+
+    static String encode(OrderCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        String raw = cursor.getCreatedAt() + SEPARATOR + cursor.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static OrderCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+            return new OrderCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.valueOf(raw.substring(separator + 1)));
+        } catch (DateTimeParseException | IllegalArgumentException _) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.pragma.plazoleta.application.dto.request.AssignOrderRequestDto;
 import com.pragma.plazoleta.application.dto.request.CreateOrderRequestDto;
 import com.pragma.plazoleta.application.dto.request.DeliverOrderRequestDto;
 import com.pragma.plazoleta.application.dto.request.MarkOrderReadyRequestDto;
+import com.pragma.plazoleta.application.dto.response.CursorPageResponse;
 import com.pragma.plazoleta.application.dto.response.OrderItemResponseDto;
 import com.pragma.plazoleta.application.dto.response.OrderResponseDto;
 import com.pragma.plazoleta.application.dto.response.PagedResponse;
@@ -11,20 +12,32 @@ import com.pragma.plazoleta.application.mapper.OrderDtoMapper;
 import com.pragma.plazoleta.application.dto.response.TraceabilityResponseDto;
 import com.pragma.plazoleta.application.mapper.TraceabilityDtoMapper;
 import com.pragma.plazoleta.domain.api.IOrderServicePort;
+import com.pragma.plazoleta.domain.model.CursorResult;
+import com.pragma.plazoleta.domain.model.Dish;
 import com.pragma.plazoleta.domain.model.Order;
 import com.pragma.plazoleta.domain.model.OrderItem;
 import com.pragma.plazoleta.domain.model.OrderStatus;
 import com.pragma.plazoleta.domain.model.PagedResult;
+import com.pragma.plazoleta.domain.model.Restaurant;
 import com.pragma.plazoleta.domain.spi.IDishPersistencePort;
 import com.pragma.plazoleta.domain.spi.IRestaurantPersistencePort;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Opens no transaction of its own: the use case wraps each write in a short transaction after
+ * its remote lookups, and the reads run in the persistence adapters' read-only transactions, so
+ * no connection is held while another service is called.
+ */
 @Service
-@Transactional
 public class OrderHandler implements IOrderHandler {
 
     private final IOrderServicePort orderServicePort;
@@ -57,19 +70,29 @@ public class OrderHandler implements IOrderHandler {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public PagedResponse<OrderResponseDto> getOrdersByStatus(Long employeeId, String status, int page, int size) {
         OrderStatus orderStatus = OrderStatus.valueOf(status.toUpperCase());
 
         PagedResult<Order> pagedResult = orderServicePort.getOrdersByRestaurantAndStatus(
                 employeeId, orderStatus, page, size);
 
+        return toPagedResponse(pagedResult);
+    }
+
+    @Override
+    public PagedResponse<OrderResponseDto> getOrdersByStatus(Long employeeId, String status, int page, int size,
+                                                             boolean countTotal) {
+        if (countTotal) {
+            return getOrdersByStatus(employeeId, status, page, size);
+        }
+        OrderStatus orderStatus = OrderStatus.valueOf(status.toUpperCase());
+
+        return toPagedResponse(orderServicePort.getOrdersByRestaurantAndStatusSlice(employeeId, orderStatus, page, size));
+    }
+
+    private PagedResponse<OrderResponseDto> toPagedResponse(PagedResult<Order> pagedResult) {
         // Reemplazo de collect(Collectors.toList()) por toList() y se asegura inmutabilidad
-        List<OrderResponseDto> orderResponses = List.copyOf(
-                pagedResult.getContent().stream()
-                        .map(this::buildOrderResponse)
-                        .toList()
-        );
+        List<OrderResponseDto> orderResponses = List.copyOf(buildOrderResponses(pagedResult.getContent()));
 
         return PagedResponse.<OrderResponseDto>builder()
                 .content(orderResponses)
@@ -79,6 +102,22 @@ public class OrderHandler implements IOrderHandler {
                 .totalPages(pagedResult.getTotalPages())
                 .first(pagedResult.isFirst())
                 .last(pagedResult.isLast())
+                .hasNext(pagedResult.isHasNext())
+                .build();
+    }
+
+    @Override
+    public CursorPageResponse<OrderResponseDto> getOrderQueue(Long employeeId, String status, String cursor, int size) {
+        OrderStatus orderStatus = OrderStatus.valueOf(status.toUpperCase());
+
+        CursorResult<Order> cursorResult = orderServicePort.getOrderQueue(
+                employeeId, orderStatus, OrderCursorCodec.decode(cursor), size);
+
+        return CursorPageResponse.<OrderResponseDto>builder()
+                .content(List.copyOf(buildOrderResponses(cursorResult.getContent())))
+                .size(cursorResult.getSize())
+                .hasNext(cursorResult.isHasNext())
+                .nextCursor(OrderCursorCodec.encode(cursorResult.getNextCursor()))
                 .build();
     }
 
@@ -88,6 +127,12 @@ public class OrderHandler implements IOrderHandler {
         return buildOrderResponse(assignedOrder);
     }
 
+    @Override
+    public Optional<OrderResponseDto> claimNextPendingOrder(Long employeeId) {
+        return orderServicePort.claimNextPendingOrder(employeeId)
+                .map(this::buildOrderResponse);
+    }
+
     @Override
     public OrderResponseDto markOrderAsReady(MarkOrderReadyRequestDto request, Long employeeId) {
         Order readyOrder = orderServicePort.markOrderAsReady(request.getOrderId(), employeeId);
@@ -111,27 +156,58 @@ public class OrderHandler implements IOrderHandler {
         return traceabilityDtoMapper.toResponseList(orderServicePort.getTraceabilityByOrderId(orderId, clientId));
     }
 
+    @Override
+    public Long getEmployeeRestaurantId(Long employeeId) {
+        return orderServicePort.getEmployeeRestaurantId(employeeId);
+    }
+
     private OrderResponseDto buildOrderResponse(Order order) {
-        OrderResponseDto response = orderDtoMapper.toOrderResponseDto(order);
+        return buildOrderResponses(List.of(order)).getFirst();
+    }
+
+    /**
+     * Maps the orders to responses, resolving the restaurant and dish names of the whole batch
+     * with one lookup per port instead of one per order and item.
+     */
+    private List<OrderResponseDto> buildOrderResponses(List<Order> orders) {
+        Set<Long> restaurantIds = new HashSet<>();
+        Set<Long> dishIds = new HashSet<>();
+        for (Order order : orders) {
+            restaurantIds.add(order.getRestaurantId());
+            order.getItems().forEach(item -> dishIds.add(item.getDishId()));
+        }
 
-        restaurantPersistencePort.findById(order.getRestaurantId())
-                .ifPresent(restaurant -> response.setRestaurantName(restaurant.getName()));
+        Map<Long, Restaurant> restaurantsById = restaurantPersistencePort.findAllByIds(restaurantIds).stream()
+                .collect(Collectors.toMap(Restaurant::getId, Function.identity(), (first, _) -> first));
+        Map<Long, Dish> dishesById = dishPersistencePort.findAllByIds(dishIds).stream()
+                .collect(Collectors.toMap(Dish::getId, Function.identity(), (first, _) -> first));
 
-        List<OrderItemResponseDto> itemResponses = new ArrayList<>();
-        for (OrderItem item : order.getItems()) {
-            OrderItemResponseDto itemResponse = orderDtoMapper.toOrderItemResponseDto(item);
+        List<OrderResponseDto> responses = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            OrderResponseDto response = orderDtoMapper.toOrderResponseDto(order);
 
-            dishPersistencePort.findById(item.getDishId())
-                    .ifPresent(dish -> {
-                        itemResponse.setDishName(dish.getName());
-                        itemResponse.setDishPrice(dish.getPrice());
-                    });
+            Restaurant restaurant = restaurantsById.get(order.getRestaurantId());
+            if (restaurant != null) {
+                response.setRestaurantName(restaurant.getName());
+            }
 
-            itemResponses.add(itemResponse);
-        }
+            List<OrderItemResponseDto> itemResponses = new ArrayList<>();
+            for (OrderItem item : order.getItems()) {
+                OrderItemResponseDto itemResponse = orderDtoMapper.toOrderItemResponseDto(item);
 
-        response.setItems(itemResponses);
+                Dish dish = dishesById.get(item.getDishId());
+                if (dish != null) {
+                    itemResponse.setDishName(dish.getName());
+                    itemResponse.setDishPrice(dish.getPrice());
+                }
+
+                itemResponses.add(itemResponse);
+            }
+
+            response.setItems(itemResponses);
+            responses.add(response);
+        }
 
-        return response;
+        return responses;
     }
 }
@@ -40,8 +40,19 @@ public class RestaurantHandler implements IRestaurantHandler {
     @Override
     @Transactional(readOnly = true)
     public PagedResponse<RestaurantListItemResponse> getAllRestaurants(int page, int size) {
-        PagedResult<Restaurant> pagedResult = restaurantServicePort.getAllRestaurants(page, size);
-        
+        return toPagedResponse(restaurantServicePort.getAllRestaurants(page, size));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponse<RestaurantListItemResponse> getAllRestaurants(int page, int size, boolean countTotal) {
+        if (countTotal) {
+            return getAllRestaurants(page, size);
+        }
+        return toPagedResponse(restaurantServicePort.getAllRestaurantsSlice(page, size));
+    }
+
+    private PagedResponse<RestaurantListItemResponse> toPagedResponse(PagedResult<Restaurant> pagedResult) {
         List<RestaurantListItemResponse> restaurantList = pagedResult.getContent().stream()
                 .map(restaurantResponseMapper::toListItemResponse)
                 .toList();
@@ -54,6 +65,7 @@ public class RestaurantHandler implements IRestaurantHandler {
                 .totalPages(pagedResult.getTotalPages())
                 .first(pagedResult.isFirst())
                 .last(pagedResult.isLast())
+                .hasNext(pagedResult.isHasNext())
                 .build();
     }
 }
@@ -12,4 +12,6 @@ public interface IDishServicePort {
     Dish changeDishActiveStatus(Long dishId, Boolean active, Long ownerId);
 
     PagedResult<Dish> getDishesByRestaurant(Long restaurantId, String category, int page, int size);
+
+    PagedResult<Dish> getDishesByRestaurantSlice(Long restaurantId, String category, int page, int size);
 }
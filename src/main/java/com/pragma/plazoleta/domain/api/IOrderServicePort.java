@@ -1,11 +1,14 @@
 package com.pragma.plazoleta.domain.api;
 
+import com.pragma.plazoleta.domain.model.CursorResult;
 import com.pragma.plazoleta.domain.model.Order;
+import com.pragma.plazoleta.domain.model.OrderCursor;
 import com.pragma.plazoleta.domain.model.OrderStatus;
 import com.pragma.plazoleta.domain.model.PagedResult;
 
 import com.pragma.plazoleta.domain.model.Traceability;
 import java.util.List;
+import java.util.Optional;
 
 public interface IOrderServicePort {
 
@@ -13,8 +16,19 @@ public interface IOrderServicePort {
 
     PagedResult<Order> getOrdersByRestaurantAndStatus(Long employeeId, OrderStatus status, int page, int size);
 
+    PagedResult<Order> getOrdersByRestaurantAndStatusSlice(Long employeeId, OrderStatus status, int page, int size);
+
+    CursorResult<Order> getOrderQueue(Long employeeId, OrderStatus status, OrderCursor after, int size);
+
     Order assignOrderToEmployee(Long orderId, Long employeeId);
 
+    /**
+     * Assigns the oldest PENDING order of the employee's restaurant to the employee.
+     *
+     * @return the order now IN_PREPARATION, or empty when no order is waiting
+     */
+    Optional<Order> claimNextPendingOrder(Long employeeId);
+
     Order markOrderAsReady(Long orderId, Long employeeId);
 
     Order markOrderAsDelivered(Long orderId, Long employeeId, String securityPin);
@@ -22,4 +36,6 @@ public interface IOrderServicePort {
     Order cancelOrder(Long orderId, Long clientId);
 
     List<Traceability> getTraceabilityByOrderId(Long orderId, Long clientId);
+
+    Long getEmployeeRestaurantId(Long employeeId);
 }
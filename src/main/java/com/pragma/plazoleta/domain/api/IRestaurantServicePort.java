@@ -8,4 +8,6 @@ public interface IRestaurantServicePort {
     Restaurant createRestaurant(Restaurant restaurant);
 
     PagedResult<Restaurant> getAllRestaurants(int page, int size);
+
+    PagedResult<Restaurant> getAllRestaurantsSlice(int page, int size);
 }
@@ -0,0 +1,8 @@
+package com.pragma.plazoleta.domain.exception;
+
+public class LookupDeadlineExceededException extends RuntimeException {
+
+    public LookupDeadlineExceededException(long deadlineMillis) {
+        super(String.format("Lookups did not complete within %d ms", deadlineMillis));
+    }
+}
@@ -0,0 +1,23 @@
+package com.pragma.plazoleta.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Notice that a dish or restaurant was written, so other instances can drop what they cached
+ * about it. Carries identifiers only; readers load the new state themselves.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeEvent {
+
+    private ChangeEventType type;
+    private Long entityId;
+    private Long restaurantId;
+}
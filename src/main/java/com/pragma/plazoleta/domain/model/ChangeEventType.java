@@ -0,0 +1,6 @@
+package com.pragma.plazoleta.domain.model;
+
+public enum ChangeEventType {
+    DISH,
+    RESTAURANT
+}
@@ -0,0 +1,29 @@
+package com.pragma.plazoleta.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorResult<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private OrderCursor nextCursor;
+
+    public static <T> CursorResult<T> of(List<T> content, int size, OrderCursor nextCursor) {
+        CursorResult<T> result = new CursorResult<>();
+        result.setContent(content);
+        result.setSize(size);
+        result.setHasNext(nextCursor != null);
+        result.setNextCursor(nextCursor);
+        return result;
+    }
+}
@@ -0,0 +1,21 @@
+package com.pragma.plazoleta.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Position in the order queue, given by the creation time and id of the last order seen.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderCursor {
+
+    private LocalDateTime createdAt;
+    private Long id;
+}
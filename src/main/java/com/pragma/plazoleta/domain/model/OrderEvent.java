@@ -0,0 +1,28 @@
+package com.pragma.plazoleta.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Status change of an order, published to the employees of its restaurant. A null previous status
+ * means the order was just created.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderEvent {
+
+    private Long orderId;
+    private Long restaurantId;
+    private Long employeeId;
+    private OrderStatus previousStatus;
+    private OrderStatus status;
+    private LocalDateTime occurredAt;
+}
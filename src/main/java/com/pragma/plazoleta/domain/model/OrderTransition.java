@@ -0,0 +1,33 @@
+package com.pragma.plazoleta.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Conditional status change of an order. It only applies while the order is still in
+ * {@code fromStatus} and matches every guard that is set: restaurant, client and security PIN.
+ * The employee and PIN, when set, are written together with the new status.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderTransition {
+
+    private Long orderId;
+    private OrderStatus fromStatus;
+    private OrderStatus toStatus;
+    private Long restaurantId;
+    private Long clientId;
+    private boolean securityPinChecked;
+    private String expectedSecurityPin;
+    private Long employeeId;
+    private String securityPin;
+    private LocalDateTime updatedAt;
+}
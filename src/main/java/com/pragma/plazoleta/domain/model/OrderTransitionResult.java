@@ -0,0 +1,33 @@
+package com.pragma.plazoleta.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Outcome of an {@link OrderTransition}. When applied, the order is the updated one with its
+ * items. When rejected, it is the current state of the order without items, or null when the
+ * order does not exist.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderTransitionResult {
+
+    private boolean applied;
+    private Order order;
+
+    public static OrderTransitionResult applied(Order order) {
+        return new OrderTransitionResult(true, order);
+    }
+
+    public static OrderTransitionResult rejected(Order currentOrder) {
+        return new OrderTransitionResult(false, currentOrder);
+    }
+
+    public static OrderTransitionResult notFound() {
+        return new OrderTransitionResult(false, null);
+    }
+}
@@ -20,6 +20,7 @@ public class PagedResult<T> {
     private int totalPages;
     private boolean first;
     private boolean last;
+    private boolean hasNext;
 
     public static <T> PagedResult<T> of(List<T> content, int page, int size, 
                                          long totalElements, int totalPages) {
@@ -31,6 +32,24 @@ public class PagedResult<T> {
         result.setTotalPages(totalPages);
         result.setFirst(page == 0);
         result.setLast(page >= totalPages - 1);
+        result.setHasNext(!result.isLast());
+        return result;
+    }
+
+    /**
+     * Builds a page whose total is unknown because no count query was run. Totals are reported
+     * as -1 and {@code hasNext} comes from reading one row past the page.
+     */
+    public static <T> PagedResult<T> sliceOf(List<T> content, int page, int size, boolean hasNext) {
+        PagedResult<T> result = new PagedResult<>();
+        result.setContent(content);
+        result.setPage(page);
+        result.setSize(size);
+        result.setTotalElements(-1);
+        result.setTotalPages(-1);
+        result.setFirst(page == 0);
+        result.setLast(!hasNext);
+        result.setHasNext(hasNext);
         return result;
     }
 }
@@ -0,0 +1,12 @@
+package com.pragma.plazoleta.domain.spi;
+
+import com.pragma.plazoleta.domain.model.ChangeEvent;
+
+public interface IChangeEventPort {
+
+    /**
+     * Announces the change to the other instances once the surrounding transaction commits.
+     * Delivery is best effort and must not block the caller.
+     */
+    void publish(ChangeEvent event);
+}
@@ -3,6 +3,8 @@ package com.pragma.plazoleta.domain.spi;
 import com.pragma.plazoleta.domain.model.Dish;
 import com.pragma.plazoleta.domain.model.PagedResult;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface IDishPersistencePort {
@@ -11,7 +13,19 @@ public interface IDishPersistencePort {
 
     Optional<Dish> findById(Long id);
 
+    List<Dish> findAllByIds(Collection<Long> ids);
+
+    /**
+     * Reads the dishes from storage, bypassing any cache, for checks whose result must reflect
+     * the latest committed price and active status.
+     */
+    List<Dish> findCurrentByIds(Collection<Long> ids);
+
     PagedResult<Dish> findActiveDishesByRestaurantId(Long restaurantId, int page, int size);
 
     PagedResult<Dish> findActiveDishesByRestaurantIdAndCategory(Long restaurantId, String category, int page, int size);
+
+    PagedResult<Dish> findActiveDishesByRestaurantIdSlice(Long restaurantId, int page, int size);
+
+    PagedResult<Dish> findActiveDishesByRestaurantIdAndCategorySlice(Long restaurantId, String category, int page, int size);
 }
@@ -0,0 +1,33 @@
+package com.pragma.plazoleta.domain.spi;
+
+import java.util.function.Supplier;
+
+public interface ILookupScopePort {
+
+    /**
+     * Opens a scope for independent lookups that run concurrently, so waiting for several remote
+     * hops takes as long as the slowest one instead of their sum.
+     */
+    Scope open();
+
+    interface Scope extends AutoCloseable {
+
+        /**
+         * Starts the lookup. The returned supplier gives its result once {@link #join()} returned.
+         */
+        <T> Supplier<T> fork(Supplier<T> lookup);
+
+        /**
+         * Waits for every forked lookup within the scope's deadline. When one fails, the others are
+         * cancelled and its exception is rethrown; when the deadline passes, all of them are
+         * cancelled.
+         */
+        void join();
+
+        /**
+         * Cancels whatever is still running.
+         */
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,11 @@
+package com.pragma.plazoleta.domain.spi;
+
+import com.pragma.plazoleta.domain.model.OrderEvent;
+
+public interface IOrderEventPort {
+
+    /**
+     * Publishes the event once the surrounding transaction commits. Must not block on subscribers.
+     */
+    void publish(OrderEvent event);
+}
@@ -1,7 +1,11 @@
 package com.pragma.plazoleta.domain.spi;
 
+import com.pragma.plazoleta.domain.model.CursorResult;
 import com.pragma.plazoleta.domain.model.Order;
+import com.pragma.plazoleta.domain.model.OrderCursor;
 import com.pragma.plazoleta.domain.model.OrderStatus;
+import com.pragma.plazoleta.domain.model.OrderTransition;
+import com.pragma.plazoleta.domain.model.OrderTransitionResult;
 import com.pragma.plazoleta.domain.model.PagedResult;
 
 import java.util.Optional;
@@ -14,5 +18,33 @@ public interface IOrderPersistencePort {
 
     PagedResult<Order> findByRestaurantIdAndStatusPaginated(Long restaurantId, OrderStatus status, int page, int size);
 
+    PagedResult<Order> findByRestaurantIdAndStatusSlice(Long restaurantId, OrderStatus status, int page, int size);
+
+    /**
+     * Returns the orders that come after the cursor in (createdAt, id) order, or the head of the
+     * queue when the cursor is null.
+     */
+    CursorResult<Order> findByRestaurantIdAndStatusAfter(Long restaurantId, OrderStatus status, OrderCursor after, int size);
+
     Optional<Order> findById(Long orderId);
+
+    /**
+     * Reads the order without its items, for checks that only need its status, restaurant,
+     * client or PIN.
+     */
+    Optional<Order> findHeaderById(Long orderId);
+
+    /**
+     * Applies the transition with a single conditional update. Items are only read when the
+     * update applied; a rejected transition reports the current order without them.
+     */
+    OrderTransitionResult transitionStatus(OrderTransition transition);
+
+    /**
+     * Locks the oldest order of the transition's restaurant in its {@code fromStatus}, skipping
+     * orders locked by concurrent claimers, and applies the transition to it.
+     *
+     * @return the claimed order with its items, or empty when no unlocked order is left
+     */
+    Optional<Order> claimNextOrder(OrderTransition transition);
 }
@@ -3,6 +3,8 @@ package com.pragma.plazoleta.domain.spi;
 import com.pragma.plazoleta.domain.model.PagedResult;
 import com.pragma.plazoleta.domain.model.Restaurant;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface IRestaurantPersistencePort {
@@ -13,5 +15,9 @@ public interface IRestaurantPersistencePort {
 
     Optional<Restaurant> findById(Long id);
 
+    List<Restaurant> findAllByIds(Collection<Long> ids);
+
     PagedResult<Restaurant> findAllOrderedByNamePaginated(int page, int size);
+
+    PagedResult<Restaurant> findAllOrderedByNameSlice(int page, int size);
 }
@@ -0,0 +1,12 @@
+package com.pragma.plazoleta.domain.spi;
+
+import java.util.function.Supplier;
+
+public interface ITransactionPort {
+
+    /**
+     * Runs the work in one database transaction, joining the surrounding one if there is any.
+     * Remote calls must stay outside the work so the connection is only held for the SQL.
+     */
+    <T> T inTransaction(Supplier<T> work);
+}
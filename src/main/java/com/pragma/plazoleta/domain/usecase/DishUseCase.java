@@ -6,9 +6,12 @@ import com.pragma.plazoleta.domain.exception.InvalidActiveStatusException;
 import com.pragma.plazoleta.domain.exception.InvalidPriceException;
 import com.pragma.plazoleta.domain.exception.RestaurantNotFoundException;
 import com.pragma.plazoleta.domain.exception.UserNotRestaurantOwnerException;
+import com.pragma.plazoleta.domain.model.ChangeEvent;
+import com.pragma.plazoleta.domain.model.ChangeEventType;
 import com.pragma.plazoleta.domain.model.Dish;
 import com.pragma.plazoleta.domain.model.PagedResult;
 import com.pragma.plazoleta.domain.model.Restaurant;
+import com.pragma.plazoleta.domain.spi.IChangeEventPort;
 import com.pragma.plazoleta.domain.spi.IDishPersistencePort;
 import com.pragma.plazoleta.domain.spi.IRestaurantPersistencePort;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +21,7 @@ public class DishUseCase implements IDishServicePort {
 
     private final IDishPersistencePort dishPersistencePort;
     private final IRestaurantPersistencePort restaurantPersistencePort;
+    private final IChangeEventPort changeEventPort;
 
     @Override
     public Dish createDish(Dish dish, Long ownerId) {
@@ -25,7 +29,7 @@ public class DishUseCase implements IDishServicePort {
         validateRestaurantOwnership(dish.getRestaurantId(), ownerId);
         
         dish.setActive(true);
-        return dishPersistencePort.saveDish(dish);
+        return saveAndPublish(dish);
     }
 
     @Override
@@ -36,7 +40,7 @@ public class DishUseCase implements IDishServicePort {
         dish.setPrice(price);
         dish.setDescription(description);
 
-        return dishPersistencePort.saveDish(dish);
+        return saveAndPublish(dish);
     }
 
     @Override
@@ -48,7 +52,17 @@ public class DishUseCase implements IDishServicePort {
         Dish dish = findAndValidateDishOwnership(dishId, ownerId);
         dish.setActive(active);
 
-        return dishPersistencePort.saveDish(dish);
+        return saveAndPublish(dish);
+    }
+
+    private Dish saveAndPublish(Dish dish) {
+        Dish saved = dishPersistencePort.saveDish(dish);
+        changeEventPort.publish(ChangeEvent.builder()
+                .type(ChangeEventType.DISH)
+                .entityId(saved.getId())
+                .restaurantId(saved.getRestaurantId())
+                .build());
+        return saved;
     }
 
     private Dish findAndValidateDishOwnership(Long dishId, Long ownerId) {
@@ -69,15 +83,31 @@ public class DishUseCase implements IDishServicePort {
 
     @Override
     public PagedResult<Dish> getDishesByRestaurant(Long restaurantId, String category, int page, int size) {
+        return findActiveDishes(restaurantId, category, page, size, true);
+    }
+
+    @Override
+    public PagedResult<Dish> getDishesByRestaurantSlice(Long restaurantId, String category, int page, int size) {
+        return findActiveDishes(restaurantId, category, page, size, false);
+    }
+
+    private PagedResult<Dish> findActiveDishes(Long restaurantId, String category, int page, int size,
+                                               boolean countTotal) {
         restaurantPersistencePort.findById(restaurantId)
                 .orElseThrow(() -> new RestaurantNotFoundException(restaurantId));
 
         if (category != null && !category.isBlank()) {
-            return dishPersistencePort.findActiveDishesByRestaurantIdAndCategory(
-                    restaurantId, category.trim(), page, size);
+            String trimmedCategory = category.trim();
+            return countTotal
+                    ? dishPersistencePort.findActiveDishesByRestaurantIdAndCategory(
+                            restaurantId, trimmedCategory, page, size)
+                    : dishPersistencePort.findActiveDishesByRestaurantIdAndCategorySlice(
+                            restaurantId, trimmedCategory, page, size);
         }
-        
-        return dishPersistencePort.findActiveDishesByRestaurantId(restaurantId, page, size);
+
+        return countTotal
+                ? dishPersistencePort.findActiveDishesByRestaurantId(restaurantId, page, size)
+                : dishPersistencePort.findActiveDishesByRestaurantIdSlice(restaurantId, page, size);
     }
 
     private void validatePrice(Integer price) {
@@ -7,13 +7,21 @@ import com.pragma.plazoleta.domain.spi.*;
 
 import java.security.SecureRandom;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 public class OrderUseCase implements IOrderServicePort {
 
     private static final int PIN_LENGTH = 6;
-    private static final String PIN_CHARACTERS = "0123456789";
+    private static final int PIN_BOUND = 1_000_000;
     private static final SecureRandom SECURE_RANDOM = new SecureRandom();
 
     private final IOrderPersistencePort orderPersistencePort;
@@ -23,6 +31,9 @@ public class OrderUseCase implements IOrderServicePort {
     private final IClientInfoPort clientInfoPort;
     private final INotificationPort notificationPort;
     private final ITraceabilityPort traceabilityPort;
+    private final IOrderEventPort orderEventPort;
+    private final ITransactionPort transactionPort;
+    private final ILookupScopePort lookupScopePort;
 
     public OrderUseCase(IOrderPersistencePort orderPersistencePort,
             IRestaurantPersistencePort restaurantPersistencePort,
@@ -30,7 +41,10 @@ public class OrderUseCase implements IOrderServicePort {
             IEmployeeRestaurantPort employeeRestaurantPort,
             IClientInfoPort clientInfoPort,
             INotificationPort notificationPort,
-            ITraceabilityPort traceabilityPort) {
+            ITraceabilityPort traceabilityPort,
+            IOrderEventPort orderEventPort,
+            ITransactionPort transactionPort,
+            ILookupScopePort lookupScopePort) {
         this.orderPersistencePort = orderPersistencePort;
         this.restaurantPersistencePort = restaurantPersistencePort;
         this.dishPersistencePort = dishPersistencePort;
@@ -38,26 +52,34 @@ public class OrderUseCase implements IOrderServicePort {
         this.clientInfoPort = clientInfoPort;
         this.notificationPort = notificationPort;
         this.traceabilityPort = traceabilityPort;
+        this.orderEventPort = orderEventPort;
+        this.transactionPort = transactionPort;
+        this.lookupScopePort = lookupScopePort;
     }
 
     @Override
     public Order createOrder(Order order) {
-        validateOrderCreationRequirements(order.getItems(), order.getRestaurantId(), order.getClientId());
+        Map<Long, Dish> dishesById = validateOrderCreationRequirements(
+                order.getItems(), order.getRestaurantId(), order.getClientId());
+        TraceabilityContacts contacts = new TraceabilityContacts(findClientEmail(order.getClientId()), null);
 
         order.setStatus(OrderStatus.PENDING);
         order.setCreatedAt(LocalDateTime.now());
         order.setUpdatedAt(LocalDateTime.now());
 
-        Order savedOrder = orderPersistencePort.saveOrder(order);
-        saveTraceability(savedOrder, null, OrderStatus.PENDING, null);
-        return savedOrder;
+        return transactionPort.inTransaction(() -> {
+            Order savedOrder = orderPersistencePort.saveOrder(order);
+            saveTraceability(savedOrder, null, OrderStatus.PENDING, null, contacts, dishesById);
+            publishOrderEvent(savedOrder, null);
+            return savedOrder;
+        });
     }
 
-    private void validateOrderCreationRequirements(List<OrderItem> items, Long restaurantId, Long clientId) {
+    private Map<Long, Dish> validateOrderCreationRequirements(List<OrderItem> items, Long restaurantId, Long clientId) {
         validateOrderNotEmpty(items);
         validateRestaurantExists(restaurantId);
         validateClientHasNoActiveOrder(clientId);
-        validateOrderItems(items, restaurantId);
+        return validateOrderItems(items, restaurantId);
     }
 
     @Override
@@ -67,86 +89,199 @@ public class OrderUseCase implements IOrderServicePort {
     }
 
     @Override
-    public Order assignOrderToEmployee(Long orderId, Long employeeId) {
+    public PagedResult<Order> getOrdersByRestaurantAndStatusSlice(Long employeeId, OrderStatus status, int page, int size) {
         Long restaurantId = getEmployeeRestaurantId(employeeId);
-        Order order = orderPersistencePort.findById(orderId)
-                .orElseThrow(() -> new OrderNotFoundException(orderId));
+        return orderPersistencePort.findByRestaurantIdAndStatusSlice(restaurantId, status, page, size);
+    }
 
-        validateOrderBelongsToRestaurant(order, restaurantId);
-        validateOrderIsPending(order);
+    @Override
+    public CursorResult<Order> getOrderQueue(Long employeeId, OrderStatus status, OrderCursor after, int size) {
+        Long restaurantId = getEmployeeRestaurantId(employeeId);
+        return orderPersistencePort.findByRestaurantIdAndStatusAfter(restaurantId, status, after, size);
+    }
 
-        order.setEmployeeId(employeeId);
-        order.setStatus(OrderStatus.IN_PREPARATION);
-        order.setUpdatedAt(LocalDateTime.now());
+    @Override
+    public Order assignOrderToEmployee(Long orderId, Long employeeId) {
+        Long restaurantId = getEmployeeRestaurantId(employeeId);
+        Consumer<Order> validations = order -> {
+            validateOrderBelongsToRestaurant(order, restaurantId);
+            validateOrderIsPending(order);
+        };
+        TraceabilityContacts contacts = resolveTraceabilityContacts(findValidatedOrder(orderId, validations), employeeId);
+
+        OrderTransition transition = OrderTransition.builder()
+                .orderId(orderId)
+                .fromStatus(OrderStatus.PENDING)
+                .toStatus(OrderStatus.IN_PREPARATION)
+                .restaurantId(restaurantId)
+                .employeeId(employeeId)
+                .updatedAt(LocalDateTime.now())
+                .build();
+        return transactionPort.inTransaction(() -> {
+            Order savedOrder = applyTransition(transition, validations);
+            saveTraceability(savedOrder, OrderStatus.PENDING, OrderStatus.IN_PREPARATION, employeeId, contacts,
+                    findDishesById(savedOrder.getItems()));
+            publishOrderEvent(savedOrder, OrderStatus.PENDING);
+            return savedOrder;
+        });
+    }
 
-        Order savedOrder = orderPersistencePort.saveOrder(order);
-        saveTraceability(savedOrder, OrderStatus.PENDING, OrderStatus.IN_PREPARATION, employeeId);
-        return savedOrder;
+    @Override
+    public Optional<Order> claimNextPendingOrder(Long employeeId) {
+        Long restaurantId = getEmployeeRestaurantId(employeeId);
+        String employeeEmail = findEmployeeEmail(employeeId);
+
+        OrderTransition transition = OrderTransition.builder()
+                .fromStatus(OrderStatus.PENDING)
+                .toStatus(OrderStatus.IN_PREPARATION)
+                .restaurantId(restaurantId)
+                .employeeId(employeeId)
+                .updatedAt(LocalDateTime.now())
+                .build();
+        return transactionPort.inTransaction(() -> {
+            Optional<Order> claimedOrder = orderPersistencePort.claimNextOrder(transition);
+            claimedOrder.ifPresent(order -> {
+                // The claimed order is only known once its row is locked. Its client email is left
+                // for the traceability relay to resolve, so no remote call runs while the lock is held
+                TraceabilityContacts contacts = new TraceabilityContacts(null, employeeEmail);
+                saveTraceability(order, OrderStatus.PENDING, OrderStatus.IN_PREPARATION, employeeId, contacts,
+                        findDishesById(order.getItems()));
+                publishOrderEvent(order, OrderStatus.PENDING);
+            });
+            return claimedOrder;
+        });
     }
 
     @Override
     public Order markOrderAsReady(Long orderId, Long employeeId) {
         Long restaurantId = getEmployeeRestaurantId(employeeId);
-        Order order = orderPersistencePort.findById(orderId)
-                .orElseThrow(() -> new OrderNotFoundException(orderId));
-
-        validateOrderBelongsToRestaurant(order, restaurantId);
-        validateOrderIsInPreparation(order);
-
-        String securityPin = generateSecurityPin();
-        order.setSecurityPin(securityPin);
-        order.setStatus(OrderStatus.READY);
-        order.setUpdatedAt(LocalDateTime.now());
-
-        Order savedOrder = orderPersistencePort.saveOrder(order);
-
-        saveTraceability(savedOrder, OrderStatus.IN_PREPARATION, OrderStatus.READY, employeeId);
-        sendOrderReadyNotification(savedOrder);
+        Consumer<Order> validations = order -> {
+            validateOrderBelongsToRestaurant(order, restaurantId);
+            validateOrderIsInPreparation(order);
+        };
+        Order currentOrder = findValidatedOrder(orderId, validations);
+        TraceabilityContacts contacts;
+        ReadyNotification notification;
+        try (ILookupScopePort.Scope scope = lookupScopePort.open()) {
+            Supplier<TraceabilityContacts> contactsLookup = forkTraceabilityContacts(scope, currentOrder, employeeId);
+            Supplier<ReadyNotification> notificationLookup = forkReadyNotification(scope, currentOrder);
+            scope.join();
+            contacts = contactsLookup.get();
+            notification = notificationLookup.get();
+        }
 
-        return savedOrder;
+        OrderTransition transition = OrderTransition.builder()
+                .orderId(orderId)
+                .fromStatus(OrderStatus.IN_PREPARATION)
+                .toStatus(OrderStatus.READY)
+                .restaurantId(restaurantId)
+                .securityPin(generateSecurityPin())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        return transactionPort.inTransaction(() -> {
+            Order savedOrder = applyTransition(transition, validations);
+            saveTraceability(savedOrder, OrderStatus.IN_PREPARATION, OrderStatus.READY, employeeId, contacts,
+                    findDishesById(savedOrder.getItems()));
+            publishOrderEvent(savedOrder, OrderStatus.IN_PREPARATION);
+            notificationPort.sendOrderReadyNotification(
+                    notification.phoneNumber(),
+                    savedOrder.getId().toString(),
+                    savedOrder.getSecurityPin(),
+                    notification.restaurantName());
+            return savedOrder;
+        });
     }
 
     @Override
     public Order markOrderAsDelivered(Long orderId, Long employeeId, String securityPin) {
         Long restaurantId = getEmployeeRestaurantId(employeeId);
-        Order order = orderPersistencePort.findById(orderId)
-                .orElseThrow(() -> new OrderNotFoundException(orderId));
-
-        validateOrderBelongsToRestaurant(order, restaurantId);
-        validateOrderIsReady(order);
-        validateSecurityPin(order, securityPin);
-
-        order.setStatus(OrderStatus.DELIVERED);
-        order.setUpdatedAt(LocalDateTime.now());
-
-        Order savedOrder = orderPersistencePort.saveOrder(order);
-        saveTraceability(savedOrder, OrderStatus.READY, OrderStatus.DELIVERED, employeeId);
-        return savedOrder;
+        Consumer<Order> validations = order -> {
+            validateOrderBelongsToRestaurant(order, restaurantId);
+            validateOrderIsReady(order);
+            validateSecurityPin(order, securityPin);
+        };
+        TraceabilityContacts contacts = resolveTraceabilityContacts(findValidatedOrder(orderId, validations), employeeId);
+
+        OrderTransition transition = OrderTransition.builder()
+                .orderId(orderId)
+                .fromStatus(OrderStatus.READY)
+                .toStatus(OrderStatus.DELIVERED)
+                .restaurantId(restaurantId)
+                .securityPinChecked(true)
+                .expectedSecurityPin(securityPin)
+                .updatedAt(LocalDateTime.now())
+                .build();
+        return transactionPort.inTransaction(() -> {
+            Order savedOrder = applyTransition(transition, validations);
+            saveTraceability(savedOrder, OrderStatus.READY, OrderStatus.DELIVERED, employeeId, contacts,
+                    findDishesById(savedOrder.getItems()));
+            publishOrderEvent(savedOrder, OrderStatus.READY);
+            return savedOrder;
+        });
     }
 
     @Override
     public Order cancelOrder(Long orderId, Long clientId) {
-        Order order = orderPersistencePort.findById(orderId)
+        String clientEmail = findClientEmail(clientId);
+
+        OrderTransition transition = OrderTransition.builder()
+                .orderId(orderId)
+                .fromStatus(OrderStatus.PENDING)
+                .toStatus(OrderStatus.CANCELLED)
+                .clientId(clientId)
+                .updatedAt(LocalDateTime.now())
+                .build();
+        return transactionPort.inTransaction(() -> {
+            Order savedOrder = applyTransition(transition, order -> {
+                if (!order.getClientId().equals(clientId)) {
+                    throw new UserNotOwnerException("User is not the owner of the order");
+                }
+                if (order.getStatus() != OrderStatus.PENDING) {
+                    throw new OrderNotCancellableException("Sorry, your order is already in preparation and cannot be canceled");
+                }
+            });
+            saveTraceability(savedOrder, OrderStatus.PENDING, OrderStatus.CANCELLED, null,
+                    new TraceabilityContacts(clientEmail, null), findDishesById(savedOrder.getItems()));
+            publishOrderEvent(savedOrder, OrderStatus.PENDING);
+            return savedOrder;
+        });
+    }
+
+    /**
+     * Reads the order header before the transaction and runs the validations against it, so an
+     * order that cannot make the transition is rejected without looking anything up remotely.
+     * The client never changes, so what is resolved from this read still holds when the
+     * conditional update applies. Items are not read here; the dishes come from the items of the
+     * updated order.
+     */
+    private Order findValidatedOrder(Long orderId, Consumer<Order> validations) {
+        Order order = orderPersistencePort.findHeaderById(orderId)
                 .orElseThrow(() -> new OrderNotFoundException(orderId));
+        validations.accept(order);
+        return order;
+    }
 
-        if (!order.getClientId().equals(clientId)) {
-            throw new UserNotOwnerException("User is not the owner of the order");
+    /**
+     * Runs the transition as one conditional update. When it does not apply, the validations run
+     * against the current order to raise the same error a read-check-write flow would.
+     */
+    private Order applyTransition(OrderTransition transition, Consumer<Order> rejectionValidations) {
+        OrderTransitionResult result = orderPersistencePort.transitionStatus(transition);
+        if (result.isApplied()) {
+            return result.getOrder();
         }
 
-        if (order.getStatus() != OrderStatus.PENDING) {
-            throw new OrderNotCancellableException("Sorry, your order is already in preparation and cannot be canceled");
+        Order currentOrder = result.getOrder();
+        if (currentOrder == null) {
+            throw new OrderNotFoundException(transition.getOrderId());
         }
-
-        order.setStatus(OrderStatus.CANCELLED);
-        order.setUpdatedAt(LocalDateTime.now());
-        Order savedOrder = orderPersistencePort.saveOrder(order);
-        saveTraceability(savedOrder, OrderStatus.PENDING, OrderStatus.CANCELLED, null);
-        return savedOrder;
+        rejectionValidations.accept(currentOrder);
+        throw new InvalidOrderStatusException(currentOrder.getId(), String.valueOf(currentOrder.getStatus()));
     }
 
     @Override
     public List<Traceability> getTraceabilityByOrderId(Long orderId, Long clientId) {
-        Order order = orderPersistencePort.findById(orderId)
+        Order order = orderPersistencePort.findHeaderById(orderId)
                 .orElseThrow(() -> new OrderNotFoundException(orderId));
 
         if (!order.getClientId().equals(clientId)) {
@@ -156,34 +291,77 @@ public class OrderUseCase implements IOrderServicePort {
         return traceabilityPort.getTraceabilityByOrderId(orderId);
     }
 
-    private void saveTraceability(Order order, OrderStatus previousStatus, OrderStatus newStatus, Long employeeId) {
+    @Override
+    public Long getEmployeeRestaurantId(Long employeeId) {
+        return employeeRestaurantPort.getRestaurantIdByEmployeeId(employeeId)
+                .orElseThrow(() -> new EmployeeNotAssociatedWithRestaurantException(employeeId));
+    }
+
+    private void publishOrderEvent(Order order, OrderStatus previousStatus) {
+        orderEventPort.publish(OrderEvent.builder()
+                .orderId(order.getId())
+                .restaurantId(order.getRestaurantId())
+                .employeeId(order.getEmployeeId())
+                .previousStatus(previousStatus)
+                .status(order.getStatus())
+                .occurredAt(order.getUpdatedAt() != null ? order.getUpdatedAt() : LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * Looks up the client and employee emails the traceability record needs. The lookups run
+     * concurrently, so they take as long as the slowest one.
+     */
+    private TraceabilityContacts resolveTraceabilityContacts(Order order, Long employeeId) {
+        try (ILookupScopePort.Scope scope = lookupScopePort.open()) {
+            Supplier<TraceabilityContacts> contacts = forkTraceabilityContacts(scope, order, employeeId);
+            scope.join();
+            return contacts.get();
+        }
+    }
+
+    private Supplier<TraceabilityContacts> forkTraceabilityContacts(ILookupScopePort.Scope scope, Order order,
+                                                                    Long employeeId) {
+        Supplier<String> clientEmail = scope.fork(() -> findClientEmail(order.getClientId()));
+        Supplier<String> employeeEmail = scope.fork(() -> findEmployeeEmail(employeeId));
+        return () -> new TraceabilityContacts(clientEmail.get(), employeeEmail.get());
+    }
+
+    private String findClientEmail(Long clientId) {
+        return clientInfoPort.getClientEmailById(clientId).orElse(null);
+    }
+
+    private String findEmployeeEmail(Long employeeId) {
+        return employeeRestaurantPort.getEmployeeEmailById(employeeId).orElse(null);
+    }
+
+    private void saveTraceability(Order order, OrderStatus previousStatus, OrderStatus newStatus, Long employeeId,
+                                  TraceabilityContacts contacts, Map<Long, Dish> dishesById) {
         Traceability traceability = new Traceability();
         traceability.setOrderId(order.getId());
         traceability.setClientId(order.getClientId());
-        traceability.setClientEmail(clientInfoPort.getClientEmailById(order.getClientId()).orElse(null));
+        traceability.setClientEmail(contacts.clientEmail());
         traceability.setPreviousStatus(previousStatus != null ? previousStatus.name() : null);
         traceability.setNewStatus(newStatus.name());
         traceability.setEmployeeId(employeeId);
         traceability.setRestaurantId(order.getRestaurantId());
-        if (employeeId != null) {
-            traceability.setEmployeeEmail(employeeRestaurantPort.getEmployeeEmailById(employeeId).orElse(null));
-        }
-        traceability.setOrderItems(buildTraceabilityItems(order));
+        traceability.setEmployeeEmail(contacts.employeeEmail());
+        traceability.setOrderItems(buildTraceabilityItems(order, dishesById));
         traceability.setTotalOrderAmount(calculateTotalOrderAmount(traceability.getOrderItems()));
         traceabilityPort.saveTraceability(traceability);
     }
 
-    private List<TraceabilityOrderItem> buildTraceabilityItems(Order order) {
+    private List<TraceabilityOrderItem> buildTraceabilityItems(Order order, Map<Long, Dish> dishesById) {
         if (order == null || order.getItems() == null || order.getItems().isEmpty()) {
             return List.of();
         }
         return order.getItems().stream()
-                .map(this::mapToTraceabilityOrderItem)
+                .map(orderItem -> mapToTraceabilityOrderItem(orderItem, dishesById))
                 .filter(Objects::nonNull)
                 .toList();
     }
 
-    private TraceabilityOrderItem mapToTraceabilityOrderItem(OrderItem orderItem) {
+    private TraceabilityOrderItem mapToTraceabilityOrderItem(OrderItem orderItem, Map<Long, Dish> dishesById) {
         if (orderItem == null) {
             return null;
         }
@@ -192,13 +370,14 @@ public class OrderUseCase implements IOrderServicePort {
         traceabilityOrderItem.setDishId(orderItem.getDishId());
         traceabilityOrderItem.setQuantity(orderItem.getQuantity());
 
-        dishPersistencePort.findById(orderItem.getDishId()).ifPresent(dish -> {
+        Dish dish = dishesById.get(orderItem.getDishId());
+        if (dish != null) {
             traceabilityOrderItem.setDishName(dish.getName());
             traceabilityOrderItem.setCategory(dish.getCategory());
             if (dish.getPrice() != null) {
                 traceabilityOrderItem.setUnitPrice(dish.getPrice().longValue());
             }
-        });
+        }
 
         if (traceabilityOrderItem.getUnitPrice() != null && traceabilityOrderItem.getQuantity() != null) {
             traceabilityOrderItem.setLinePrice(traceabilityOrderItem.getUnitPrice() * traceabilityOrderItem.getQuantity());
@@ -220,29 +399,29 @@ public class OrderUseCase implements IOrderServicePort {
         return total;
     }
 
-    private void sendOrderReadyNotification(Order order) {
-        String clientPhone = clientInfoPort.getClientPhoneById(order.getClientId())
-                .orElseThrow(() -> new ClientPhoneNotFoundException(order.getClientId()));
-
-        validatePhoneNumber(clientPhone);
-
-        Restaurant restaurant = restaurantPersistencePort.findById(order.getRestaurantId())
-                .orElseThrow(() -> new RestaurantNotFoundException(order.getRestaurantId()));
-
-        notificationPort.sendOrderReadyNotification(
-                clientPhone,
-                order.getId().toString(),
-                order.getSecurityPin(),
-                restaurant.getName());
+    /**
+     * Resolves and checks the notification target before the transaction, so a client without a
+     * valid phone leaves the order in preparation. A missing phone or restaurant fails the scope
+     * and cancels the lookups still running.
+     */
+    private Supplier<ReadyNotification> forkReadyNotification(ILookupScopePort.Scope scope, Order order) {
+        Supplier<String> clientPhone = scope.fork(() -> {
+            String phoneNumber = clientInfoPort.getClientPhoneById(order.getClientId())
+                    .orElseThrow(() -> new ClientPhoneNotFoundException(order.getClientId()));
+            validatePhoneNumber(phoneNumber);
+            return phoneNumber;
+        });
+        Supplier<Restaurant> restaurant = scope.fork(() -> restaurantPersistencePort.findById(order.getRestaurantId())
+                .orElseThrow(() -> new RestaurantNotFoundException(order.getRestaurantId())));
+        return () -> new ReadyNotification(clientPhone.get(), restaurant.get().getName());
     }
 
+    /**
+     * Draws the whole PIN at once. The shared {@link SecureRandom} locks on every draw, so one
+     * draw per PIN keeps concurrent transitions from queueing on it.
+     */
     private String generateSecurityPin() {
-        StringBuilder pin = new StringBuilder(PIN_LENGTH);
-        for (int i = 0; i < PIN_LENGTH; i++) {
-            int randomIndex = SECURE_RANDOM.nextInt(PIN_CHARACTERS.length());
-            pin.append(PIN_CHARACTERS.charAt(randomIndex));
-        }
-        return pin.toString();
+        return String.format("%0" + PIN_LENGTH + "d", SECURE_RANDOM.nextInt(PIN_BOUND));
     }
 
     private void validateOrderIsInPreparation(Order order) {
@@ -277,11 +456,6 @@ public class OrderUseCase implements IOrderServicePort {
         }
     }
 
-    private Long getEmployeeRestaurantId(Long employeeId) {
-        return employeeRestaurantPort.getRestaurantIdByEmployeeId(employeeId)
-                .orElseThrow(() -> new EmployeeNotAssociatedWithRestaurantException(employeeId));
-    }
-
     private void validateOrderNotEmpty(List<OrderItem> items) {
         if (items == null || items.isEmpty()) {
             throw new EmptyOrderException();
@@ -299,11 +473,43 @@ public class OrderUseCase implements IOrderServicePort {
         }
     }
 
-    private void validateOrderItems(List<OrderItem> items, Long restaurantId) {
+    private Map<Long, Dish> validateOrderItems(List<OrderItem> items, Long restaurantId) {
         for (OrderItem item : items) {
             validateQuantity(item.getQuantity());
-            validateDish(item.getDishId(), restaurantId);
         }
+
+        Map<Long, Dish> dishesById = findCurrentDishesById(items);
+        for (OrderItem item : items) {
+            validateDish(item.getDishId(), dishesById.get(item.getDishId()), restaurantId);
+        }
+        return dishesById;
+    }
+
+    private Map<Long, Dish> findDishesById(List<OrderItem> items) {
+        return collectDishesById(items, dishPersistencePort::findAllByIds);
+    }
+
+    private Map<Long, Dish> findCurrentDishesById(List<OrderItem> items) {
+        return collectDishesById(items, dishPersistencePort::findCurrentByIds);
+    }
+
+    private static Map<Long, Dish> collectDishesById(List<OrderItem> items,
+                                                     Function<Set<Long>, List<Dish>> loader) {
+        if (items == null || items.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Set<Long> dishIds = items.stream()
+                .filter(Objects::nonNull)
+                .map(OrderItem::getDishId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (dishIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        return loader.apply(dishIds).stream()
+                .collect(Collectors.toMap(Dish::getId, Function.identity()));
     }
 
     private void validateQuantity(Integer quantity) {
@@ -312,9 +518,10 @@ public class OrderUseCase implements IOrderServicePort {
         }
     }
 
-    private void validateDish(Long dishId, Long restaurantId) {
-        Dish dish = dishPersistencePort.findById(dishId)
-                .orElseThrow(() -> new DishNotFoundException(dishId));
+    private void validateDish(Long dishId, Dish dish, Long restaurantId) {
+        if (dish == null) {
+            throw new DishNotFoundException(dishId);
+        }
 
         if (!dish.getRestaurantId().equals(restaurantId)) {
             throw new DishNotFromRestaurantException(dishId, restaurantId);
@@ -334,4 +541,10 @@ public class OrderUseCase implements IOrderServicePort {
                     "Phone number must be in E.164 format (e.g., +573001234567). Received: " + phoneNumber);
         }
     }
+
+    private record TraceabilityContacts(String clientEmail, String employeeEmail) {
+    }
+
+    private record ReadyNotification(String phoneNumber, String restaurantName) {
+    }
 }
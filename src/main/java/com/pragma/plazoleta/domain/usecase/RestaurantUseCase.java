@@ -2,8 +2,11 @@ package com.pragma.plazoleta.domain.usecase;
 
 import com.pragma.plazoleta.domain.api.IRestaurantServicePort;
 import com.pragma.plazoleta.domain.exception.*;
+import com.pragma.plazoleta.domain.model.ChangeEvent;
+import com.pragma.plazoleta.domain.model.ChangeEventType;
 import com.pragma.plazoleta.domain.model.PagedResult;
 import com.pragma.plazoleta.domain.model.Restaurant;
+import com.pragma.plazoleta.domain.spi.IChangeEventPort;
 import com.pragma.plazoleta.domain.spi.IRestaurantPersistencePort;
 import com.pragma.plazoleta.domain.spi.IUserValidationPort;
 import com.pragma.plazoleta.infrastructure.constant.SecurityConstants;
@@ -15,11 +18,18 @@ public class RestaurantUseCase implements IRestaurantServicePort {
 
     private final IRestaurantPersistencePort restaurantPersistencePort;
     private final IUserValidationPort userValidationPort;
+    private final IChangeEventPort changeEventPort;
 
     @Override
     public Restaurant createRestaurant(Restaurant restaurant) {
         validateRestaurantData(restaurant);
-        return restaurantPersistencePort.saveRestaurant(restaurant);
+        Restaurant saved = restaurantPersistencePort.saveRestaurant(restaurant);
+        changeEventPort.publish(ChangeEvent.builder()
+                .type(ChangeEventType.RESTAURANT)
+                .entityId(saved.getId())
+                .restaurantId(saved.getId())
+                .build());
+        return saved;
     }
 
     @Override
@@ -27,6 +37,11 @@ public class RestaurantUseCase implements IRestaurantServicePort {
         return restaurantPersistencePort.findAllOrderedByNamePaginated(page, size);
     }
 
+    @Override
+    public PagedResult<Restaurant> getAllRestaurantsSlice(int page, int size) {
+        return restaurantPersistencePort.findAllOrderedByNameSlice(page, size);
+    }
+
     private void validateRestaurantData(Restaurant restaurant) {
         validateName(restaurant.getName());
         validateNit(restaurant.getNit());
@@ -0,0 +1,196 @@
+package com.pragma.plazoleta.infrastructure.cache;
+
+import com.pragma.plazoleta.domain.model.Dish;
+import com.pragma.plazoleta.domain.model.PagedResult;
+import com.pragma.plazoleta.domain.spi.IDishPersistencePort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Bounded cache of dishes by id, validated against the menu version of the dish's restaurant.
+ * <ul>
+ *     <li>Each entry remembers the {@link MenuCache} version of its restaurant. An entry whose
+ *     version is no longer current is stale and is loaded again. A dish loaded while any menu
+ *     version changed is returned but not cached.</li>
+ *     <li>Changes made on another instance only show up here once the bus delivers them, so
+ *     {@code findCurrentByIds}, used to validate a new order, always reads the database and
+ *     refreshes the entries it loads.</li>
+ *     <li>{@code saveDish} drops the entry right away and again when the transaction ends, so a
+ *     dish read back inside the writing transaction is not kept after a rollback.</li>
+ *     <li>Callers get their own copy of each dish, since the use cases modify the dish they
+ *     load before saving it.</li>
+ * </ul>
+ */
+public class CachingDishPersistencePort implements IDishPersistencePort {
+
+    private final IDishPersistencePort delegate;
+    private final MenuCache menuCache;
+    private final LruCache<Long, CachedDish> dishesById;
+    private final OperationCounters findByIdCounters;
+    private final OperationCounters findAllByIdsCounters;
+    private final Counter findCurrentByIdsCounter;
+
+    public CachingDishPersistencePort(IDishPersistencePort delegate, MenuCache menuCache,
+                                      MeterRegistry meterRegistry, int maxSize) {
+        this.delegate = delegate;
+        this.menuCache = menuCache;
+        this.findByIdCounters = OperationCounters.register(meterRegistry, "findById");
+        this.findAllByIdsCounters = OperationCounters.register(meterRegistry, "findAllByIds");
+        this.findCurrentByIdsCounter = OperationCounters.counter(meterRegistry, "findCurrentByIds", "bypass");
+        Counter evictionCounter = Counter.builder("dish.cache.evictions")
+                .description("Dishes evicted to stay within the cache size")
+                .register(meterRegistry);
+        this.dishesById = new LruCache<>(maxSize, (_, _) -> evictionCounter.increment());
+        Gauge.builder("dish.cache.size", dishesById, LruCache::size)
+                .description("Dishes currently cached")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Dish saveDish(Dish dish) {
+        Dish saved = delegate.saveDish(dish);
+        dishesById.remove(saved.getId());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    dishesById.remove(saved.getId());
+                }
+            });
+        }
+        return saved;
+    }
+
+    @Override
+    public Optional<Dish> findById(Long id) {
+        Dish cached = lookup(id, findByIdCounters);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long invalidations = menuCache.invalidations();
+        Optional<Dish> loaded = delegate.findById(id);
+        loaded.ifPresent(dish -> remember(dish, invalidations));
+        return loaded;
+    }
+
+    @Override
+    public List<Dish> findAllByIds(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        List<Dish> dishes = new ArrayList<>(ids.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long id : ids) {
+            Dish cached = lookup(id, findAllByIdsCounters);
+            if (cached != null) {
+                dishes.add(cached);
+            } else {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            long invalidations = menuCache.invalidations();
+            List<Dish> loaded = delegate.findAllByIds(missing);
+            loaded.forEach(dish -> remember(dish, invalidations));
+            dishes.addAll(loaded);
+        }
+        return dishes;
+    }
+
+    @Override
+    public List<Dish> findCurrentByIds(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        findCurrentByIdsCounter.increment(ids.size());
+        long invalidations = menuCache.invalidations();
+        List<Dish> loaded = delegate.findCurrentByIds(ids);
+        loaded.forEach(dish -> remember(dish, invalidations));
+        return loaded.stream().map(CachingDishPersistencePort::copy).toList();
+    }
+
+    @Override
+    public PagedResult<Dish> findActiveDishesByRestaurantId(Long restaurantId, int page, int size) {
+        return delegate.findActiveDishesByRestaurantId(restaurantId, page, size);
+    }
+
+    @Override
+    public PagedResult<Dish> findActiveDishesByRestaurantIdAndCategory(Long restaurantId, String category,
+                                                                       int page, int size) {
+        return delegate.findActiveDishesByRestaurantIdAndCategory(restaurantId, category, page, size);
+    }
+
+    @Override
+    public PagedResult<Dish> findActiveDishesByRestaurantIdSlice(Long restaurantId, int page, int size) {
+        return delegate.findActiveDishesByRestaurantIdSlice(restaurantId, page, size);
+    }
+
+    @Override
+    public PagedResult<Dish> findActiveDishesByRestaurantIdAndCategorySlice(Long restaurantId, String category,
+                                                                            int page, int size) {
+        return delegate.findActiveDishesByRestaurantIdAndCategorySlice(restaurantId, category, page, size);
+    }
+
+    private Dish lookup(Long id, OperationCounters counters) {
+        CachedDish cached = dishesById.get(id);
+        if (cached == null) {
+            counters.miss().increment();
+            return null;
+        }
+        if (cached.menuVersion() != menuCache.version(cached.dish().getRestaurantId())) {
+            dishesById.remove(id);
+            counters.stale().increment();
+            return null;
+        }
+        counters.hit().increment();
+        return copy(cached.dish());
+    }
+
+    private void remember(Dish dish, long invalidationsBeforeLoad) {
+        if (menuCache.invalidations() == invalidationsBeforeLoad) {
+            dishesById.put(dish.getId(), new CachedDish(copy(dish), menuCache.version(dish.getRestaurantId())));
+        }
+    }
+
+    private static Dish copy(Dish dish) {
+        return Dish.builder()
+                .id(dish.getId())
+                .name(dish.getName())
+                .price(dish.getPrice())
+                .description(dish.getDescription())
+                .imageUrl(dish.getImageUrl())
+                .category(dish.getCategory())
+                .active(dish.getActive())
+                .restaurantId(dish.getRestaurantId())
+                .build();
+    }
+
+    private record CachedDish(Dish dish, long menuVersion) {
+    }
+
+    private record OperationCounters(Counter hit, Counter miss, Counter stale) {
+
+        static OperationCounters register(MeterRegistry meterRegistry, String operation) {
+            return new OperationCounters(
+                    counter(meterRegistry, operation, "hit"),
+                    counter(meterRegistry, operation, "miss"),
+                    counter(meterRegistry, operation, "stale"));
+        }
+
+        private static Counter counter(MeterRegistry meterRegistry, String operation, String result) {
+            return Counter.builder("dish.cache.requests")
+                    .description("Dish lookups by operation and cache outcome")
+                    .tag("operation", operation)
+                    .tag("result", result)
+                    .register(meterRegistry);
+        }
+    }
+}
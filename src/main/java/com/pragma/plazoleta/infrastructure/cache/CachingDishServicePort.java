@@ -0,0 +1,53 @@
+package com.pragma.plazoleta.infrastructure.cache;
+
+import com.pragma.plazoleta.domain.api.IDishServicePort;
+import com.pragma.plazoleta.domain.model.Dish;
+import com.pragma.plazoleta.domain.model.PagedResult;
+
+/**
+ * Serves menu pages from the {@link MenuCache} and bumps the restaurant's menu version whenever
+ * one of its dishes is written. A cached page also stands for the restaurant existence check, as
+ * restaurants are never deleted.
+ */
+public class CachingDishServicePort implements IDishServicePort {
+
+    private final IDishServicePort delegate;
+    private final MenuCache menuCache;
+
+    public CachingDishServicePort(IDishServicePort delegate, MenuCache menuCache) {
+        this.delegate = delegate;
+        this.menuCache = menuCache;
+    }
+
+    @Override
+    public Dish createDish(Dish dish, Long ownerId) {
+        return invalidating(delegate.createDish(dish, ownerId));
+    }
+
+    @Override
+    public Dish updateDish(Long dishId, Integer price, String description, Long ownerId) {
+        return invalidating(delegate.updateDish(dishId, price, description, ownerId));
+    }
+
+    @Override
+    public Dish changeDishActiveStatus(Long dishId, Boolean active, Long ownerId) {
+        return invalidating(delegate.changeDishActiveStatus(dishId, active, ownerId));
+    }
+
+    @Override
+    public PagedResult<Dish> getDishesByRestaurant(Long restaurantId, String category, int page, int size) {
+        return menuCache.get(restaurantId, category, page, size, true,
+                () -> delegate.getDishesByRestaurant(restaurantId, category, page, size));
+    }
+
+    @Override
+    public PagedResult<Dish> getDishesByRestaurantSlice(Long restaurantId, String category, int page, int size) {
+        return menuCache.get(restaurantId, category, page, size, false,
+                () -> delegate.getDishesByRestaurantSlice(restaurantId, category, page, size));
+    }
+
+    private Dish invalidating(Dish dish) {
+        menuCache.invalidateAfterCommit(dish.getRestaurantId());
+        return dish;
+    }
+}
@@ -0,0 +1,160 @@
+package com.pragma.plazoleta.infrastructure.cache;
+
+import com.pragma.plazoleta.domain.model.ChangeEvent;
+import com.pragma.plazoleta.domain.model.ChangeEventType;
+import com.pragma.plazoleta.domain.model.PagedResult;
+import com.pragma.plazoleta.domain.model.Restaurant;
+import com.pragma.plazoleta.domain.spi.IRestaurantPersistencePort;
+import com.pragma.plazoleta.infrastructure.output.event.ClusterEventBus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps every restaurant in memory by id, so the lookups done by almost every use case do not
+ * reach the database.
+ * <ul>
+ *     <li>Restaurants are never updated or deleted after creation, so an entry stays valid. The
+ *     map is loaded at startup, filled on misses and updated after a save commits.</li>
+ *     <li>A restaurant created on another instance is loaded on its first miss. Change events
+ *     from other instances evict the entry, in case restaurants ever become editable.</li>
+ *     <li>Missing ids are not remembered. Once the map holds the configured number of
+ *     restaurants, further ones are served from the database.</li>
+ * </ul>
+ * Cached restaurants are shared between requests and must not be modified.
+ */
+@Slf4j
+public class CachingRestaurantPersistencePort implements IRestaurantPersistencePort {
+
+    private static final int WARM_UP_PAGE_SIZE = 500;
+
+    private final IRestaurantPersistencePort delegate;
+    private final ConcurrentHashMap<Long, Restaurant> restaurantsById = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public CachingRestaurantPersistencePort(IRestaurantPersistencePort delegate, ClusterEventBus clusterEventBus,
+                                            MeterRegistry meterRegistry, int maxSize) {
+        this.delegate = delegate;
+        this.maxSize = maxSize;
+        this.hitCounter = requestCounter(meterRegistry, "hit");
+        this.missCounter = requestCounter(meterRegistry, "miss");
+        Gauge.builder("restaurant.cache.size", restaurantsById, ConcurrentHashMap::size)
+                .description("Restaurants currently held in memory")
+                .register(meterRegistry);
+        clusterEventBus.subscribe(ClusterEventBus.CHANGE_TOPIC, ChangeEvent.class, event -> {
+            if (event.getType() == ChangeEventType.RESTAURANT && event.getEntityId() != null) {
+                restaurantsById.remove(event.getEntityId());
+            }
+        });
+    }
+
+    /**
+     * Loads the restaurants page by page until all of them, or as many as fit, are in memory.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        int page = 0;
+        PagedResult<Restaurant> slice;
+        do {
+            slice = delegate.findAllOrderedByNameSlice(page++, WARM_UP_PAGE_SIZE);
+            slice.getContent().forEach(this::remember);
+        } while (slice.isHasNext() && restaurantsById.size() < maxSize);
+        log.info("Loaded {} restaurants into memory", restaurantsById.size());
+    }
+
+    @Override
+    public Restaurant saveRestaurant(Restaurant restaurant) {
+        Restaurant saved = delegate.saveRestaurant(restaurant);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remember(saved);
+                }
+            });
+        } else {
+            remember(saved);
+        }
+        return saved;
+    }
+
+    @Override
+    public boolean existsByNit(String nit) {
+        return delegate.existsByNit(nit);
+    }
+
+    @Override
+    public Optional<Restaurant> findById(Long id) {
+        Restaurant cached = restaurantsById.get(id);
+        if (cached != null) {
+            hitCounter.increment();
+            return Optional.of(cached);
+        }
+        missCounter.increment();
+        Optional<Restaurant> loaded = delegate.findById(id);
+        loaded.ifPresent(this::remember);
+        return loaded;
+    }
+
+    @Override
+    public List<Restaurant> findAllByIds(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        List<Restaurant> restaurants = new ArrayList<>(ids.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long id : ids) {
+            Restaurant cached = restaurantsById.get(id);
+            if (cached != null) {
+                restaurants.add(cached);
+            } else {
+                missing.add(id);
+            }
+        }
+        hitCounter.increment(restaurants.size());
+        if (!missing.isEmpty()) {
+            missCounter.increment(missing.size());
+            List<Restaurant> loaded = delegate.findAllByIds(missing);
+            loaded.forEach(this::remember);
+            restaurants.addAll(loaded);
+        }
+        return restaurants;
+    }
+
+    @Override
+    public PagedResult<Restaurant> findAllOrderedByNamePaginated(int page, int size) {
+        return delegate.findAllOrderedByNamePaginated(page, size);
+    }
+
+    @Override
+    public PagedResult<Restaurant> findAllOrderedByNameSlice(int page, int size) {
+        return delegate.findAllOrderedByNameSlice(page, size);
+    }
+
+    private void remember(Restaurant restaurant) {
+        if (restaurant.getId() != null
+                && (restaurantsById.size() < maxSize || restaurantsById.containsKey(restaurant.getId()))) {
+            restaurantsById.put(restaurant.getId(), restaurant);
+        }
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("restaurant.cache.requests")
+                .description("Restaurant lookups by id by cache outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,202 @@
+package com.pragma.plazoleta.infrastructure.cache;
+
+import com.pragma.plazoleta.domain.model.ChangeEvent;
+import com.pragma.plazoleta.domain.model.ChangeEventType;
+import com.pragma.plazoleta.domain.model.Dish;
+import com.pragma.plazoleta.domain.model.PagedResult;
+import com.pragma.plazoleta.infrastructure.output.event.ClusterEventBus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Cache of menu pages with a version per restaurant.
+ * <ul>
+ *     <li>Pages are keyed by restaurant, menu version, category, page and size. Bumping the version
+ *     makes every cached page of the restaurant unreachable; they age out of the LRU.</li>
+ *     <li>Versions only grow. They start from the startup time, so they keep growing across
+ *     restarts.</li>
+ *     <li>Local dish writes bump the version after commit; writes on other instances arrive
+ *     through the {@link ClusterEventBus}. After the bus reconnects every version is bumped,
+ *     since changes may have been missed.</li>
+ *     <li>Since the bus is best effort, nothing is trusted for longer than the maximum age: a
+ *     page loaded earlier is a miss, and every version, including the ones behind the ETags,
+ *     is bumped once per period.</li>
+ * </ul>
+ * Pages larger than the configured page size are not cached. Cached pages are shared between
+ * requests and must not be modified.
+ */
+@Component
+public class MenuCache {
+
+    private final LruCache<MenuKey, CachedPage> pages;
+    private final ConcurrentHashMap<Long, Long> versions = new ConcurrentHashMap<>();
+    private final AtomicLong baseVersion;
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong versionsAgingSince;
+    private final int maxPageSize;
+    private final Duration maxAge;
+    private final Clock clock;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter bypassCounter;
+    private final Counter invalidationCounter;
+    private final Counter evictionCounter;
+    private final Counter expirationCounter;
+
+    @Autowired
+    public MenuCache(
+            ClusterEventBus clusterEventBus,
+            MeterRegistry meterRegistry,
+            @Value("${menu-cache.max-size:2000}") int maxSize,
+            @Value("${menu-cache.max-page-size:100}") int maxPageSize,
+            @Value("${menu-cache.max-age-ms:300000}") long maxAgeMs) {
+        this(clusterEventBus, meterRegistry, maxSize, maxPageSize, Duration.ofMillis(maxAgeMs), Clock.systemUTC());
+    }
+
+    MenuCache(ClusterEventBus clusterEventBus, MeterRegistry meterRegistry, int maxSize, int maxPageSize,
+              Duration maxAge, Clock clock) {
+        this.maxPageSize = maxPageSize;
+        this.maxAge = maxAge;
+        this.clock = clock;
+        this.baseVersion = new AtomicLong(clock.millis());
+        this.versionsAgingSince = new AtomicLong(clock.millis());
+        this.hitCounter = requestCounter(meterRegistry, "hit");
+        this.missCounter = requestCounter(meterRegistry, "miss");
+        this.bypassCounter = requestCounter(meterRegistry, "bypass");
+        this.invalidationCounter = Counter.builder("menu.cache.invalidations")
+                .description("Menu version bumps caused by dish changes")
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder("menu.cache.evictions")
+                .description("Menu pages evicted to stay within the cache size")
+                .register(meterRegistry);
+        this.expirationCounter = Counter.builder("menu.cache.expirations")
+                .description("Times every menu version was bumped because the maximum age passed")
+                .register(meterRegistry);
+        this.pages = new LruCache<>(maxSize, (_, _) -> evictionCounter.increment());
+        Gauge.builder("menu.cache.size", pages, LruCache::size)
+                .description("Menu pages currently cached")
+                .register(meterRegistry);
+        clusterEventBus.subscribe(ClusterEventBus.CHANGE_TOPIC, ChangeEvent.class, this::onRemoteChange);
+        clusterEventBus.onResync(this::invalidateAll);
+    }
+
+    /**
+     * Returns the cached page, loading and caching it under the current menu version on a miss.
+     */
+    public PagedResult<Dish> get(Long restaurantId, String category, int page, int size, boolean countTotal,
+                                 Supplier<PagedResult<Dish>> loader) {
+        if (size > maxPageSize) {
+            bypassCounter.increment();
+            return loader.get();
+        }
+        MenuKey key = new MenuKey(restaurantId, version(restaurantId), normalize(category), page, size, countTotal);
+        CachedPage cached = pages.get(key);
+        long now = clock.millis();
+        if (cached != null && now - cached.loadedAt() < maxAge.toMillis()) {
+            hitCounter.increment();
+            return cached.page();
+        }
+        missCounter.increment();
+        PagedResult<Dish> loaded = loader.get();
+        pages.put(key, new CachedPage(loaded, now));
+        return loaded;
+    }
+
+    public long version(Long restaurantId) {
+        expireVersions();
+        return versions.getOrDefault(restaurantId, baseVersion.get());
+    }
+
+    /**
+     * Number of version bumps so far, across all restaurants. It is counted before the version
+     * changes, so a reader that sees the same count before and after a load, and then reads the
+     * version, never pairs data loaded before a bump with the version that follows it.
+     */
+    public long invalidations() {
+        return invalidations.get();
+    }
+
+    /**
+     * Bumps the restaurant's menu version once the surrounding transaction commits, so a reader
+     * cannot cache the old menu under the new version.
+     */
+    public void invalidateAfterCommit(Long restaurantId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(restaurantId);
+                }
+            });
+        } else {
+            invalidate(restaurantId);
+        }
+    }
+
+    public void invalidate(Long restaurantId) {
+        invalidations.incrementAndGet();
+        versions.compute(restaurantId, (_, current) -> (current != null ? current : baseVersion.get()) + 1);
+        invalidationCounter.increment();
+    }
+
+    public void invalidateAll() {
+        bumpAll();
+        invalidationCounter.increment();
+    }
+
+    /**
+     * Bumps every version once the maximum age has passed since the last time, so neither the
+     * pages nor the ETags built from the versions outlive a change the bus failed to deliver.
+     */
+    private void expireVersions() {
+        long since = versionsAgingSince.get();
+        long now = clock.millis();
+        if (now - since >= maxAge.toMillis() && versionsAgingSince.compareAndSet(since, now)) {
+            bumpAll();
+            expirationCounter.increment();
+        }
+    }
+
+    private void bumpAll() {
+        invalidations.incrementAndGet();
+        baseVersion.incrementAndGet();
+        versions.replaceAll((_, current) -> current + 1);
+        pages.clear();
+    }
+
+    private void onRemoteChange(ChangeEvent event) {
+        if (event.getType() == ChangeEventType.DISH && event.getRestaurantId() != null) {
+            invalidate(event.getRestaurantId());
+        }
+    }
+
+    private static String normalize(String category) {
+        return category == null || category.isBlank() ? null : category.trim();
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("menu.cache.requests")
+                .description("Menu page lookups by cache outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record CachedPage(PagedResult<Dish> page, long loadedAt) {
+    }
+
+    private record MenuKey(Long restaurantId, long version, String category, int page, int size,
+                           boolean countTotal) {
+    }
+}
@@ -0,0 +1,150 @@
+package com.pragma.plazoleta.infrastructure.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache of fully rendered JSON responses, kept both plain and gzip-compressed.
+ * <ul>
+ *     <li>Entries are keyed by the response ETag plus the request parameters. The ETag already
+ *     carries the version of the data behind the page, so a version bump makes the old bytes
+ *     unreachable; they age out of the LRU.</li>
+ *     <li>A hit skips the handler, the DTO mapping and JSON serialization: the bytes are written
+ *     as they are.</li>
+ *     <li>Bodies smaller than the gzip threshold are only kept plain. Bodies larger than the
+ *     entry limit, and responses without an ETag, are rendered but not cached.</li>
+ *     <li>The gzip and plain renderings are different bytes, so they cannot share a strong ETag:
+ *     {@link #responseETag} gives clients that accept gzip their own tag.</li>
+ * </ul>
+ */
+@Component
+public class RenderedPageCache {
+
+    static final String GZIP_ETAG_SUFFIX = "-gz";
+
+    private final JsonMapper jsonMapper;
+    private final LruCache<RenderedKey, RenderedPage> pages;
+    private final int maxEntryBytes;
+    private final int gzipMinBytes;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter bypassCounter;
+    private final Counter evictionCounter;
+
+    @Autowired
+    public RenderedPageCache(
+            JsonMapper jsonMapper,
+            MeterRegistry meterRegistry,
+            @Value("${rendered-cache.max-size:1000}") int maxSize,
+            @Value("${rendered-cache.max-entry-bytes:262144}") int maxEntryBytes,
+            @Value("${rendered-cache.gzip-min-bytes:1024}") int gzipMinBytes) {
+        this.jsonMapper = jsonMapper;
+        this.maxEntryBytes = maxEntryBytes;
+        this.gzipMinBytes = gzipMinBytes;
+        this.hitCounter = requestCounter(meterRegistry, "hit");
+        this.missCounter = requestCounter(meterRegistry, "miss");
+        this.bypassCounter = requestCounter(meterRegistry, "bypass");
+        this.evictionCounter = Counter.builder("rendered.cache.evictions")
+                .description("Rendered responses evicted to stay within the cache size")
+                .register(meterRegistry);
+        this.pages = new LruCache<>(maxSize, (_, _) -> evictionCounter.increment());
+        Gauge.builder("rendered.cache.size", pages, LruCache::size)
+                .description("Rendered responses currently cached")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the rendered response for the given ETag and request parameters, rendering the
+     * loader's body on a miss. The gzip variant is sent only when the client accepts it.
+     */
+    public ResponseEntity<byte[]> render(String etag, String parameters, String acceptEncoding,
+                                         Supplier<Object> loader) {
+        RenderedPage page = etag == null ? null : pages.get(new RenderedKey(etag, parameters));
+        if (page != null) {
+            hitCounter.increment();
+        } else {
+            page = renderPage(loader.get());
+            if (etag == null || page.json().length > maxEntryBytes) {
+                bypassCounter.increment();
+            } else {
+                missCounter.increment();
+                pages.put(new RenderedKey(etag, parameters), page);
+            }
+        }
+        return toResponse(page, acceptsGzip(acceptEncoding));
+    }
+
+    private RenderedPage renderPage(Object body) {
+        byte[] json = jsonMapper.writeValueAsBytes(body);
+        return new RenderedPage(json, json.length >= gzipMinBytes ? gzip(json) : null);
+    }
+
+    private static ResponseEntity<byte[]> toResponse(RenderedPage page, boolean gzipAccepted) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzipAccepted && page.gzip() != null) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(page.gzip());
+        }
+        return response.body(page.json());
+    }
+
+    /**
+     * ETag to send for a response rendered from the given data ETag. Clients that accept gzip
+     * get a {@code -gz} suffix, whether or not the body turns out large enough to compress, so a
+     * tag always names the same bytes.
+     */
+    public static String responseETag(String etag, String acceptEncoding) {
+        return acceptsGzip(acceptEncoding) ? etag + GZIP_ETAG_SUFFIX : etag;
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("rendered.cache.requests")
+                .description("Rendered response lookups by cache outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record RenderedKey(String etag, String parameters) {
+    }
+
+    private record RenderedPage(byte[] json, byte[] gzip) {
+    }
+}
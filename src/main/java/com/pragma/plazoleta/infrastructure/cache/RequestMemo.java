@@ -0,0 +1,74 @@
+package com.pragma.plazoleta.infrastructure.cache;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Remembers lookups for the rest of the current HTTP request, so each key is resolved at most
+ * once per request.
+ * <ul>
+ *     <li>Values live in a request attribute. Spring binds the request attributes to the
+ *     handling thread, virtual or not, and drops them when the request ends, so nothing is
+ *     shared between requests.</li>
+ *     <li>Concurrent lookups forked from the request share its attributes, so the memo is
+ *     created while holding the attributes' monitor; otherwise two lookups could each install
+ *     their own map and lose what the other remembered.</li>
+ *     <li>Outside a request (scheduled jobs, worker threads, the cluster bus) every call goes
+ *     straight to the loader.</li>
+ *     <li>Failures and {@code null} results are not remembered.</li>
+ * </ul>
+ * Remembered values are shared within the request and must not be modified.
+ */
+public final class RequestMemo {
+
+    /**
+     * Namespace under which the user adapters remember the profiles they looked up.
+     */
+    public static final String USERS = "user";
+
+    private static final String ATTRIBUTE = RequestMemo.class.getName();
+
+    private RequestMemo() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> T get(String namespace, Object key, Supplier<T> loader) {
+        Map<MemoKey, Object> memo = currentMemo();
+        if (memo == null) {
+            return loader.get();
+        }
+        MemoKey memoKey = new MemoKey(namespace, key);
+        Object remembered = memo.get(memoKey);
+        if (remembered != null) {
+            return (T) remembered;
+        }
+        T loaded = loader.get();
+        if (loaded != null) {
+            memo.put(memoKey, loaded);
+        }
+        return loaded;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<MemoKey, Object> currentMemo() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        synchronized (attributes) {
+            Map<MemoKey, Object> memo = (Map<MemoKey, Object>) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            if (memo == null) {
+                memo = new ConcurrentHashMap<>();
+                attributes.setAttribute(ATTRIBUTE, memo, RequestAttributes.SCOPE_REQUEST);
+            }
+            return memo;
+        }
+    }
+
+    private record MemoKey(String namespace, Object key) {
+    }
+}
@@ -0,0 +1,50 @@
+package com.pragma.plazoleta.infrastructure.cache;
+
+import com.pragma.plazoleta.domain.model.ChangeEvent;
+import com.pragma.plazoleta.domain.model.ChangeEventType;
+import com.pragma.plazoleta.infrastructure.output.event.ClusterEventBus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version of the restaurant list. It starts from the startup time and only grows: it is bumped
+ * after a restaurant is created here or on another instance, and when the cluster bus resyncs.
+ */
+@Component
+public class RestaurantCatalogVersion {
+
+    private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+
+    public RestaurantCatalogVersion(ClusterEventBus clusterEventBus) {
+        clusterEventBus.subscribe(ClusterEventBus.CHANGE_TOPIC, ChangeEvent.class, event -> {
+            if (event.getType() == ChangeEventType.RESTAURANT) {
+                invalidate();
+            }
+        });
+        clusterEventBus.onResync(this::invalidate);
+    }
+
+    public long current() {
+        return version.get();
+    }
+
+    public void invalidateAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate();
+                }
+            });
+        } else {
+            invalidate();
+        }
+    }
+
+    public void invalidate() {
+        version.incrementAndGet();
+    }
+}
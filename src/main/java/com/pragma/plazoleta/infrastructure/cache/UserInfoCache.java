@@ -0,0 +1,239 @@
+package com.pragma.plazoleta.infrastructure.cache;
+
+import com.pragma.plazoleta.infrastructure.configuration.WorkerThreads;
+import com.pragma.plazoleta.infrastructure.output.feign.client.IUserFeignClient;
+import com.pragma.plazoleta.infrastructure.output.feign.dto.UserDto;
+import feign.FeignException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Read-through cache of user profiles in front of {@link IUserFeignClient}.
+ * <ul>
+ *     <li>Entries younger than the TTL are served directly.</li>
+ *     <li>Within the stale-while-revalidate window the cached profile is served and refreshed in
+ *     the background.</li>
+ *     <li>When the user service fails, a profile within the stale-if-error window is served
+ *     instead of the error.</li>
+ *     <li>Unknown users (404) are remembered for the shorter negative TTL.</li>
+ * </ul>
+ * Concurrent lookups of the same user share a single outbound call and its outcome, failures included.
+ */
+@Component
+public class UserInfoCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserInfoCache.class);
+
+    private final IUserFeignClient userFeignClient;
+    private final ExecutorService refreshExecutor;
+    private final Clock clock;
+    private final Duration ttl;
+    private final Duration staleWhileRevalidate;
+    private final Duration staleIfError;
+    private final Duration negativeTtl;
+    private final LruCache<Long, CachedUser> cache;
+    private final Set<Long> refreshing = ConcurrentHashMap.newKeySet();
+    private final ConcurrentHashMap<Long, CompletableFuture<Optional<UserDto>>> inFlight = new ConcurrentHashMap<>();
+    private final Counter hitCounter;
+    private final Counter negativeHitCounter;
+    private final Counter staleCounter;
+    private final Counter missCounter;
+    private final Counter coalescedCounter;
+    private final Counter staleOnErrorCounter;
+    private final Counter evictionCounter;
+
+    @Autowired
+    public UserInfoCache(
+            IUserFeignClient userFeignClient,
+            MeterRegistry meterRegistry,
+            WorkerThreads workerThreads,
+            @Value("${user-cache.max-size:10000}") int maxSize,
+            @Value("${user-cache.ttl-seconds:60}") long ttlSeconds,
+            @Value("${user-cache.stale-while-revalidate-seconds:300}") long staleWhileRevalidateSeconds,
+            @Value("${user-cache.stale-if-error-seconds:1800}") long staleIfErrorSeconds,
+            @Value("${user-cache.negative-ttl-seconds:30}") long negativeTtlSeconds) {
+        this(userFeignClient, meterRegistry, maxSize, Duration.ofSeconds(ttlSeconds),
+                Duration.ofSeconds(staleWhileRevalidateSeconds), Duration.ofSeconds(staleIfErrorSeconds),
+                Duration.ofSeconds(negativeTtlSeconds),
+                Executors.newFixedThreadPool(2, workerThreads.pool("user-cache-refresh-")),
+                Clock.systemUTC());
+    }
+
+    UserInfoCache(IUserFeignClient userFeignClient, MeterRegistry meterRegistry, int maxSize, Duration ttl,
+                  Duration staleWhileRevalidate, Duration staleIfError, Duration negativeTtl,
+                  ExecutorService refreshExecutor, Clock clock) {
+        this.userFeignClient = userFeignClient;
+        this.refreshExecutor = refreshExecutor;
+        this.clock = clock;
+        this.ttl = ttl;
+        this.staleWhileRevalidate = staleWhileRevalidate;
+        this.staleIfError = staleIfError;
+        this.negativeTtl = negativeTtl;
+        this.hitCounter = requestCounter(meterRegistry, "hit");
+        this.negativeHitCounter = requestCounter(meterRegistry, "negative_hit");
+        this.staleCounter = requestCounter(meterRegistry, "stale");
+        this.missCounter = requestCounter(meterRegistry, "miss");
+        this.coalescedCounter = Counter.builder("user.cache.coalesced")
+                .description("User lookups that joined a call already in flight")
+                .register(meterRegistry);
+        this.staleOnErrorCounter = Counter.builder("user.cache.stale_on_error")
+                .description("Cached user profiles served because the user service failed")
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder("user.cache.evictions")
+                .description("User profiles evicted to stay within the cache size")
+                .register(meterRegistry);
+        this.cache = new LruCache<>(maxSize, (_, _) -> evictionCounter.increment());
+        Gauge.builder("user.cache.size", cache, LruCache::size)
+                .description("User profiles currently cached")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the user profile, loading it from the user service when it is not cached or too old.
+     *
+     * @throws FeignException when the user service fails and no usable cached profile exists
+     */
+    public Optional<UserDto> getUserById(Long userId) {
+        CachedUser cached = cache.get(userId);
+        if (cached != null && !cached.isPresent()) {
+            if (cached.age(clock.instant()).compareTo(negativeTtl) < 0) {
+                negativeHitCounter.increment();
+                return Optional.empty();
+            }
+            cached = null;
+        }
+        Duration age = cached != null ? cached.age(clock.instant()) : null;
+
+        if (cached != null && age.compareTo(ttl) < 0) {
+            hitCounter.increment();
+            return Optional.of(cached.user());
+        }
+        if (cached != null && age.compareTo(ttl.plus(staleWhileRevalidate)) < 0) {
+            staleCounter.increment();
+            refreshInBackground(userId);
+            return Optional.of(cached.user());
+        }
+
+        missCounter.increment();
+        try {
+            return load(userId);
+        } catch (FeignException e) {
+            if (cached != null && age.compareTo(ttl.plus(staleIfError)) < 0) {
+                staleOnErrorCounter.increment();
+                logger.warn("User service failed for user {}, serving cached profile: {}", userId, e.getMessage());
+                return Optional.of(cached.user());
+            }
+            throw e;
+        }
+    }
+
+    public void invalidate(Long userId) {
+        cache.remove(userId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    /**
+     * Loads the user, joining the call of another thread when one is already in flight for the
+     * same id so both observe the same result or the same failure.
+     */
+    private Optional<UserDto> load(Long userId) {
+        CompletableFuture<Optional<UserDto>> call = new CompletableFuture<>();
+        CompletableFuture<Optional<UserDto>> existing = inFlight.putIfAbsent(userId, call);
+        if (existing != null) {
+            coalescedCounter.increment();
+            return await(existing);
+        }
+        try {
+            Optional<UserDto> user = fetch(userId);
+            call.complete(user);
+            return user;
+        } catch (RuntimeException e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(userId, call);
+        }
+    }
+
+    private Optional<UserDto> fetch(Long userId) {
+        Optional<UserDto> user;
+        try {
+            user = userFeignClient.getUserById(userId);
+        } catch (FeignException.NotFound _) {
+            user = Optional.empty();
+        }
+        cache.put(userId, new CachedUser(user.orElse(null), clock.instant()));
+        return user;
+    }
+
+    private static Optional<UserDto> await(CompletableFuture<Optional<UserDto>> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void refreshInBackground(Long userId) {
+        if (!refreshing.add(userId)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    load(userId);
+                } catch (RuntimeException e) {
+                    logger.debug("Background refresh of user {} failed: {}", userId, e.getMessage());
+                } finally {
+                    refreshing.remove(userId);
+                }
+            });
+        } catch (RejectedExecutionException _) {
+            refreshing.remove(userId);
+        }
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("user.cache.requests")
+                .description("User profile lookups by cache outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record CachedUser(UserDto user, Instant loadedAt) {
+
+        boolean isPresent() {
+            return user != null;
+        }
+
+        Duration age(Instant now) {
+            return Duration.between(loadedAt, now);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.pragma.plazoleta.infrastructure.cache;
+
+import com.pragma.plazoleta.domain.api.IRestaurantServicePort;
+import com.pragma.plazoleta.domain.model.PagedResult;
+import com.pragma.plazoleta.domain.model.Restaurant;
+
+/**
+ * Bumps the {@link RestaurantCatalogVersion} whenever a restaurant is created.
+ */
+public class VersionedRestaurantServicePort implements IRestaurantServicePort {
+
+    private final IRestaurantServicePort delegate;
+    private final RestaurantCatalogVersion catalogVersion;
+
+    public VersionedRestaurantServicePort(IRestaurantServicePort delegate, RestaurantCatalogVersion catalogVersion) {
+        this.delegate = delegate;
+        this.catalogVersion = catalogVersion;
+    }
+
+    @Override
+    public Restaurant createRestaurant(Restaurant restaurant) {
+        Restaurant created = delegate.createRestaurant(restaurant);
+        catalogVersion.invalidateAfterCommit();
+        return created;
+    }
+
+    @Override
+    public PagedResult<Restaurant> getAllRestaurants(int page, int size) {
+        return delegate.getAllRestaurants(page, size);
+    }
+
+    @Override
+    public PagedResult<Restaurant> getAllRestaurantsSlice(int page, int size) {
+        return delegate.getAllRestaurantsSlice(page, size);
+    }
+}
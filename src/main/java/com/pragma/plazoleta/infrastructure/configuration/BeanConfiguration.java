@@ -9,24 +9,66 @@ import com.pragma.plazoleta.domain.usecase.DishUseCase;
 import com.pragma.plazoleta.domain.usecase.EfficiencyUseCase;
 import com.pragma.plazoleta.domain.usecase.OrderUseCase;
 import com.pragma.plazoleta.domain.usecase.RestaurantUseCase;
+import com.pragma.plazoleta.infrastructure.cache.CachingDishPersistencePort;
+import com.pragma.plazoleta.infrastructure.cache.CachingDishServicePort;
+import com.pragma.plazoleta.infrastructure.cache.CachingRestaurantPersistencePort;
+import com.pragma.plazoleta.infrastructure.cache.MenuCache;
+import com.pragma.plazoleta.infrastructure.cache.RestaurantCatalogVersion;
+import com.pragma.plazoleta.infrastructure.cache.VersionedRestaurantServicePort;
+import com.pragma.plazoleta.infrastructure.output.event.ClusterEventBus;
+import com.pragma.plazoleta.infrastructure.output.jpa.adapter.DishJpaAdapter;
+import com.pragma.plazoleta.infrastructure.output.jpa.adapter.RestaurantJpaAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 
 @Configuration
 public class BeanConfiguration {
 
+    @Bean
+    @Primary
+    public CachingRestaurantPersistencePort cachingRestaurantPersistencePort(
+            RestaurantJpaAdapter restaurantJpaAdapter,
+            ClusterEventBus clusterEventBus,
+            MeterRegistry meterRegistry,
+            @Value("${restaurant-cache.max-size:10000}") int maxSize) {
+        return new CachingRestaurantPersistencePort(restaurantJpaAdapter, clusterEventBus, meterRegistry, maxSize);
+    }
+
+    @Bean
+    @Primary
+    public CachingDishPersistencePort cachingDishPersistencePort(
+            DishJpaAdapter dishJpaAdapter,
+            MenuCache menuCache,
+            MeterRegistry meterRegistry,
+            @Value("${dish-cache.max-size:20000}") int maxSize) {
+        return new CachingDishPersistencePort(dishJpaAdapter, menuCache, meterRegistry, maxSize);
+    }
+
     @Bean
     public IRestaurantServicePort restaurantServicePort(
             IRestaurantPersistencePort restaurantPersistencePort,
-            IUserValidationPort userValidationPort) {
-        return new RestaurantUseCase(restaurantPersistencePort, userValidationPort);
+            IUserValidationPort userValidationPort,
+            IChangeEventPort changeEventPort,
+            RestaurantCatalogVersion restaurantCatalogVersion) {
+        return new VersionedRestaurantServicePort(
+                new RestaurantUseCase(restaurantPersistencePort, userValidationPort, changeEventPort),
+                restaurantCatalogVersion
+        );
     }
 
     @Bean
     public IDishServicePort dishServicePort(
             IDishPersistencePort dishPersistencePort,
-            IRestaurantPersistencePort restaurantPersistencePort) {
-        return new DishUseCase(dishPersistencePort, restaurantPersistencePort);
+            IRestaurantPersistencePort restaurantPersistencePort,
+            IChangeEventPort changeEventPort,
+            MenuCache menuCache) {
+        return new CachingDishServicePort(
+                new DishUseCase(dishPersistencePort, restaurantPersistencePort, changeEventPort),
+                menuCache
+        );
     }
 
     @Bean
@@ -37,7 +79,10 @@ public class BeanConfiguration {
             IEmployeeRestaurantPort employeeRestaurantPort,
             IClientInfoPort clientInfoPort,
             INotificationPort notificationPort,
-            ITraceabilityPort traceabilityPort) {
+            ITraceabilityPort traceabilityPort,
+            IOrderEventPort orderEventPort,
+            ITransactionPort transactionPort,
+            ILookupScopePort lookupScopePort) {
         return new OrderUseCase(
                 orderPersistencePort,
                 restaurantPersistencePort,
@@ -45,7 +90,10 @@ public class BeanConfiguration {
                 employeeRestaurantPort,
                 clientInfoPort,
                 notificationPort,
-                traceabilityPort
+                traceabilityPort,
+                orderEventPort,
+                transactionPort,
+                lookupScopePort
         );
     }
 
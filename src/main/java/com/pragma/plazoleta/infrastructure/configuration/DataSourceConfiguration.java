@@ -0,0 +1,31 @@
+package com.pragma.plazoleta.infrastructure.configuration;
+
+import com.pragma.plazoleta.infrastructure.output.jpa.datasource.ConnectionHoldTimeDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class DataSourceConfiguration {
+
+    /**
+     * Wraps the pool so every connection checkout is timed. Pool metrics still reach the
+     * underlying pool, since the wrapper unwraps to it.
+     */
+    @Bean
+    public static BeanPostProcessor connectionHoldTimePostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionHoldTimeDataSource)) {
+                    return new ConnectionHoldTimeDataSource(dataSource, meterRegistry.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
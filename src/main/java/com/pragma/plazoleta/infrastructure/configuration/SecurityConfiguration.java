@@ -3,6 +3,7 @@ package com.pragma.plazoleta.infrastructure.configuration;
 import com.pragma.plazoleta.infrastructure.constant.ApiConstants;
 import com.pragma.plazoleta.infrastructure.constant.SecurityConstants;
 import com.pragma.plazoleta.infrastructure.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -35,6 +36,8 @@ public class SecurityConfiguration {
                 .csrf(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // Streams finish on an async dispatch; the request was already authorized
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(
                                 ApiConstants.API_DOCS_PATH + "/**",
                                 "/swagger-ui/**",
@@ -48,6 +51,9 @@ public class SecurityConfiguration {
                         .requestMatchers(HttpMethod.GET, ApiConstants.EFFICIENCY_BASE_PATH + "/**").hasRole(SecurityConstants.ROLE_OWNER)
                         .requestMatchers(HttpMethod.POST, ordersPath).hasRole(SecurityConstants.ROLE_CLIENT)
                         .requestMatchers(HttpMethod.GET, ordersPath).hasRole(SecurityConstants.ROLE_EMPLOYEE)
+                        .requestMatchers(HttpMethod.GET, ordersPath + "/queue").hasRole(SecurityConstants.ROLE_EMPLOYEE)
+                        .requestMatchers(HttpMethod.POST, ordersPath + "/claim").hasRole(SecurityConstants.ROLE_EMPLOYEE)
+                        .requestMatchers(HttpMethod.GET, ordersPath + "/events").hasRole(SecurityConstants.ROLE_EMPLOYEE)
                         .requestMatchers(HttpMethod.PUT, ordersPath).hasRole(SecurityConstants.ROLE_EMPLOYEE)
                         .requestMatchers(HttpMethod.PATCH, ordersPath + "/**").hasRole(SecurityConstants.ROLE_EMPLOYEE)
                         .anyRequest().authenticated()
@@ -0,0 +1,45 @@
+package com.pragma.plazoleta.infrastructure.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Builds the threads of the service's own executors. With {@code spring.threads.virtual.enabled}
+ * they are virtual, like the request and scheduler threads Spring creates in that mode;
+ * otherwise they are daemon platform threads. Pool sizes and queue capacities stay as
+ * configured either way, since they limit the load sent to other services rather than the
+ * number of threads.
+ */
+@Component
+public class WorkerThreads {
+
+    private final boolean virtual;
+
+    public WorkerThreads(@Value("${spring.threads.virtual.enabled:false}") boolean virtual) {
+        this.virtual = virtual;
+    }
+
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    /**
+     * Factory for the threads of a pool, numbered after the prefix.
+     */
+    public ThreadFactory pool(String prefix) {
+        return virtual
+                ? Thread.ofVirtual().name(prefix, 0).factory()
+                : Thread.ofPlatform().name(prefix, 0).daemon(true).factory();
+    }
+
+    /**
+     * Factory for a single named thread, such as the one behind a scheduler.
+     */
+    public ThreadFactory single(String name) {
+        return virtual
+                ? Thread.ofVirtual().name(name).factory()
+                : Thread.ofPlatform().name(name).daemon(true).factory();
+    }
+}
@@ -94,6 +94,18 @@ public class GlobalExceptionHandler {
                 return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
         }
 
+        @ExceptionHandler(LookupDeadlineExceededException.class)
+        public ResponseEntity<ErrorResponse> handleLookupDeadlineExceededException(
+                        LookupDeadlineExceededException ex, HttpServletRequest request) {
+                ErrorResponse error = new ErrorResponse(
+                                LocalDateTime.now(),
+                                HttpStatus.GATEWAY_TIMEOUT.value(),
+                                "Gateway Timeout",
+                                ex.getMessage(),
+                                request.getRequestURI());
+                return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(error);
+        }
+
         @ExceptionHandler(IllegalArgumentException.class)
         public ResponseEntity<ErrorResponse> handleIllegalArgumentException(
                         IllegalArgumentException ex, HttpServletRequest request) {
@@ -0,0 +1,69 @@
+package com.pragma.plazoleta.infrastructure.input.rest.controller;
+
+import com.pragma.plazoleta.infrastructure.cache.MenuCache;
+import com.pragma.plazoleta.infrastructure.cache.RestaurantCatalogVersion;
+import com.pragma.plazoleta.infrastructure.output.event.OrderEventBroadcaster;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Builds strong ETags from the versions of the data behind a response, so a conditional GET can
+ * be answered before any query runs. Versions are kept per instance; the instance token in every
+ * tag keeps one issued by another instance, or before a restart, from ever matching.
+ */
+@Component
+public class DataVersionETags {
+
+    private final String instanceToken = UUID.randomUUID().toString().substring(0, 8);
+    private final RestaurantCatalogVersion restaurantCatalogVersion;
+    private final MenuCache menuCache;
+    private final OrderEventBroadcaster orderEventBroadcaster;
+    private final Duration ordersMaxAge;
+    private final Clock clock;
+
+    @Autowired
+    public DataVersionETags(RestaurantCatalogVersion restaurantCatalogVersion, MenuCache menuCache,
+                            OrderEventBroadcaster orderEventBroadcaster,
+                            @Value("${order-events.etag-max-age-ms:5000}") long ordersMaxAgeMs) {
+        this(restaurantCatalogVersion, menuCache, orderEventBroadcaster, Duration.ofMillis(ordersMaxAgeMs),
+                Clock.systemUTC());
+    }
+
+    DataVersionETags(RestaurantCatalogVersion restaurantCatalogVersion, MenuCache menuCache,
+                     OrderEventBroadcaster orderEventBroadcaster, Duration ordersMaxAge, Clock clock) {
+        this.restaurantCatalogVersion = restaurantCatalogVersion;
+        this.menuCache = menuCache;
+        this.orderEventBroadcaster = orderEventBroadcaster;
+        this.ordersMaxAge = ordersMaxAge;
+        this.clock = clock;
+    }
+
+    public String restaurants() {
+        return tag("restaurants", restaurantCatalogVersion.current());
+    }
+
+    public String menu(Long restaurantId) {
+        return tag("menu." + restaurantId, menuCache.version(restaurantId));
+    }
+
+    /**
+     * Order responses also carry dish data, so the tag covers the restaurant's menu version too.
+     * Order events from other instances arrive over a best-effort bus, so the tag also carries
+     * the current time bucket: a queue is never reported unchanged for longer than the bucket,
+     * even when an event was lost.
+     */
+    public String orders(Long restaurantId) {
+        return tag("orders." + restaurantId,
+                orderEventBroadcaster.ordersVersion(restaurantId) + "." + menuCache.version(restaurantId)
+                        + "." + clock.millis() / ordersMaxAge.toMillis());
+    }
+
+    private String tag(String resource, Object version) {
+        return instanceToken + "-" + resource + "-" + version;
+    }
+}
@@ -4,10 +4,12 @@ import com.pragma.plazoleta.application.dto.request.AssignOrderRequestDto;
 import com.pragma.plazoleta.application.dto.request.CreateOrderRequestDto;
 import com.pragma.plazoleta.application.dto.request.DeliverOrderRequestDto;
 import com.pragma.plazoleta.application.dto.request.MarkOrderReadyRequestDto;
+import com.pragma.plazoleta.application.dto.response.CursorPageResponse;
 import com.pragma.plazoleta.application.dto.response.OrderResponseDto;
 import com.pragma.plazoleta.application.dto.response.PagedResponse;
 import com.pragma.plazoleta.application.handler.IOrderHandler;
 import com.pragma.plazoleta.infrastructure.constant.ApiConstants;
+import com.pragma.plazoleta.infrastructure.output.event.OrderEventBroadcaster;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -20,6 +22,7 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -29,9 +32,12 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.pragma.plazoleta.application.dto.response.TraceabilityResponseDto;
 import java.util.List;
@@ -44,6 +50,8 @@ import java.util.List;
 public class OrderRestController {
 
     private final IOrderHandler orderHandler;
+    private final OrderEventBroadcaster orderEventBroadcaster;
+    private final DataVersionETags dataVersionETags;
 
     @Operation(summary = "Create a new order",
             description = "Creates a new order for the authenticated client. " +
@@ -87,6 +95,9 @@ public class OrderRestController {
                     description = "Orders retrieved successfully",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = PagedResponse.class))),
+            @ApiResponse(responseCode = "304",
+                    description = "Orders unchanged since the ETag sent in If-None-Match",
+                    content = @Content),
             @ApiResponse(responseCode = "400",
                     description = "Invalid status value",
                     content = @Content),
@@ -110,9 +121,61 @@ public class OrderRestController {
             @Parameter(description = "Page number (0-based)", example = "0")
             @RequestParam(name = "page", defaultValue = "0") @Min(0) int page,
             @Parameter(description = "Number of elements per page", example = "10")
-            @RequestParam(name = "size", defaultValue = "10") @Min(1) int size) {
+            @RequestParam(name = "size", defaultValue = "10") @Min(1) int size,
+            @Parameter(description = "Whether to compute totalElements and totalPages; " +
+                    "false skips the count query, reports them as -1 and relies on hasNext", example = "true")
+            @RequestParam(name = "countTotal", defaultValue = "true") boolean countTotal,
+            WebRequest webRequest) {
+        Long employeeId = getAuthenticatedUserId();
+        if (isOrdersNotModified(employeeId, webRequest)) {
+            return null;
+        }
+        PagedResponse<OrderResponseDto> response = orderHandler.getOrdersByStatus(employeeId, status, page, size, countTotal);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "List the order queue with a cursor",
+            description = "Retrieves orders of the employee's restaurant with the given status, oldest first. " +
+                    "Pass the nextCursor of a response to get the following orders; " +
+                    "unlike page numbers, the cost of a request does not grow with how far the client has scrolled.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Orders retrieved successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CursorPageResponse.class))),
+            @ApiResponse(responseCode = "304",
+                    description = "Orders unchanged since the ETag sent in If-None-Match",
+                    content = @Content),
+            @ApiResponse(responseCode = "400",
+                    description = "Invalid status value or cursor",
+                    content = @Content),
+            @ApiResponse(responseCode = "401",
+                    description = "Not authenticated",
+                    content = @Content),
+            @ApiResponse(responseCode = "403",
+                    description = "Not authorized - requires EMPLOYEE role",
+                    content = @Content),
+            @ApiResponse(responseCode = "404",
+                    description = "Employee not associated with any restaurant",
+                    content = @Content)
+    })
+    @GetMapping("/queue")
+    public ResponseEntity<CursorPageResponse<OrderResponseDto>> getOrderQueue(
+            @Parameter(description = "Order status to filter by",
+                    required = true,
+                    example = "PENDING",
+                    schema = @Schema(allowableValues = {"PENDING", "IN_PREPARATION", "READY", "DELIVERED", "CANCELLED"}))
+            @RequestParam(name = "status") String status,
+            @Parameter(description = "Opaque cursor returned as nextCursor by the previous request; omit for the first page")
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @Parameter(description = "Number of elements per page", example = "10")
+            @RequestParam(name = "size", defaultValue = "10") @Min(1) int size,
+            WebRequest webRequest) {
         Long employeeId = getAuthenticatedUserId();
-        PagedResponse<OrderResponseDto> response = orderHandler.getOrdersByStatus(employeeId, status, page, size);
+        if (isOrdersNotModified(employeeId, webRequest)) {
+            return null;
+        }
+        CursorPageResponse<OrderResponseDto> response = orderHandler.getOrderQueue(employeeId, status, cursor, size);
         return ResponseEntity.ok(response);
     }
 
@@ -148,6 +211,66 @@ public class OrderRestController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "Stream order events",
+            description = "Opens a Server-Sent Events stream with the lifecycle changes of the orders of the employee's " +
+                    "restaurant: created, assigned, ready, delivered and cancelled. " +
+                    "After a reconnect, pass the id of the last event received to get the events missed in between; " +
+                    "a reset event means they are no longer available and the order list must be reloaded.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Event stream opened",
+                    content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)),
+            @ApiResponse(responseCode = "401",
+                    description = "Not authenticated",
+                    content = @Content),
+            @ApiResponse(responseCode = "403",
+                    description = "Not authorized - requires EMPLOYEE role",
+                    content = @Content),
+            @ApiResponse(responseCode = "404",
+                    description = "Employee not associated with any restaurant",
+                    content = @Content)
+    })
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamOrderEvents(
+            @Parameter(description = "Id of the last event received, sent automatically by EventSource on reconnect")
+            @RequestHeader(name = "Last-Event-ID", required = false) String lastEventIdHeader,
+            @Parameter(description = "Id of the last event received, for clients that cannot set headers")
+            @RequestParam(name = "lastEventId", required = false) String lastEventIdParam) {
+        Long employeeId = getAuthenticatedUserId();
+        Long restaurantId = orderHandler.getEmployeeRestaurantId(employeeId);
+        String lastEventId = lastEventIdHeader != null ? lastEventIdHeader : lastEventIdParam;
+        return orderEventBroadcaster.subscribe(restaurantId, lastEventId);
+    }
+
+    @Operation(summary = "Claim the next pending order",
+            description = "Assigns the oldest PENDING order of the employee's restaurant to the employee and changes its status " +
+                    "to IN_PREPARATION in one step. Employees claiming at the same time each get a different order.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Order claimed and status updated",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = OrderResponseDto.class))),
+            @ApiResponse(responseCode = "204",
+                    description = "No pending order left to claim",
+                    content = @Content),
+            @ApiResponse(responseCode = "401",
+                    description = "Not authenticated",
+                    content = @Content),
+            @ApiResponse(responseCode = "403",
+                    description = "Not authorized - requires EMPLOYEE role",
+                    content = @Content),
+            @ApiResponse(responseCode = "404",
+                    description = "Employee not associated with any restaurant",
+                    content = @Content)
+    })
+    @PostMapping("/claim")
+    public ResponseEntity<OrderResponseDto> claimNextPendingOrder() {
+        Long employeeId = getAuthenticatedUserId();
+        return orderHandler.claimNextPendingOrder(employeeId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
     @Operation(summary = "Mark order as ready and notify client",
             description = "Marks an order as READY and sends a WhatsApp notification to the client with a security PIN. " +
                     "Only orders in IN_PREPARATION status can be marked as ready. " +
@@ -271,6 +394,15 @@ public class OrderRestController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Answers with 304 when the client already holds the current version of the orders of the
+     * employee's restaurant. Resolving the restaurant does not touch the database.
+     */
+    private boolean isOrdersNotModified(Long employeeId, WebRequest webRequest) {
+        Long restaurantId = orderHandler.getEmployeeRestaurantId(employeeId);
+        return webRequest.checkNotModified(dataVersionETags.orders(restaurantId));
+    }
+
     private Long getAuthenticatedUserId() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null) {
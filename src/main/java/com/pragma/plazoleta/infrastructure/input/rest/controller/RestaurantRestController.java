@@ -1,12 +1,11 @@
 package com.pragma.plazoleta.infrastructure.input.rest.controller;
 
 import com.pragma.plazoleta.application.dto.request.CreateRestaurantRequest;
-import com.pragma.plazoleta.application.dto.response.DishMenuItemResponseDto;
 import com.pragma.plazoleta.application.dto.response.PagedResponse;
-import com.pragma.plazoleta.application.dto.response.RestaurantListItemResponse;
 import com.pragma.plazoleta.application.dto.response.RestaurantResponse;
 import com.pragma.plazoleta.application.handler.IDishHandler;
 import com.pragma.plazoleta.application.handler.IRestaurantHandler;
+import com.pragma.plazoleta.infrastructure.cache.RenderedPageCache;
 import com.pragma.plazoleta.infrastructure.constant.ApiConstants;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -19,6 +18,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -28,6 +28,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping(ApiConstants.RESTAURANTS_BASE_PATH)
@@ -38,6 +39,8 @@ public class RestaurantRestController {
 
     private final IRestaurantHandler restaurantHandler;
     private final IDishHandler dishHandler;
+    private final DataVersionETags dataVersionETags;
+    private final RenderedPageCache renderedPageCache;
 
     @Operation(summary = "Create restaurant",
             description = "Creates a new restaurant with the provided data. Only ADMIN users can create restaurants.")
@@ -77,18 +80,31 @@ public class RestaurantRestController {
                     description = "Restaurants retrieved successfully",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = PagedResponse.class))),
+            @ApiResponse(responseCode = "304",
+                    description = "Restaurant list unchanged since the ETag sent in If-None-Match",
+                    content = @Content),
             @ApiResponse(responseCode = "401",
                     description = "Not authenticated",
                     content = @Content)
     })
     @GetMapping
-    public ResponseEntity<PagedResponse<RestaurantListItemResponse>> getAllRestaurants(
+    public ResponseEntity<byte[]> getAllRestaurants(
             @Parameter(description = "Page number (0-based)", example = "0")
             @RequestParam(name = "page", defaultValue = "0") @Min(0) int page,
             @Parameter(description = "Number of elements per page", example = "10")
-            @RequestParam(name = "size", defaultValue = "10") @Min(1) int size) {
-        PagedResponse<RestaurantListItemResponse> response = restaurantHandler.getAllRestaurants(page, size);
-        return ResponseEntity.ok(response);
+            @RequestParam(name = "size", defaultValue = "10") @Min(1) int size,
+            @Parameter(description = "Whether to compute totalElements and totalPages; " +
+                    "false skips the count query, reports them as -1 and relies on hasNext", example = "true")
+            @RequestParam(name = "countTotal", defaultValue = "true") boolean countTotal,
+            WebRequest webRequest) {
+        String etag = dataVersionETags.restaurants();
+        String acceptEncoding = webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (webRequest.checkNotModified(RenderedPageCache.responseETag(etag, acceptEncoding))) {
+            return null;
+        }
+        return renderedPageCache.render(etag, "page=" + page + "&size=" + size + "&countTotal=" + countTotal,
+                acceptEncoding,
+                () -> restaurantHandler.getAllRestaurants(page, size, countTotal));
     }
 
     @Operation(summary = "List dishes by restaurant",
@@ -99,6 +115,9 @@ public class RestaurantRestController {
                     description = "Dishes retrieved successfully",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = PagedResponse.class))),
+            @ApiResponse(responseCode = "304",
+                    description = "Menu unchanged since the ETag sent in If-None-Match",
+                    content = @Content),
             @ApiResponse(responseCode = "401",
                     description = "Not authenticated",
                     content = @Content),
@@ -107,7 +126,7 @@ public class RestaurantRestController {
                     content = @Content)
     })
     @GetMapping("/{restaurantId}/dishes")
-    public ResponseEntity<PagedResponse<DishMenuItemResponseDto>> getDishesByRestaurant(
+    public ResponseEntity<byte[]> getDishesByRestaurant(
             @Parameter(description = "ID of the restaurant", required = true)
             @PathVariable(name = "restaurantId") Long restaurantId,
             @Parameter(description = "Category to filter dishes (optional)", example = "MAIN_COURSE")
@@ -115,9 +134,19 @@ public class RestaurantRestController {
             @Parameter(description = "Page number (0-based)", example = "0")
             @RequestParam(name = "page", defaultValue = "0") @Min(0) int page,
             @Parameter(description = "Number of elements per page", example = "10")
-            @RequestParam(name = "size", defaultValue = "10") @Min(1) int size) {
-        PagedResponse<DishMenuItemResponseDto> response = dishHandler.getDishesByRestaurant(
-                restaurantId, category, page, size);
-        return ResponseEntity.ok(response);
+            @RequestParam(name = "size", defaultValue = "10") @Min(1) int size,
+            @Parameter(description = "Whether to compute totalElements and totalPages; " +
+                    "false skips the count query, reports them as -1 and relies on hasNext", example = "true")
+            @RequestParam(name = "countTotal", defaultValue = "true") boolean countTotal,
+            WebRequest webRequest) {
+        String etag = dataVersionETags.menu(restaurantId);
+        String acceptEncoding = webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (webRequest.checkNotModified(RenderedPageCache.responseETag(etag, acceptEncoding))) {
+            return null;
+        }
+        return renderedPageCache.render(etag,
+                "category=" + category + "&page=" + page + "&size=" + size + "&countTotal=" + countTotal,
+                acceptEncoding,
+                () -> dishHandler.getDishesByRestaurant(restaurantId, category, page, size, countTotal));
     }
 }
@@ -0,0 +1,429 @@
+package com.pragma.plazoleta.infrastructure.output.event;
+
+import com.pragma.plazoleta.domain.model.ChangeEvent;
+import com.pragma.plazoleta.domain.spi.IChangeEventPort;
+import com.pragma.plazoleta.infrastructure.configuration.WorkerThreads;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Lightweight bus between the instances of the service, built on PostgreSQL {@code LISTEN/NOTIFY}.
+ * <ul>
+ *     <li>Messages are buffered for a short coalescing window and sent as a few {@code NOTIFY}
+ *     batches. Messages with the same key in one window collapse into the latest, so a burst of
+ *     edits to one dish reaches the other instances once.</li>
+ *     <li>Each instance listens on a dedicated connection outside the pool and hands the messages
+ *     of the other instances to the handlers of their topic. Its own messages are skipped: the
+ *     publisher already applied the change locally.</li>
+ *     <li>When the listening connection drops it reconnects with exponential backoff.
+ *     Notifications sent meanwhile are lost, so the resync handlers run after reconnecting.</li>
+ *     <li>A batch that cannot be sent goes back to the pending events and is retried with the
+ *     same backoff; events queued meanwhile with the same key still replace it. After
+ *     {@code cluster-events.max-send-attempts} failures its events are dropped and replaced by a
+ *     resync marker, so once the bus works again the other instances run their resync handlers
+ *     instead of keeping what they derived from the lost events.</li>
+ * </ul>
+ * Delivery is best effort; anything that must not be lost belongs in the database.
+ */
+@Slf4j
+@Component
+public class ClusterEventBus implements IChangeEventPort {
+
+    public static final String CHANGE_TOPIC = "change";
+
+    /** Topic of the marker that asks the other instances to resync; never handed to subscribers. */
+    static final String RESYNC_TOPIC = "__resync";
+
+    /** PostgreSQL rejects NOTIFY payloads of 8000 bytes or more. */
+    static final int MAX_PAYLOAD_BYTES = 7900;
+
+    private static final Pattern CHANNEL_PATTERN = Pattern.compile("[a-z_][a-z0-9_]*");
+    private static final int LISTEN_POLL_MILLIS = 5000;
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+    private static final Duration RECONNECT_BASE_DELAY = Duration.ofMillis(500);
+    private static final int MAX_BACKOFF_EXPONENT = 20;
+    private static final int DEFAULT_MAX_SEND_ATTEMPTS = 5;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final JsonMapper jsonMapper;
+    private final PayloadSender sender;
+    private final Duration coalesceWindow;
+    private final int envelopeBytes;
+    private final ScheduledExecutorService flushScheduler;
+    private final Map<String, List<Handler<?>>> handlers = new ConcurrentHashMap<>();
+    private final List<Runnable> resyncHandlers = new CopyOnWriteArrayList<>();
+    private final Object pendingLock = new Object();
+    private final Counter sentCounter;
+    private final Counter coalescedCounter;
+    private final Counter receivedCounter;
+    private final Counter failedCounter;
+    private final Counter retryCounter;
+    private final Counter reconnectCounter;
+    private LinkedHashMap<String, ClusterEvent> pending = new LinkedHashMap<>();
+    private long unkeyedSequence;
+    private int failedSendAttempts;
+    private int maxSendAttempts = DEFAULT_MAX_SEND_ATTEMPTS;
+    private Duration reconnectMaxDelay = Duration.ofSeconds(30);
+    private volatile boolean running = true;
+
+    @Autowired
+    public ClusterEventBus(
+            JsonMapper jsonMapper,
+            MeterRegistry meterRegistry,
+            DataSource dataSource,
+            WorkerThreads workerThreads,
+            @Value("${cluster-events.enabled:true}") boolean enabled,
+            @Value("${cluster-events.channel:plazoleta_events}") String channel,
+            @Value("${cluster-events.coalesce-window-ms:50}") long coalesceWindowMs,
+            @Value("${cluster-events.reconnect-max-delay-ms:30000}") long reconnectMaxDelayMs,
+            @Value("${cluster-events.max-send-attempts:5}") int maxSendAttempts,
+            @Value("${spring.datasource.url}") String url,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password) {
+        this(jsonMapper, meterRegistry,
+                enabled ? payloads -> notifyChannel(dataSource, validChannel(channel), payloads) : _ -> { },
+                Duration.ofMillis(coalesceWindowMs), workerThreads);
+        this.reconnectMaxDelay = Duration.ofMillis(reconnectMaxDelayMs);
+        this.maxSendAttempts = maxSendAttempts;
+        if (enabled) {
+            workerThreads.single("cluster-events-listener")
+                    .newThread(() -> listen(validChannel(channel), () -> DriverManager.getConnection(url, username, password)))
+                    .start();
+        } else {
+            running = false;
+        }
+    }
+
+    ClusterEventBus(JsonMapper jsonMapper, MeterRegistry meterRegistry, PayloadSender sender, Duration coalesceWindow,
+                    WorkerThreads workerThreads) {
+        this.jsonMapper = jsonMapper;
+        this.sender = sender;
+        this.coalesceWindow = coalesceWindow;
+        this.envelopeBytes = jsonMapper.writeValueAsBytes(new ClusterBatch(instanceId, List.of())).length;
+        this.flushScheduler = Executors.newSingleThreadScheduledExecutor(workerThreads.single("cluster-events-flush"));
+        this.sentCounter = Counter.builder("cluster.events.sent")
+                .description("Events sent to the other instances")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("cluster.events.coalesced")
+                .description("Events replaced by a later event with the same key before being sent")
+                .register(meterRegistry);
+        this.receivedCounter = Counter.builder("cluster.events.received")
+                .description("Events received from the other instances")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("cluster.events.failed")
+                .description("Events dropped without being sent; the other instances are asked to resync instead")
+                .register(meterRegistry);
+        this.retryCounter = Counter.builder("cluster.events.retries")
+                .description("Failed sends of a batch that was queued again")
+                .register(meterRegistry);
+        this.reconnectCounter = Counter.builder("cluster.events.reconnects")
+                .description("Times the listening connection was lost and reopened")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void publish(ChangeEvent event) {
+        String key = event.getType() + ":" + event.getEntityId();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(CHANGE_TOPIC, key, event);
+                }
+            });
+        } else {
+            send(CHANGE_TOPIC, key, event);
+        }
+    }
+
+    /**
+     * Queues the payload for the other instances. Within one coalescing window only the latest
+     * payload of each key is sent; a null key is never coalesced.
+     */
+    public void send(String topic, String key, Object payload) {
+        ClusterEvent event = new ClusterEvent(topic, jsonMapper.valueToTree(payload));
+        boolean firstPending;
+        synchronized (pendingLock) {
+            String slot = key != null ? topic + ":" + key : topic + "#" + ++unkeyedSequence;
+            firstPending = pending.isEmpty();
+            if (pending.remove(slot) != null) {
+                coalescedCounter.increment();
+            }
+            pending.put(slot, event);
+        }
+        if (firstPending) {
+            try {
+                flushScheduler.schedule(this::flush, coalesceWindow.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException _) {
+                flush();
+            }
+        }
+    }
+
+    /**
+     * Registers a handler for the payloads other instances send on the topic.
+     */
+    public <T> void subscribe(String topic, Class<T> type, Consumer<T> handler) {
+        handlers.computeIfAbsent(topic, _ -> new CopyOnWriteArrayList<>()).add(new Handler<>(type, handler));
+    }
+
+    /**
+     * Registers a callback for when notifications may have been missed, so the subscriber can
+     * drop whatever it derived from them.
+     */
+    public void onResync(Runnable handler) {
+        resyncHandlers.add(handler);
+    }
+
+    void flush() {
+        LinkedHashMap<String, ClusterEvent> batch;
+        synchronized (pendingLock) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            pending = new LinkedHashMap<>();
+        }
+        try {
+            sender.send(encode(batch.values()));
+            sentCounter.increment(batch.size());
+            synchronized (pendingLock) {
+                failedSendAttempts = 0;
+            }
+        } catch (SQLException | RuntimeException e) {
+            retryLater(batch, e);
+        }
+    }
+
+    /**
+     * Puts a batch that could not be sent back in front of the pending events, or replaces it
+     * with a resync marker once it has failed too many times, and schedules another flush.
+     */
+    private void retryLater(LinkedHashMap<String, ClusterEvent> batch, Exception failure) {
+        int attempts;
+        synchronized (pendingLock) {
+            attempts = ++failedSendAttempts;
+            LinkedHashMap<String, ClusterEvent> retry = new LinkedHashMap<>();
+            if (attempts >= maxSendAttempts) {
+                batch.remove(RESYNC_TOPIC);
+                failedCounter.increment(batch.size());
+                retry.put(RESYNC_TOPIC, new ClusterEvent(RESYNC_TOPIC, null));
+            } else {
+                retry.putAll(batch);
+            }
+            pending.forEach((slot, event) -> {
+                retry.remove(slot);
+                retry.put(slot, event);
+            });
+            pending = retry;
+        }
+        retryCounter.increment();
+        Duration delay = reconnectDelay(attempts);
+        log.warn("Could not send {} cluster events (attempt {}), retrying in {} ms: {}",
+                batch.size(), attempts, delay.toMillis(), failure.getMessage());
+        try {
+            flushScheduler.schedule(this::flush, delay.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException _) {
+            log.warn("Cluster event bus is shutting down; {} events were not sent", batch.size());
+        }
+    }
+
+    /**
+     * Packs the events into as few payloads as fit the NOTIFY size limit.
+     */
+    List<String> encode(Collection<ClusterEvent> events) {
+        List<String> payloads = new ArrayList<>();
+        List<ClusterEvent> chunk = new ArrayList<>();
+        int chunkBytes = envelopeBytes;
+        for (ClusterEvent event : events) {
+            int eventBytes = jsonMapper.writeValueAsBytes(event).length + 1;
+            if (envelopeBytes + eventBytes > MAX_PAYLOAD_BYTES) {
+                failedCounter.increment();
+                log.warn("Cluster event on topic {} exceeds the notification size limit and was dropped", event.topic());
+                continue;
+            }
+            if (!chunk.isEmpty() && chunkBytes + eventBytes > MAX_PAYLOAD_BYTES) {
+                payloads.add(jsonMapper.writeValueAsString(new ClusterBatch(instanceId, chunk)));
+                chunk = new ArrayList<>();
+                chunkBytes = envelopeBytes;
+            }
+            chunk.add(event);
+            chunkBytes += eventBytes;
+        }
+        if (!chunk.isEmpty()) {
+            payloads.add(jsonMapper.writeValueAsString(new ClusterBatch(instanceId, chunk)));
+        }
+        return payloads;
+    }
+
+    void dispatch(String payload) {
+        ClusterBatch batch;
+        try {
+            batch = jsonMapper.readValue(payload, ClusterBatch.class);
+        } catch (JacksonException e) {
+            log.warn("Ignoring malformed cluster notification: {}", e.getMessage());
+            return;
+        }
+        if (instanceId.equals(batch.origin())) {
+            return;
+        }
+        for (ClusterEvent event : batch.events()) {
+            if (RESYNC_TOPIC.equals(event.topic())) {
+                log.info("Instance {} lost cluster events, resyncing", batch.origin());
+                resync();
+                continue;
+            }
+            receivedCounter.increment();
+            for (Handler<?> handler : handlers.getOrDefault(event.topic(), List.of())) {
+                try {
+                    handler.accept(jsonMapper, event.payload());
+                } catch (RuntimeException e) {
+                    log.warn("Cluster event handler for topic {} failed: {}", event.topic(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    void resync() {
+        for (Runnable handler : resyncHandlers) {
+            try {
+                handler.run();
+            } catch (RuntimeException e) {
+                log.warn("Cluster resync handler failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    Duration reconnectDelay(int failures) {
+        int exponent = Math.min(Math.max(failures - 1, 0), MAX_BACKOFF_EXPONENT);
+        Duration delay = RECONNECT_BASE_DELAY.multipliedBy(1L << exponent);
+        return delay.compareTo(reconnectMaxDelay) > 0 ? reconnectMaxDelay : delay;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        flush();
+        flushScheduler.shutdownNow();
+    }
+
+    private void listen(String channel, ConnectionFactory connectionFactory) {
+        int failures = 0;
+        while (running) {
+            try (Connection connection = connectionFactory.open()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                if (failures > 0) {
+                    log.info("Cluster event listener reconnected after {} attempts", failures);
+                    resync();
+                    failures = 0;
+                }
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(LISTEN_POLL_MILLIS);
+                    if (notifications == null || notifications.length == 0) {
+                        if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                            throw new SQLException("Listener connection is no longer valid");
+                        }
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        dispatch(notification.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                reconnectCounter.increment();
+                Duration delay = reconnectDelay(++failures);
+                log.warn("Cluster event listener lost its connection, retrying in {} ms: {}",
+                        delay.toMillis(), e.getMessage());
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException _) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private static void notifyChannel(DataSource dataSource, String channel, List<String> payloads) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+            for (String payload : payloads) {
+                statement.setString(1, channel);
+                statement.setString(2, payload);
+                statement.execute();
+            }
+        }
+    }
+
+    private static String validChannel(String channel) {
+        if (!CHANNEL_PATTERN.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid cluster event channel name: " + channel);
+        }
+        return channel;
+    }
+
+    @FunctionalInterface
+    interface PayloadSender {
+
+        void send(List<String> payloads) throws SQLException;
+    }
+
+    @FunctionalInterface
+    private interface ConnectionFactory {
+
+        Connection open() throws SQLException;
+    }
+
+    record ClusterEvent(String topic, JsonNode payload) {
+    }
+
+    record ClusterBatch(String origin, List<ClusterEvent> events) {
+    }
+
+    private record Handler<T>(Class<T> type, Consumer<T> consumer) {
+
+        private void accept(JsonMapper jsonMapper, JsonNode payload) {
+            consumer.accept(jsonMapper.treeToValue(payload, type));
+        }
+    }
+}
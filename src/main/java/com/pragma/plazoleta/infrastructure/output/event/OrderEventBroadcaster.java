@@ -0,0 +1,427 @@
+package com.pragma.plazoleta.infrastructure.output.event;
+
+import com.pragma.plazoleta.domain.model.OrderEvent;
+import com.pragma.plazoleta.domain.spi.IOrderEventPort;
+import com.pragma.plazoleta.infrastructure.configuration.WorkerThreads;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Streams order events to the employees of each restaurant over Server-Sent Events.
+ * <ul>
+ *     <li>Events are fanned out after the transaction commits. Publishing only enqueues, so a slow
+ *     connection never holds up order processing.</li>
+ *     <li>Each subscriber has a bounded queue drained by a small dispatcher pool. A subscriber that
+ *     falls behind is disconnected and resumes with {@code Last-Event-ID}.</li>
+ *     <li>The last events of each restaurant are kept in a ring buffer for resuming. When the
+ *     requested id is no longer buffered, or was issued by another instance, a {@code reset}
+ *     event asks the client to reload the order list.</li>
+ *     <li>When the cluster bus reconnects, events from other instances may have been missed: every
+ *     feed gets a new version and its buffer is dropped, and open streams get a {@code reset}.</li>
+ * </ul>
+ * Idle connections hold no thread, only their emitter and queue. Events are also sent over the
+ * {@link ClusterEventBus}, so tablets connected to any instance see the orders handled by the others.
+ */
+@Component
+public class OrderEventBroadcaster implements IOrderEventPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderEventBroadcaster.class);
+
+    static final String RESET_EVENT = "reset";
+    static final String ORDER_TOPIC = "order";
+
+    private final String instanceEpoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final AtomicLong sequence = new AtomicLong();
+    private final ConcurrentHashMap<Long, RestaurantFeed> feeds = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private volatile long resyncSequence;
+    private final ClusterEventBus clusterEventBus;
+    private final ExecutorService dispatcher;
+    private final ScheduledExecutorService heartbeatScheduler;
+    private final int replaySize;
+    private final int subscriberQueueCapacity;
+    private final Duration emitterTimeout;
+    private final Counter publishedCounter;
+    private final Counter droppedCounter;
+
+    @Autowired
+    public OrderEventBroadcaster(
+            MeterRegistry meterRegistry,
+            ClusterEventBus clusterEventBus,
+            WorkerThreads workerThreads,
+            @Value("${order-events.replay-size:256}") int replaySize,
+            @Value("${order-events.subscriber-queue-capacity:64}") int subscriberQueueCapacity,
+            @Value("${order-events.dispatcher-threads:2}") int dispatcherThreads,
+            @Value("${order-events.heartbeat-seconds:20}") long heartbeatSeconds,
+            @Value("${order-events.emitter-timeout-minutes:30}") long emitterTimeoutMinutes) {
+        this(meterRegistry, clusterEventBus, replaySize, subscriberQueueCapacity,
+                Executors.newFixedThreadPool(dispatcherThreads, workerThreads.pool("order-events-dispatch-")),
+                Duration.ofMinutes(emitterTimeoutMinutes), workerThreads);
+        heartbeatScheduler.scheduleAtFixedRate(this::sendHeartbeats, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+    }
+
+    OrderEventBroadcaster(MeterRegistry meterRegistry, ClusterEventBus clusterEventBus, int replaySize,
+                          int subscriberQueueCapacity, ExecutorService dispatcher, Duration emitterTimeout,
+                          WorkerThreads workerThreads) {
+        this.clusterEventBus = clusterEventBus;
+        this.replaySize = replaySize;
+        this.subscriberQueueCapacity = subscriberQueueCapacity;
+        this.dispatcher = dispatcher;
+        this.emitterTimeout = emitterTimeout;
+        this.heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(
+                workerThreads.single("order-events-heartbeat"));
+        this.publishedCounter = Counter.builder("order.events.published")
+                .description("Order events fanned out to subscribers")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("order.events.subscribers.dropped")
+                .description("Subscribers disconnected because they fell behind")
+                .register(meterRegistry);
+        Gauge.builder("order.events.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open order event streams")
+                .register(meterRegistry);
+        clusterEventBus.subscribe(ORDER_TOPIC, OrderEvent.class, this::broadcast);
+        clusterEventBus.onResync(this::resync);
+    }
+
+    @Override
+    public void publish(OrderEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    broadcastAndShare(event);
+                }
+            });
+        } else {
+            broadcastAndShare(event);
+        }
+    }
+
+    /**
+     * Opens a stream of the restaurant's order events, first replaying those after
+     * {@code lastEventId} when it is given.
+     */
+    public SseEmitter subscribe(Long restaurantId, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+        Subscriber subscriber = subscribe(restaurantId, lastEventId, new SseEventSink(emitter));
+        emitter.onCompletion(() -> unsubscribe(restaurantId, subscriber));
+        emitter.onTimeout(() -> unsubscribe(restaurantId, subscriber));
+        emitter.onError(_ -> unsubscribe(restaurantId, subscriber));
+        return emitter;
+    }
+
+    Subscriber subscribe(Long restaurantId, String lastEventId, EventSink sink) {
+        Subscriber subscriber = new Subscriber(sink);
+        RestaurantFeed feed = feeds.computeIfAbsent(restaurantId, _ -> new RestaurantFeed(resyncSequence));
+        synchronized (feed) {
+            if (lastEventId != null) {
+                List<OrderEventMessage> replay = feed.replayAfter(lastEventId);
+                if (replay == null || replay.size() > subscriberQueueCapacity) {
+                    subscriber.offer(OrderEventMessage.reset(nextId()));
+                } else {
+                    replay.forEach(subscriber::offer);
+                }
+            }
+            feed.subscribers.add(subscriber);
+            subscriberCount.incrementAndGet();
+        }
+        schedule(restaurantId, subscriber);
+        return subscriber;
+    }
+
+    private void broadcastAndShare(OrderEvent event) {
+        broadcast(event);
+        clusterEventBus.send(ORDER_TOPIC, null, event);
+    }
+
+    void broadcast(OrderEvent event) {
+        RestaurantFeed feed = feeds.computeIfAbsent(event.getRestaurantId(), _ -> new RestaurantFeed(resyncSequence));
+        List<Subscriber> targets;
+        List<Subscriber> laggards;
+        synchronized (feed) {
+            OrderEventMessage message = OrderEventMessage.of(nextId(), event);
+            feed.append(message);
+            targets = List.copyOf(feed.subscribers);
+            laggards = offerAll(targets, message);
+        }
+        publishedCounter.increment();
+        dispatch(event.getRestaurantId(), targets, laggards);
+    }
+
+    /**
+     * Runs when the cluster bus reconnects. The events missed meanwhile cannot be replayed, so
+     * every feed starts over at a new sequence and its subscribers are asked to reload.
+     */
+    void resync() {
+        resyncSequence = sequence.incrementAndGet();
+        feeds.forEach((restaurantId, feed) -> {
+            List<Subscriber> targets;
+            List<Subscriber> laggards;
+            synchronized (feed) {
+                OrderEventMessage reset = OrderEventMessage.reset(nextId());
+                feed.restartAt(sequenceOf(reset.id()));
+                targets = List.copyOf(feed.subscribers);
+                laggards = offerAll(targets, reset);
+            }
+            dispatch(restaurantId, targets, laggards);
+        });
+    }
+
+    /**
+     * Version of the restaurant's orders: the sequence of its latest event, local or received from
+     * another instance, or of the latest resync when that is newer. Only meaningful within this
+     * instance.
+     */
+    public long ordersVersion(Long restaurantId) {
+        RestaurantFeed feed = feeds.get(restaurantId);
+        return Math.max(feed != null ? feed.lastSequence : 0, resyncSequence);
+    }
+
+    int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatScheduler.shutdownNow();
+        feeds.values().forEach(feed -> List.copyOf(feed.subscribers).forEach(Subscriber::close));
+        dispatcher.shutdownNow();
+    }
+
+    private void sendHeartbeats() {
+        feeds.forEach((restaurantId, feed) -> {
+            for (Subscriber subscriber : List.copyOf(feed.subscribers)) {
+                if (subscriber.offer(OrderEventMessage.HEARTBEAT)) {
+                    schedule(restaurantId, subscriber);
+                }
+            }
+        });
+    }
+
+    private static List<Subscriber> offerAll(List<Subscriber> targets, OrderEventMessage message) {
+        List<Subscriber> laggards = new ArrayList<>();
+        for (Subscriber subscriber : targets) {
+            if (!subscriber.offer(message)) {
+                laggards.add(subscriber);
+            }
+        }
+        return laggards;
+    }
+
+    private void dispatch(Long restaurantId, List<Subscriber> targets, List<Subscriber> laggards) {
+        for (Subscriber subscriber : targets) {
+            if (laggards.contains(subscriber)) {
+                droppedCounter.increment();
+                unsubscribe(restaurantId, subscriber);
+            } else {
+                schedule(restaurantId, subscriber);
+            }
+        }
+    }
+
+    private void schedule(Long restaurantId, Subscriber subscriber) {
+        if (subscriber.pending.isEmpty() || !subscriber.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            dispatcher.execute(() -> drain(restaurantId, subscriber));
+        } catch (RejectedExecutionException _) {
+            subscriber.draining.set(false);
+        }
+    }
+
+    private void drain(Long restaurantId, Subscriber subscriber) {
+        try {
+            OrderEventMessage message;
+            while (!subscriber.closed && (message = subscriber.poll()) != null) {
+                subscriber.sink.send(message);
+            }
+        } catch (IOException | IllegalStateException e) {
+            logger.debug("Order event stream of restaurant {} closed: {}", restaurantId, e.getMessage());
+            subscriber.close();
+        } finally {
+            subscriber.draining.set(false);
+        }
+        if (subscriber.closed) {
+            unsubscribe(restaurantId, subscriber);
+        } else {
+            schedule(restaurantId, subscriber);
+        }
+    }
+
+    private void unsubscribe(Long restaurantId, Subscriber subscriber) {
+        RestaurantFeed feed = feeds.get(restaurantId);
+        if (feed == null) {
+            return;
+        }
+        boolean removed;
+        synchronized (feed) {
+            removed = feed.subscribers.remove(subscriber);
+        }
+        if (removed) {
+            subscriberCount.decrementAndGet();
+            subscriber.close();
+        }
+    }
+
+    private String nextId() {
+        return instanceEpoch + "-" + sequence.incrementAndGet();
+    }
+
+    /**
+     * Returns the sequence of an id issued by this instance, or -1 when it comes from elsewhere.
+     */
+    private long sequenceOf(String eventId) {
+        int separator = eventId.lastIndexOf('-');
+        if (separator < 0 || !eventId.substring(0, separator).equals(instanceEpoch)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(separator + 1));
+        } catch (NumberFormatException _) {
+            return -1;
+        }
+    }
+
+    interface EventSink {
+
+        void send(OrderEventMessage message) throws IOException;
+
+        void close();
+    }
+
+    final class Subscriber {
+
+        private final EventSink sink;
+        private final ConcurrentLinkedQueue<OrderEventMessage> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscriber(EventSink sink) {
+            this.sink = sink;
+        }
+
+        boolean offer(OrderEventMessage message) {
+            if (closed || pendingCount.incrementAndGet() > subscriberQueueCapacity) {
+                pendingCount.decrementAndGet();
+                return false;
+            }
+            pending.add(message);
+            return true;
+        }
+
+        private OrderEventMessage poll() {
+            OrderEventMessage message = pending.poll();
+            if (message != null) {
+                pendingCount.decrementAndGet();
+            }
+            return message;
+        }
+
+        boolean isClosed() {
+            return closed;
+        }
+
+        private void close() {
+            if (!closed) {
+                closed = true;
+                sink.close();
+            }
+        }
+    }
+
+    private final class RestaurantFeed {
+
+        private final ArrayDeque<OrderEventMessage> recent = new ArrayDeque<>();
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        private long evictedUpTo;
+        private volatile long lastSequence;
+
+        private RestaurantFeed(long startSequence) {
+            this.evictedUpTo = startSequence;
+        }
+
+        private void append(OrderEventMessage message) {
+            if (recent.size() == replaySize) {
+                evictedUpTo = sequenceOf(recent.removeFirst().id());
+            }
+            recent.addLast(message);
+            lastSequence = sequenceOf(message.id());
+        }
+
+        private void restartAt(long startSequence) {
+            recent.clear();
+            evictedUpTo = startSequence;
+            lastSequence = startSequence;
+        }
+
+        /**
+         * Returns the buffered events after the given id, or null when the events in between
+         * can no longer be replayed.
+         */
+        private List<OrderEventMessage> replayAfter(String lastEventId) {
+            long lastSequence = sequenceOf(lastEventId);
+            if (lastSequence < evictedUpTo || lastSequence > sequence.get()) {
+                return null;
+            }
+            return recent.stream()
+                    .filter(message -> sequenceOf(message.id()) > lastSequence)
+                    .toList();
+        }
+    }
+
+    private static final class SseEventSink implements EventSink {
+
+        private final SseEmitter emitter;
+
+        private SseEventSink(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void send(OrderEventMessage message) throws IOException {
+            if (message == OrderEventMessage.HEARTBEAT) {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+                return;
+            }
+            emitter.send(SseEmitter.event()
+                    .id(message.id())
+                    .name(message.type())
+                    .data(message, MediaType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void close() {
+            emitter.complete();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.pragma.plazoleta.infrastructure.output.event;
+
+import com.pragma.plazoleta.domain.model.OrderEvent;
+import com.pragma.plazoleta.domain.model.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Payload of an order event stream entry. The type is the lifecycle step: created, assigned,
+ * ready, delivered or cancelled, or {@code reset} when the client must reload the order list.
+ */
+public record OrderEventMessage(
+        String id,
+        String type,
+        Long orderId,
+        Long restaurantId,
+        Long employeeId,
+        String previousStatus,
+        String status,
+        LocalDateTime occurredAt) {
+
+    static final OrderEventMessage HEARTBEAT = new OrderEventMessage(null, null, null, null, null, null, null, null);
+
+    static OrderEventMessage of(String id, OrderEvent event) {
+        return new OrderEventMessage(
+                id,
+                typeOf(event.getStatus()),
+                event.getOrderId(),
+                event.getRestaurantId(),
+                event.getEmployeeId(),
+                event.getPreviousStatus() != null ? event.getPreviousStatus().name() : null,
+                event.getStatus().name(),
+                event.getOccurredAt());
+    }
+
+    static OrderEventMessage reset(String id) {
+        return new OrderEventMessage(id, OrderEventBroadcaster.RESET_EVENT, null, null, null, null, null,
+                LocalDateTime.now());
+    }
+
+    private static String typeOf(OrderStatus status) {
+        return switch (status) {
+            case PENDING -> "created";
+            case IN_PREPARATION -> "assigned";
+            case READY -> "ready";
+            case DELIVERED -> "delivered";
+            case CANCELLED -> "cancelled";
+        };
+    }
+}
@@ -0,0 +1,221 @@
+package com.pragma.plazoleta.infrastructure.output.feign.adapter;
+
+import com.pragma.plazoleta.domain.spi.INotificationPort;
+import com.pragma.plazoleta.infrastructure.configuration.WorkerThreads;
+import com.pragma.plazoleta.infrastructure.constant.SecurityConstants;
+import com.pragma.plazoleta.infrastructure.output.feign.client.INotificationFeignClient;
+import com.pragma.plazoleta.infrastructure.output.feign.dto.NotificationResponseDto;
+import com.pragma.plazoleta.infrastructure.output.feign.dto.OrderReadyNotificationRequestDto;
+import feign.FeignException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends order-ready notifications off the request thread. Notifications are queued once the
+ * surrounding transaction commits and delivered by a fixed worker pool with a bounded queue.
+ * Failed deliveries are retried with exponential backoff; notifications that are rejected by the
+ * messaging service, exhaust their attempts or find the queue full end up in the dead-letter store.
+ */
+@Component
+@Primary
+public class AsyncNotificationAdapter implements INotificationPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncNotificationAdapter.class);
+    private static final int MAX_BACKOFF_EXPONENT = 20;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final INotificationFeignClient notificationFeignClient;
+    private final ThreadPoolExecutor workers;
+    private final ScheduledExecutorService retryScheduler;
+    private final BlockingDeque<FailedNotification> deadLetters;
+    private final int maxAttempts;
+    private final Duration retryBaseDelay;
+    private final Counter sentCounter;
+    private final Counter retryCounter;
+    private final Counter rejectedCounter;
+    private final Counter deadLetterCounter;
+
+    public AsyncNotificationAdapter(
+            INotificationFeignClient notificationFeignClient,
+            MeterRegistry meterRegistry,
+            WorkerThreads workerThreads,
+            @Value("${notification.async.workers:4}") int workerCount,
+            @Value("${notification.async.queue-capacity:500}") int queueCapacity,
+            @Value("${notification.async.max-attempts:4}") int maxAttempts,
+            @Value("${notification.async.retry-base-delay-ms:1000}") long retryBaseDelayMs,
+            @Value("${notification.async.dead-letter-capacity:1000}") int deadLetterCapacity) {
+        this.notificationFeignClient = notificationFeignClient;
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                workerThreads.pool("notification-worker-"));
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(workerThreads.single("notification-retry"));
+        this.deadLetters = new LinkedBlockingDeque<>(deadLetterCapacity);
+        this.maxAttempts = maxAttempts;
+        this.retryBaseDelay = Duration.ofMillis(retryBaseDelayMs);
+
+        Gauge.builder("notification.queue.size", workers, executor -> executor.getQueue().size())
+                .description("Notifications waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("notification.queue.remaining", workers, executor -> executor.getQueue().remainingCapacity())
+                .description("Free slots left in the notification queue")
+                .register(meterRegistry);
+        Gauge.builder("notification.workers.active", workers, ThreadPoolExecutor::getActiveCount)
+                .description("Workers currently delivering a notification")
+                .register(meterRegistry);
+        Gauge.builder("notification.dead_letter.size", deadLetters, BlockingDeque::size)
+                .description("Notifications held in the dead-letter store")
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder("notification.sent")
+                .description("Notifications accepted by the messaging service")
+                .register(meterRegistry);
+        this.retryCounter = Counter.builder("notification.retries")
+                .description("Notification delivery retries scheduled")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("notification.rejected")
+                .description("Notifications rejected because the queue was full")
+                .register(meterRegistry);
+        this.deadLetterCounter = Counter.builder("notification.dead_letter")
+                .description("Notifications moved to the dead-letter store")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void sendOrderReadyNotification(String phoneNumber, String orderId, String securityPin, String restaurantName) {
+        NotificationTask task = new NotificationTask(
+                currentAuthorizationHeader(),
+                new OrderReadyNotificationRequestDto(phoneNumber, orderId, securityPin, restaurantName),
+                1);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(task);
+                }
+            });
+        } else {
+            submit(task);
+        }
+    }
+
+    public List<FailedNotification> getDeadLetters() {
+        return List.copyOf(deadLetters);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        retryScheduler.shutdownNow();
+        workers.shutdown();
+        if (!workers.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            logger.warn("Notification workers did not finish in time; {} notifications left in the queue",
+                    workers.getQueue().size());
+            workers.shutdownNow();
+        }
+    }
+
+    Duration retryDelay(int attempt) {
+        int exponent = Math.min(Math.max(attempt - 1, 0), MAX_BACKOFF_EXPONENT);
+        return retryBaseDelay.multipliedBy(1L << exponent);
+    }
+
+    private void submit(NotificationTask task) {
+        try {
+            workers.execute(() -> deliver(task));
+        } catch (RejectedExecutionException _) {
+            rejectedCounter.increment();
+            deadLetter(task, "Notification queue is full");
+        }
+    }
+
+    private void deliver(NotificationTask task) {
+        String orderId = task.request().getOrderId();
+        try {
+            NotificationResponseDto response =
+                    notificationFeignClient.sendOrderReadyNotification(task.authorizationHeader(), task.request());
+            if (response != null && response.isSuccess()) {
+                sentCounter.increment();
+                logger.info("Order ready notification sent successfully for order {}. MessageId: {}",
+                        orderId, response.getMessageId());
+                return;
+            }
+            retryOrDeadLetter(task, response != null ? response.getMessage() : "Empty response");
+        } catch (FeignException e) {
+            if (e.status() >= 400 && e.status() < 500) {
+                deadLetter(task, e.getMessage());
+            } else {
+                retryOrDeadLetter(task, e.getMessage());
+            }
+        } catch (RuntimeException e) {
+            retryOrDeadLetter(task, e.getMessage());
+        }
+    }
+
+    private void retryOrDeadLetter(NotificationTask task, String reason) {
+        if (task.attempt() >= maxAttempts) {
+            deadLetter(task, reason);
+            return;
+        }
+        logger.warn("Notification for order {} failed on attempt {}: {}",
+                task.request().getOrderId(), task.attempt(), reason);
+        retryCounter.increment();
+        NotificationTask retry = task.nextAttempt();
+        try {
+            retryScheduler.schedule(() -> submit(retry), retryDelay(task.attempt()).toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException _) {
+            deadLetter(task, reason);
+        }
+    }
+
+    private void deadLetter(NotificationTask task, String reason) {
+        FailedNotification failed = new FailedNotification(task.request(), task.attempt(), reason, Instant.now());
+        while (!deadLetters.offerLast(failed)) {
+            deadLetters.pollFirst();
+        }
+        deadLetterCounter.increment();
+        logger.error("Order ready notification for order {} moved to dead letter after {} attempt(s): {}",
+                task.request().getOrderId(), task.attempt(), reason);
+    }
+
+    private static String currentAuthorizationHeader() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getCredentials() instanceof String token) {
+            return SecurityConstants.BEARER_PREFIX + token;
+        }
+        return null;
+    }
+
+    public record FailedNotification(OrderReadyNotificationRequestDto request, int attempts, String reason,
+                                     Instant failedAt) {
+    }
+
+    private record NotificationTask(String authorizationHeader, OrderReadyNotificationRequestDto request,
+                                    int attempt) {
+
+        NotificationTask nextAttempt() {
+            return new NotificationTask(authorizationHeader, request, attempt + 1);
+        }
+    }
+}
@@ -1,7 +1,8 @@
 package com.pragma.plazoleta.infrastructure.output.feign.adapter;
 
 import com.pragma.plazoleta.domain.spi.IClientInfoPort;
-import com.pragma.plazoleta.infrastructure.output.feign.client.IUserFeignClient;
+import com.pragma.plazoleta.infrastructure.cache.RequestMemo;
+import com.pragma.plazoleta.infrastructure.cache.UserInfoCache;
 import com.pragma.plazoleta.infrastructure.output.feign.dto.UserDto;
 import feign.FeignException;
 import org.slf4j.Logger;
@@ -15,16 +16,16 @@ public class ClientInfoFeignAdapter implements IClientInfoPort {
 
     private static final Logger logger = LoggerFactory.getLogger(ClientInfoFeignAdapter.class);
 
-    private final IUserFeignClient userFeignClient;
+    private final UserInfoCache userInfoCache;
 
-    public ClientInfoFeignAdapter(IUserFeignClient userFeignClient) {
-        this.userFeignClient = userFeignClient;
+    public ClientInfoFeignAdapter(UserInfoCache userInfoCache) {
+        this.userInfoCache = userInfoCache;
     }
 
     @Override
     public Optional<String> getClientPhoneById(Long clientId) {
         try {
-            return userFeignClient.getUserById(clientId)
+            return findUser(clientId)
                     .map(UserDto::getPhone);
         } catch (FeignException e) {
             logger.error("Error fetching client phone for id {}: {}", clientId, e.getMessage(), e);
@@ -35,11 +36,15 @@ public class ClientInfoFeignAdapter implements IClientInfoPort {
     @Override
     public Optional<String> getClientEmailById(Long clientId) {
         try {
-            return userFeignClient.getUserById(clientId)
+            return findUser(clientId)
                     .map(UserDto::getEmail);
         } catch (FeignException e) {
             logger.error("Error fetching client email for id {}: {}", clientId, e.getMessage(), e);
             return Optional.empty();
         }
     }
+
+    private Optional<UserDto> findUser(Long userId) {
+        return RequestMemo.get(RequestMemo.USERS, userId, () -> userInfoCache.getUserById(userId));
+    }
 }
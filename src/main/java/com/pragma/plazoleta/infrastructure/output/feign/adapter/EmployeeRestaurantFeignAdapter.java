@@ -1,7 +1,8 @@
 package com.pragma.plazoleta.infrastructure.output.feign.adapter;
 
 import com.pragma.plazoleta.domain.spi.IEmployeeRestaurantPort;
-import com.pragma.plazoleta.infrastructure.output.feign.client.IUserFeignClient;
+import com.pragma.plazoleta.infrastructure.cache.RequestMemo;
+import com.pragma.plazoleta.infrastructure.cache.UserInfoCache;
 import com.pragma.plazoleta.infrastructure.output.feign.dto.UserDto;
 import feign.FeignException;
 import org.springframework.stereotype.Component;
@@ -11,16 +12,16 @@ import java.util.Optional;
 @Component
 public class EmployeeRestaurantFeignAdapter implements IEmployeeRestaurantPort {
 
-    private final IUserFeignClient userFeignClient;
+    private final UserInfoCache userInfoCache;
 
-    public EmployeeRestaurantFeignAdapter(IUserFeignClient userFeignClient) {
-        this.userFeignClient = userFeignClient;
+    public EmployeeRestaurantFeignAdapter(UserInfoCache userInfoCache) {
+        this.userInfoCache = userInfoCache;
     }
 
     @Override
     public Optional<Long> getRestaurantIdByEmployeeId(Long employeeId) {
         try {
-            return userFeignClient.getUserById(employeeId)
+            return findUser(employeeId)
                     .map(UserDto::getRestaurantId);
         } catch (FeignException _) {
             return Optional.empty();
@@ -30,10 +31,14 @@ public class EmployeeRestaurantFeignAdapter implements IEmployeeRestaurantPort {
     @Override
     public Optional<String> getEmployeeEmailById(Long employeeId) {
         try {
-            return userFeignClient.getUserById(employeeId)
+            return findUser(employeeId)
                     .map(UserDto::getEmail);
         } catch (FeignException _) {
             return Optional.empty();
         }
     }
+
+    private Optional<UserDto> findUser(Long userId) {
+        return RequestMemo.get(RequestMemo.USERS, userId, () -> userInfoCache.getUserById(userId));
+    }
 }
@@ -0,0 +1,61 @@
+package com.pragma.plazoleta.infrastructure.output.feign.adapter;
+
+import com.pragma.plazoleta.domain.model.EmployeeRanking;
+import com.pragma.plazoleta.domain.model.OrderEfficiency;
+import com.pragma.plazoleta.domain.model.Traceability;
+import com.pragma.plazoleta.domain.spi.ITraceabilityPort;
+import com.pragma.plazoleta.infrastructure.output.feign.mapper.TraceabilityFeignMapper;
+import com.pragma.plazoleta.infrastructure.output.jpa.entity.TraceabilityOutboxEntity;
+import com.pragma.plazoleta.infrastructure.output.jpa.repository.ITraceabilityOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Records traceability events in the outbox table within the caller's transaction, so an order
+ * change and its event are committed together. {@link TraceabilityOutboxRelay} delivers them to
+ * the traceability service afterwards. Reads go straight to the service.
+ */
+@Component
+@Primary
+@RequiredArgsConstructor
+public class TraceabilityOutboxAdapter implements ITraceabilityPort {
+
+    private final ITraceabilityOutboxRepository outboxRepository;
+    private final TraceabilityFeignMapper traceabilityFeignMapper;
+    private final TraceabilityFeignAdapter traceabilityFeignAdapter;
+    private final JsonMapper jsonMapper;
+
+    @Override
+    @Transactional
+    public void saveTraceability(Traceability traceability) {
+        Instant now = Instant.now();
+        TraceabilityOutboxEntity event = TraceabilityOutboxEntity.builder()
+                .orderId(traceability.getOrderId())
+                .payload(jsonMapper.writeValueAsString(traceabilityFeignMapper.toRequest(traceability)))
+                .createdAt(now)
+                .nextAttemptAt(now)
+                .build();
+        outboxRepository.save(event);
+    }
+
+    @Override
+    public List<Traceability> getTraceabilityByOrderId(Long orderId) {
+        return traceabilityFeignAdapter.getTraceabilityByOrderId(orderId);
+    }
+
+    @Override
+    public List<OrderEfficiency> getOrdersEfficiencyByRestaurant(Long restaurantId) {
+        return traceabilityFeignAdapter.getOrdersEfficiencyByRestaurant(restaurantId);
+    }
+
+    @Override
+    public List<EmployeeRanking> getEmployeeRankingByRestaurant(Long restaurantId) {
+        return traceabilityFeignAdapter.getEmployeeRankingByRestaurant(restaurantId);
+    }
+}
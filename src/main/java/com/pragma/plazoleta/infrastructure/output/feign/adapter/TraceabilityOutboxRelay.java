@@ -0,0 +1,252 @@
+package com.pragma.plazoleta.infrastructure.output.feign.adapter;
+
+import com.pragma.plazoleta.domain.spi.IClientInfoPort;
+import com.pragma.plazoleta.infrastructure.output.feign.client.ITraceabilityFeignClient;
+import com.pragma.plazoleta.infrastructure.output.feign.dto.TraceabilityRequestDto;
+import com.pragma.plazoleta.infrastructure.output.jpa.entity.TraceabilityOutboxEntity;
+import com.pragma.plazoleta.infrastructure.output.jpa.repository.ITraceabilityOutboxRepository;
+import feign.FeignException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the traceability outbox in batches. Each batch only holds the oldest pending event of
+ * every order, so an order's events reach the traceability service in the order they happened.
+ * <ul>
+ *     <li>A batch is leased in one short transaction by moving its next attempt past the lease,
+ *     posted with no transaction or connection held, and its outcome recorded in a second short
+ *     transaction. A relay that dies mid-batch leaves the lease to expire and the events are
+ *     sent again.</li>
+ *     <li>An event without a client email, such as the one written when an order is claimed,
+ *     gets it looked up by client id just before it is posted.</li>
+ *     <li>Failed events are retried with exponential backoff; when the service is unreachable
+ *     the batch stops early instead of waiting for every remaining call to time out.</li>
+ *     <li>Events the service rejects (a 4xx other than 408 or 429), events whose payload cannot
+ *     be read and events that used up their attempts are parked: they stay in the table for
+ *     inspection but no longer hold back the later events of their order. Clearing
+ *     {@code parked_at} sends a parked event again.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class TraceabilityOutboxRelay {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+    private static final int MAX_BACKOFF_EXPONENT = 20;
+
+    private final ITraceabilityOutboxRepository outboxRepository;
+    private final ITraceabilityFeignClient traceabilityFeignClient;
+    private final IClientInfoPort clientInfoPort;
+    private final JsonMapper jsonMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryBaseDelay;
+    private final Duration retryMaxDelay;
+    private final Duration lease;
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicLong parked = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Counter relayedCounter;
+    private final Counter failedCounter;
+    private final Counter parkedCounter;
+
+    public TraceabilityOutboxRelay(
+            ITraceabilityOutboxRepository outboxRepository,
+            ITraceabilityFeignClient traceabilityFeignClient,
+            IClientInfoPort clientInfoPort,
+            JsonMapper jsonMapper,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${traceability.outbox.batch-size:100}") int batchSize,
+            @Value("${traceability.outbox.max-attempts:50}") int maxAttempts,
+            @Value("${traceability.outbox.retry-base-delay-ms:1000}") long retryBaseDelayMs,
+            @Value("${traceability.outbox.retry-max-delay-ms:300000}") long retryMaxDelayMs,
+            @Value("${traceability.outbox.lease-ms:120000}") long leaseMs) {
+        this.outboxRepository = outboxRepository;
+        this.traceabilityFeignClient = traceabilityFeignClient;
+        this.clientInfoPort = clientInfoPort;
+        this.jsonMapper = jsonMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBaseDelay = Duration.ofMillis(retryBaseDelayMs);
+        this.retryMaxDelay = Duration.ofMillis(retryMaxDelayMs);
+        this.lease = Duration.ofMillis(leaseMs);
+        Gauge.builder("traceability.outbox.backlog", backlog, AtomicLong::get)
+                .description("Traceability events waiting to be relayed")
+                .register(meterRegistry);
+        Gauge.builder("traceability.outbox.parked.size", parked, AtomicLong::get)
+                .description("Traceability events parked after a permanent failure")
+                .register(meterRegistry);
+        TimeGauge.builder("traceability.outbox.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("Age of the oldest traceability event waiting to be relayed")
+                .register(meterRegistry);
+        this.relayedCounter = Counter.builder("traceability.outbox.relayed")
+                .description("Traceability events delivered to the traceability service")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("traceability.outbox.failures")
+                .description("Failed traceability delivery attempts")
+                .register(meterRegistry);
+        this.parkedCounter = Counter.builder("traceability.outbox.parked")
+                .description("Traceability events parked after a permanent failure")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${traceability.outbox.poll-interval-ms:1000}")
+    public void relay() {
+        boolean hasMore = true;
+        while (hasMore) {
+            hasMore = relayBatch();
+        }
+        refreshBacklogMetrics();
+    }
+
+    private boolean relayBatch() {
+        Instant leasedAt = Instant.now();
+        List<TraceabilityOutboxEntity> batch = transactionTemplate.execute(_ -> leaseNextBatch(leasedAt));
+        if (batch == null || batch.isEmpty()) {
+            return false;
+        }
+
+        BatchOutcome outcome = deliver(batch, leasedAt);
+        transactionTemplate.executeWithoutResult(_ -> record(outcome));
+        return outcome.serviceAvailable() && outcome.unattempted().isEmpty() && batch.size() == batchSize;
+    }
+
+    private List<TraceabilityOutboxEntity> leaseNextBatch(Instant now) {
+        List<TraceabilityOutboxEntity> batch = outboxRepository.lockNextBatch(now, batchSize);
+        Instant leaseExpiry = now.plus(lease);
+        batch.forEach(event -> event.setNextAttemptAt(leaseExpiry));
+        outboxRepository.saveAll(batch);
+        return batch;
+    }
+
+    /**
+     * Posts the leased events one by one. No new post starts once half the lease is gone, so the
+     * last one still ends well before another relay may take the batch over.
+     */
+    private BatchOutcome deliver(List<TraceabilityOutboxEntity> batch, Instant leasedAt) {
+        Instant postDeadline = leasedAt.plus(lease.dividedBy(2));
+        List<TraceabilityOutboxEntity> delivered = new ArrayList<>(batch.size());
+        List<TraceabilityOutboxEntity> failed = new ArrayList<>();
+        List<TraceabilityOutboxEntity> unattempted = new ArrayList<>();
+        boolean serviceAvailable = true;
+
+        for (TraceabilityOutboxEntity event : batch) {
+            if (!serviceAvailable || Instant.now().isAfter(postDeadline)) {
+                event.setNextAttemptAt(leasedAt);
+                unattempted.add(event);
+                continue;
+            }
+            try {
+                traceabilityFeignClient.saveTraceability(
+                        withClientEmail(jsonMapper.readValue(event.getPayload(), TraceabilityRequestDto.class)));
+                delivered.add(event);
+            } catch (RuntimeException ex) {
+                registerFailure(event, ex);
+                failed.add(event);
+                serviceAvailable = !isServiceUnavailable(ex);
+            }
+        }
+        return new BatchOutcome(delivered, failed, unattempted, serviceAvailable);
+    }
+
+    private TraceabilityRequestDto withClientEmail(TraceabilityRequestDto request) {
+        if (request.getClientEmail() == null && request.getClientId() != null) {
+            clientInfoPort.getClientEmailById(request.getClientId()).ifPresent(request::setClientEmail);
+        }
+        return request;
+    }
+
+    private void record(BatchOutcome outcome) {
+        if (!outcome.delivered().isEmpty()) {
+            outboxRepository.deleteAllInBatch(outcome.delivered());
+            relayedCounter.increment(outcome.delivered().size());
+        }
+        List<TraceabilityOutboxEntity> rescheduled = new ArrayList<>(outcome.failed());
+        rescheduled.addAll(outcome.unattempted());
+        if (!rescheduled.isEmpty()) {
+            outboxRepository.saveAll(rescheduled);
+        }
+    }
+
+    private void registerFailure(TraceabilityOutboxEntity event, RuntimeException ex) {
+        Instant now = Instant.now();
+        int attempts = event.getAttempts() + 1;
+        event.setAttempts(attempts);
+        event.setLastError(truncate(ex.getMessage()));
+        failedCounter.increment();
+        if (!isRetryable(ex) || attempts >= maxAttempts) {
+            event.setParkedAt(now);
+            event.setNextAttemptAt(now);
+            parkedCounter.increment();
+            log.error("Traceability event {} for order {} parked after attempt {}: {}",
+                    event.getId(), event.getOrderId(), attempts, ex.getMessage());
+            return;
+        }
+        event.setNextAttemptAt(now.plus(retryDelay(attempts)));
+        log.warn("Traceability event {} for order {} failed on attempt {}: {}",
+                event.getId(), event.getOrderId(), attempts, ex.getMessage());
+    }
+
+    Duration retryDelay(int attempts) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), MAX_BACKOFF_EXPONENT);
+        Duration delay = retryBaseDelay.multipliedBy(1L << exponent);
+        return delay.compareTo(retryMaxDelay) > 0 ? retryMaxDelay : delay;
+    }
+
+    private void refreshBacklogMetrics() {
+        backlog.set(outboxRepository.countByParkedAtIsNull());
+        parked.set(outboxRepository.countByParkedAtIsNotNull());
+        lagMillis.set(outboxRepository.findFirstByParkedAtIsNullOrderByIdAsc()
+                .map(oldest -> Math.max(0L, Duration.between(oldest.getCreatedAt(), Instant.now()).toMillis()))
+                .orElse(0L));
+    }
+
+    private static boolean isServiceUnavailable(RuntimeException ex) {
+        return ex instanceof FeignException feignException
+                && (feignException.status() < 0 || feignException.status() >= 500);
+    }
+
+    private static boolean isRetryable(RuntimeException ex) {
+        if (ex instanceof JacksonException) {
+            return false;
+        }
+        if (ex instanceof FeignException feignException) {
+            int status = feignException.status();
+            return status < 400 || status >= 500 || status == 408 || status == 429;
+        }
+        return true;
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private record BatchOutcome(List<TraceabilityOutboxEntity> delivered,
+                                List<TraceabilityOutboxEntity> failed,
+                                List<TraceabilityOutboxEntity> unattempted,
+                                boolean serviceAvailable) {
+    }
+}
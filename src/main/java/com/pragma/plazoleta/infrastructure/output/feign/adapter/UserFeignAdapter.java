@@ -1,7 +1,7 @@
 package com.pragma.plazoleta.infrastructure.output.feign.adapter;
 
 import com.pragma.plazoleta.domain.spi.IUserValidationPort;
-import com.pragma.plazoleta.infrastructure.output.feign.client.IUserFeignClient;
+import com.pragma.plazoleta.infrastructure.cache.UserInfoCache;
 import com.pragma.plazoleta.infrastructure.output.feign.dto.UserDto;
 import feign.FeignException;
 import org.springframework.stereotype.Component;
@@ -11,16 +11,16 @@ import java.util.Optional;
 @Component
 public class UserFeignAdapter implements IUserValidationPort {
 
-    private final IUserFeignClient userFeignClient;
+    private final UserInfoCache userInfoCache;
 
-    public UserFeignAdapter(IUserFeignClient userFeignClient) {
-        this.userFeignClient = userFeignClient;
+    public UserFeignAdapter(UserInfoCache userInfoCache) {
+        this.userInfoCache = userInfoCache;
     }
 
     @Override
     public boolean existsById(Long userId) {
         try {
-            return userFeignClient.getUserById(userId).isPresent();
+            return userInfoCache.getUserById(userId).isPresent();
         } catch (FeignException _) {
             return false;
         }
@@ -29,7 +29,7 @@ public class UserFeignAdapter implements IUserValidationPort {
     @Override
     public Optional<String> getUserRoleById(Long userId) {
         try {
-            return userFeignClient.getUserById(userId)
+            return userInfoCache.getUserById(userId)
                     .map(UserDto::getRole);
         } catch (FeignException _) {
             return Optional.empty();
@@ -9,8 +9,10 @@ import com.pragma.plazoleta.infrastructure.output.jpa.repository.IDishRepository
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -38,6 +40,21 @@ public class DishJpaAdapter implements IDishPersistencePort {
                 .map(dishEntityMapper::toDish);
     }
 
+    @Override
+    public List<Dish> findAllByIds(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return dishRepository.findAllById(ids).stream()
+                .map(dishEntityMapper::toDish)
+                .toList();
+    }
+
+    @Override
+    public List<Dish> findCurrentByIds(Collection<Long> ids) {
+        return findAllByIds(ids);
+    }
+
     @Override
     public PagedResult<Dish> findActiveDishesByRestaurantId(Long restaurantId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
@@ -56,6 +73,31 @@ public class DishJpaAdapter implements IDishPersistencePort {
         return toPagedResult(dishPage);
     }
 
+    @Override
+    public PagedResult<Dish> findActiveDishesByRestaurantIdSlice(Long restaurantId, int page, int size) {
+        Slice<DishEntity> dishSlice = dishRepository.findSliceByRestaurantIdAndActiveTrue(
+                restaurantId, PageRequest.of(page, size));
+
+        return toSlicedResult(dishSlice);
+    }
+
+    @Override
+    public PagedResult<Dish> findActiveDishesByRestaurantIdAndCategorySlice(
+            Long restaurantId, String category, int page, int size) {
+        Slice<DishEntity> dishSlice = dishRepository.findSliceByRestaurantIdAndCategoryIgnoreCaseAndActiveTrue(
+                restaurantId, category, PageRequest.of(page, size));
+
+        return toSlicedResult(dishSlice);
+    }
+
+    private PagedResult<Dish> toSlicedResult(Slice<DishEntity> dishSlice) {
+        List<Dish> dishes = dishSlice.getContent().stream()
+                .map(dishEntityMapper::toDish)
+                .toList();
+
+        return PagedResult.sliceOf(dishes, dishSlice.getNumber(), dishSlice.getSize(), dishSlice.hasNext());
+    }
+
     private PagedResult<Dish> toPagedResult(Page<DishEntity> dishPage) {
         List<Dish> dishes = dishPage.getContent().stream()
                 .map(dishEntityMapper::toDish)
@@ -1,8 +1,12 @@
 package com.pragma.plazoleta.infrastructure.output.jpa.adapter;
 
+import com.pragma.plazoleta.domain.model.CursorResult;
 import com.pragma.plazoleta.domain.model.Order;
+import com.pragma.plazoleta.domain.model.OrderCursor;
 import com.pragma.plazoleta.domain.model.OrderItem;
 import com.pragma.plazoleta.domain.model.OrderStatus;
+import com.pragma.plazoleta.domain.model.OrderTransition;
+import com.pragma.plazoleta.domain.model.OrderTransitionResult;
 import com.pragma.plazoleta.domain.model.PagedResult;
 import com.pragma.plazoleta.domain.spi.IOrderPersistencePort;
 import com.pragma.plazoleta.infrastructure.output.jpa.entity.OrderEntity;
@@ -12,15 +16,21 @@ import com.pragma.plazoleta.infrastructure.output.jpa.mapper.OrderEntityMapper;
 import com.pragma.plazoleta.infrastructure.output.jpa.repository.IDishRepository;
 import com.pragma.plazoleta.infrastructure.output.jpa.repository.IOrderRepository;
 import com.pragma.plazoleta.infrastructure.output.jpa.repository.IRestaurantRepository;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 public class OrderJpaAdapter implements IOrderPersistencePort {
@@ -49,21 +59,16 @@ public class OrderJpaAdapter implements IOrderPersistencePort {
     @Override
     @Transactional
     public Order saveOrder(Order order) {
-        OrderEntity orderEntity = orderEntityMapper.toEntity(order);
+        if (order.getId() != null) {
+            return updateOrder(order);
+        }
 
-        orderEntity.setRestaurant(
-                restaurantRepository.findById(order.getRestaurantId())
-                        .orElseThrow(() -> new IllegalArgumentException(
-                                "Restaurant not found with id: " + order.getRestaurantId()))
-        );
+        OrderEntity orderEntity = orderEntityMapper.toEntity(order);
+        orderEntity.setRestaurant(restaurantRepository.getReferenceById(order.getRestaurantId()));
 
         for (OrderItem item : order.getItems()) {
             OrderItemEntity itemEntity = orderEntityMapper.toItemEntity(item);
-            itemEntity.setDish(
-                    dishRepository.findById(item.getDishId())
-                            .orElseThrow(() -> new IllegalArgumentException(
-                                    "Dish not found with id: " + item.getDishId()))
-            );
+            itemEntity.setDish(dishRepository.getReferenceById(item.getDishId()));
             orderEntity.addItem(itemEntity);
         }
 
@@ -72,6 +77,19 @@ public class OrderJpaAdapter implements IOrderPersistencePort {
         return orderEntityMapper.toDomain(savedEntity);
     }
 
+    private Order updateOrder(Order order) {
+        OrderEntity orderEntity = orderRepository.findById(order.getId())
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Order not found with id: " + order.getId()));
+
+        orderEntity.setStatus(orderEntityMapper.toStatusEntity(order.getStatus()));
+        orderEntity.setEmployeeId(order.getEmployeeId());
+        orderEntity.setSecurityPin(order.getSecurityPin());
+        orderEntity.setUpdatedAt(order.getUpdatedAt());
+
+        return order;
+    }
+
     @Override
     public boolean existsActiveOrderByClientId(Long clientId) {
         return orderRepository.existsByClientIdAndStatusIn(clientId, ACTIVE_STATUSES);
@@ -85,9 +103,7 @@ public class OrderJpaAdapter implements IOrderPersistencePort {
 
         Page<OrderEntity> orderPage = orderRepository.findByRestaurantIdAndStatus(restaurantId, statusEntity, pageable);
 
-        List<Order> orders = List.copyOf(orderPage.getContent().stream()
-                .map(orderEntityMapper::toDomain)
-                .toList());
+        List<Order> orders = toDomainWithItems(orderPage.getContent());
 
         return PagedResult.of(
                 orders,
@@ -98,10 +114,123 @@ public class OrderJpaAdapter implements IOrderPersistencePort {
         );
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResult<Order> findByRestaurantIdAndStatusSlice(Long restaurantId, OrderStatus status, int page, int size) {
+        OrderStatusEntity statusEntity = OrderStatusEntity.valueOf(status.name());
+
+        Slice<OrderEntity> orderSlice = orderRepository.findSliceByRestaurantIdAndStatus(
+                restaurantId, statusEntity, PageRequest.of(page, size));
+
+        return PagedResult.sliceOf(
+                toDomainWithItems(orderSlice.getContent()),
+                orderSlice.getNumber(),
+                orderSlice.getSize(),
+                orderSlice.hasNext()
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorResult<Order> findByRestaurantIdAndStatusAfter(Long restaurantId, OrderStatus status,
+                                                                OrderCursor after, int size) {
+        OrderStatusEntity statusEntity = OrderStatusEntity.valueOf(status.name());
+        Limit limit = Limit.of(size + 1);
+
+        List<OrderEntity> rows = after == null
+                ? orderRepository.findQueueHead(restaurantId, statusEntity, limit)
+                : orderRepository.findQueueAfter(restaurantId, statusEntity, after.getCreatedAt(), after.getId(), limit);
+
+        // One extra row tells whether another page exists without a count query
+        boolean hasNext = rows.size() > size;
+        List<OrderEntity> pageRows = hasNext ? rows.subList(0, size) : rows;
+        OrderCursor nextCursor = null;
+        if (hasNext) {
+            OrderEntity last = pageRows.getLast();
+            nextCursor = new OrderCursor(last.getCreatedAt(), last.getId());
+        }
+
+        return CursorResult.of(toDomainWithItems(pageRows), size, nextCursor);
+    }
+
+    /**
+     * Loads the items of a whole page with one fetch-join query instead of initializing each
+     * order's lazy collection separately, keeping the page order.
+     */
+    private List<Order> toDomainWithItems(List<OrderEntity> orderEntities) {
+        if (orderEntities.isEmpty()) {
+            return List.of();
+        }
+        List<Long> orderIds = orderEntities.stream()
+                .map(OrderEntity::getId)
+                .toList();
+        Map<Long, OrderEntity> ordersWithItems = orderRepository.findWithItemsByIdIn(orderIds).stream()
+                .collect(Collectors.toMap(OrderEntity::getId, Function.identity()));
+        return orderIds.stream()
+                .map(ordersWithItems::get)
+                .filter(Objects::nonNull)
+                .map(orderEntityMapper::toDomain)
+                .toList();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<Order> findById(Long orderId) {
         return orderRepository.findById(orderId)
                 .map(orderEntityMapper::toDomain);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Order> findHeaderById(Long orderId) {
+        return orderRepository.findById(orderId)
+                .map(orderEntityMapper::toHeaderDomain);
+    }
+
+    @Override
+    @Transactional
+    public OrderTransitionResult transitionStatus(OrderTransition transition) {
+        int updated = orderRepository.transitionStatus(
+                transition.getOrderId(),
+                orderEntityMapper.toStatusEntity(transition.getFromStatus()),
+                orderEntityMapper.toStatusEntity(transition.getToStatus()),
+                transition.getRestaurantId(),
+                transition.getClientId(),
+                transition.isSecurityPinChecked(),
+                transition.getExpectedSecurityPin(),
+                transition.getEmployeeId(),
+                transition.getSecurityPin(),
+                transition.getUpdatedAt());
+
+        if (updated == 0) {
+            // Items are not needed to explain why the update did not apply
+            return orderRepository.findById(transition.getOrderId())
+                    .map(orderEntityMapper::toHeaderDomain)
+                    .map(OrderTransitionResult::rejected)
+                    .orElseGet(OrderTransitionResult::notFound);
+        }
+
+        List<Order> updatedOrders = orderRepository.findWithItemsByIdIn(List.of(transition.getOrderId())).stream()
+                .map(orderEntityMapper::toDomain)
+                .toList();
+        if (updatedOrders.isEmpty()) {
+            return OrderTransitionResult.notFound();
+        }
+        return OrderTransitionResult.applied(updatedOrders.getFirst());
+    }
+
+    @Override
+    @Transactional
+    public Optional<Order> claimNextOrder(OrderTransition transition) {
+        OrderStatusEntity fromStatus = orderEntityMapper.toStatusEntity(transition.getFromStatus());
+        Optional<Long> orderId = orderRepository.lockNextOrderId(transition.getRestaurantId(), fromStatus.name());
+        if (orderId.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // The row stays locked until commit, so the conditional update cannot miss
+        transition.setOrderId(orderId.get());
+        OrderTransitionResult result = transitionStatus(transition);
+        return result.isApplied() ? Optional.of(result.getOrder()) : Optional.empty();
+    }
 }
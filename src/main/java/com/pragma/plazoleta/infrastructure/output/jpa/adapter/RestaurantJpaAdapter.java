@@ -9,8 +9,10 @@ import com.pragma.plazoleta.infrastructure.output.jpa.repository.IRestaurantRepo
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -44,6 +46,16 @@ public class RestaurantJpaAdapter implements IRestaurantPersistencePort {
                 .map(restaurantEntityMapper::toRestaurant);
     }
 
+    @Override
+    public List<Restaurant> findAllByIds(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return restaurantRepository.findAllById(ids).stream()
+                .map(restaurantEntityMapper::toRestaurant)
+                .toList();
+    }
+
     @Override
     public PagedResult<Restaurant> findAllOrderedByNamePaginated(int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
@@ -61,4 +73,20 @@ public class RestaurantJpaAdapter implements IRestaurantPersistencePort {
                 restaurantPage.getTotalPages()
         );
     }
+
+    @Override
+    public PagedResult<Restaurant> findAllOrderedByNameSlice(int page, int size) {
+        Slice<RestaurantEntity> restaurantSlice = restaurantRepository.findSliceByOrderByNameAsc(PageRequest.of(page, size));
+
+        List<Restaurant> restaurants = restaurantSlice.getContent().stream()
+                .map(restaurantEntityMapper::toRestaurant)
+                .toList();
+
+        return PagedResult.sliceOf(
+                restaurants,
+                restaurantSlice.getNumber(),
+                restaurantSlice.getSize(),
+                restaurantSlice.hasNext()
+        );
+    }
 }
@@ -0,0 +1,23 @@
+package com.pragma.plazoleta.infrastructure.output.jpa.adapter;
+
+import com.pragma.plazoleta.domain.spi.ITransactionPort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+@Component
+public class TransactionTemplateAdapter implements ITransactionPort {
+
+    private final TransactionTemplate transactionTemplate;
+
+    public TransactionTemplateAdapter(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public <T> T inTransaction(Supplier<T> work) {
+        return transactionTemplate.execute(_ -> work.get());
+    }
+}
@@ -0,0 +1,96 @@
+package com.pragma.plazoleta.infrastructure.output.jpa.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Times how long each connection is held, from checkout until it is closed back to the pool,
+ * tagged with the endpoint that checked it out.
+ * <ul>
+ *     <li>The endpoint is the request method and the matched route pattern, so the number of
+ *     series stays bounded. Connections taken outside a request, by scheduled jobs or the
+ *     cluster bus, are tagged {@code none}.</li>
+ *     <li>A high hold time next to a low query time points at work done while the connection
+ *     is open, such as a remote call inside a transaction.</li>
+ * </ul>
+ */
+public class ConnectionHoldTimeDataSource extends DelegatingDataSource {
+
+    private static final String METRIC_NAME = "db.connection.hold";
+    private static final String NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    public ConnectionHoldTimeDataSource(DataSource targetDataSource, MeterRegistry meterRegistry) {
+        super(targetDataSource);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return track(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return track(super.getConnection(username, password));
+    }
+
+    private Connection track(Connection connection) {
+        Timer timer = currentEndpointTimer();
+        long checkedOutAt = System.nanoTime();
+        AtomicBoolean closed = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals" -> {
+                            return proxy == args[0];
+                        }
+                        case "hashCode" -> {
+                            return System.identityHashCode(proxy);
+                        }
+                        case "close" -> {
+                            if (closed.compareAndSet(false, true)) {
+                                timer.record(System.nanoTime() - checkedOutAt, TimeUnit.NANOSECONDS);
+                            }
+                        }
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException ex) {
+                        throw ex.getTargetException();
+                    }
+                });
+    }
+
+    private Timer currentEndpointTimer() {
+        String method = NONE;
+        String uri = NONE;
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            HttpServletRequest request = servletAttributes.getRequest();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            method = request.getMethod();
+            uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        }
+        return Timer.builder(METRIC_NAME)
+                .description("Time a pooled database connection is held, by endpoint")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry);
+    }
+}
@@ -28,6 +28,11 @@ public interface OrderEntityMapper {
     @Mapping(target = "items", source = "items")
     Order toDomain(OrderEntity entity);
 
+    @Mapping(target = "restaurantId", source = "restaurant.id")
+    @Mapping(target = "status", source = "status", qualifiedByName = "toStatusDomain")
+    @Mapping(target = "items", ignore = true)
+    Order toHeaderDomain(OrderEntity entity);
+
     @Mapping(target = "order", ignore = true)
     @Mapping(target = "dish.id", source = "dishId")
     OrderItemEntity toItemEntity(OrderItem orderItem);
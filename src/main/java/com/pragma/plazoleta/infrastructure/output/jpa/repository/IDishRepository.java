@@ -3,6 +3,7 @@ package com.pragma.plazoleta.infrastructure.output.jpa.repository;
 import com.pragma.plazoleta.infrastructure.output.jpa.entity.DishEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -13,4 +14,9 @@ public interface IDishRepository extends JpaRepository<DishEntity, Long> {
 
     Page<DishEntity> findByRestaurantIdAndCategoryIgnoreCaseAndActiveTrue(
             Long restaurantId, String category, Pageable pageable);
+
+    Slice<DishEntity> findSliceByRestaurantIdAndActiveTrue(Long restaurantId, Pageable pageable);
+
+    Slice<DishEntity> findSliceByRestaurantIdAndCategoryIgnoreCaseAndActiveTrue(
+            Long restaurantId, String category, Pageable pageable);
 }
@@ -2,12 +2,20 @@ package com.pragma.plazoleta.infrastructure.output.jpa.repository;
 
 import com.pragma.plazoleta.infrastructure.output.jpa.entity.OrderEntity;
 import com.pragma.plazoleta.infrastructure.output.jpa.entity.OrderStatusEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface IOrderRepository extends JpaRepository<OrderEntity, Long> {
@@ -15,4 +23,50 @@ public interface IOrderRepository extends JpaRepository<OrderEntity, Long> {
     boolean existsByClientIdAndStatusIn(Long clientId, List<OrderStatusEntity> statuses);
 
     Page<OrderEntity> findByRestaurantIdAndStatus(Long restaurantId, OrderStatusEntity status, Pageable pageable);
+
+    Slice<OrderEntity> findSliceByRestaurantIdAndStatus(Long restaurantId, OrderStatusEntity status, Pageable pageable);
+
+    @Query("SELECT o FROM OrderEntity o WHERE o.restaurant.id = :restaurantId AND o.status = :status "
+            + "ORDER BY o.createdAt ASC, o.id ASC")
+    List<OrderEntity> findQueueHead(@Param("restaurantId") Long restaurantId,
+                                    @Param("status") OrderStatusEntity status,
+                                    Limit limit);
+
+    // The createdAt >= bound keeps the seek a range scan on (restaurant_id, status, created_at, id)
+    @Query("SELECT o FROM OrderEntity o WHERE o.restaurant.id = :restaurantId AND o.status = :status "
+            + "AND o.createdAt >= :createdAt AND (o.createdAt > :createdAt OR o.id > :id) "
+            + "ORDER BY o.createdAt ASC, o.id ASC")
+    List<OrderEntity> findQueueAfter(@Param("restaurantId") Long restaurantId,
+                                     @Param("status") OrderStatusEntity status,
+                                     @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("id") Long id,
+                                     Limit limit);
+
+    @Query("SELECT DISTINCT o FROM OrderEntity o LEFT JOIN FETCH o.items WHERE o.id IN :ids")
+    List<OrderEntity> findWithItemsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // SKIP LOCKED lets concurrent claimers each take a different order instead of waiting on the same row
+    @Query(value = "SELECT id FROM orders WHERE restaurant_id = :restaurantId AND status = :status "
+            + "ORDER BY created_at, id LIMIT 1 FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    Optional<Long> lockNextOrderId(@Param("restaurantId") Long restaurantId, @Param("status") String status);
+
+    // Null guards are skipped; the PIN is only compared when checkPin is true so a missing PIN never matches
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE OrderEntity o SET o.status = :toStatus, o.updatedAt = :updatedAt, "
+            + "o.employeeId = COALESCE(:employeeId, o.employeeId), "
+            + "o.securityPin = COALESCE(:securityPin, o.securityPin) "
+            + "WHERE o.id = :id AND o.status = :fromStatus "
+            + "AND (:restaurantId IS NULL OR o.restaurant.id = :restaurantId) "
+            + "AND (:clientId IS NULL OR o.clientId = :clientId) "
+            + "AND (:checkPin = false OR o.securityPin = :expectedPin)")
+    int transitionStatus(@Param("id") Long id,
+                         @Param("fromStatus") OrderStatusEntity fromStatus,
+                         @Param("toStatus") OrderStatusEntity toStatus,
+                         @Param("restaurantId") Long restaurantId,
+                         @Param("clientId") Long clientId,
+                         @Param("checkPin") boolean checkPin,
+                         @Param("expectedPin") String expectedPin,
+                         @Param("employeeId") Long employeeId,
+                         @Param("securityPin") String securityPin,
+                         @Param("updatedAt") LocalDateTime updatedAt);
 }
@@ -3,6 +3,7 @@ package com.pragma.plazoleta.infrastructure.output.jpa.repository;
 import com.pragma.plazoleta.infrastructure.output.jpa.entity.RestaurantEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface IRestaurantRepository extends JpaRepository<RestaurantEntity, Long> {
@@ -10,4 +11,6 @@ public interface IRestaurantRepository extends JpaRepository<RestaurantEntity, L
     boolean existsByNit(String nit);
 
     Page<RestaurantEntity> findAllByOrderByNameAsc(Pageable pageable);
+
+    Slice<RestaurantEntity> findSliceByOrderByNameAsc(Pageable pageable);
 }
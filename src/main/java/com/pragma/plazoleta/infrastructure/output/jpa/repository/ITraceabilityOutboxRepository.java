@@ -0,0 +1,40 @@
+package com.pragma.plazoleta.infrastructure.output.jpa.repository;
+
+import com.pragma.plazoleta.infrastructure.output.jpa.entity.TraceabilityOutboxEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ITraceabilityOutboxRepository extends JpaRepository<TraceabilityOutboxEntity, Long> {
+
+    /**
+     * Locks the next due events, taking only the oldest pending event of each order so that
+     * events of the same order are always relayed in the order they were written. Rows locked
+     * by another relay instance are skipped. Parked events are neither relayed nor hold back the
+     * later events of their order.
+     */
+    @Query(value = """
+            SELECT o.* FROM traceability_outbox o
+            WHERE o.next_attempt_at <= :now
+              AND o.parked_at IS NULL
+              AND NOT EXISTS (
+                  SELECT 1 FROM traceability_outbox p
+                  WHERE p.order_id = o.order_id AND p.id < o.id AND p.parked_at IS NULL)
+            ORDER BY o.id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<TraceabilityOutboxEntity> lockNextBatch(@Param("now") Instant now, @Param("limit") int limit);
+
+    Optional<TraceabilityOutboxEntity> findFirstByParkedAtIsNullOrderByIdAsc();
+
+    long countByParkedAtIsNull();
+
+    long countByParkedAtIsNotNull();
+}
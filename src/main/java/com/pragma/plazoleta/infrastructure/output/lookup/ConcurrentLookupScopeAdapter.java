@@ -0,0 +1,179 @@
+package com.pragma.plazoleta.infrastructure.output.lookup;
+
+import com.pragma.plazoleta.domain.exception.LookupDeadlineExceededException;
+import com.pragma.plazoleta.domain.spi.ILookupScopePort;
+import com.pragma.plazoleta.infrastructure.configuration.WorkerThreads;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs the lookups of a scope on worker threads, in the manner of a structured task scope.
+ * <ul>
+ *     <li>With virtual threads each lookup gets a new virtual thread. With platform threads the
+ *     pool holds up to one worker per lookup a request can fork at once, times the request
+ *     threads, so a burst of requests never waits for a free worker; idle workers are
+ *     released.</li>
+ *     <li>{@code join} waits at most the configured deadline, counted from {@code open}. The first
+ *     lookup to fail cancels the others and its exception is rethrown as is; when the deadline
+ *     passes, the remaining lookups are cancelled and {@link LookupDeadlineExceededException} is
+ *     thrown.</li>
+ *     <li>Each lookup sees the request attributes and security context of the thread that forked
+ *     it, so request memoization and the JWT-based adapters behave as on the request thread.</li>
+ *     <li>Cancelling interrupts the worker. Virtual threads give up a blocked socket read on
+ *     interrupt; platform threads finish the call and their result is discarded.</li>
+ * </ul>
+ */
+@Component
+public class ConcurrentLookupScopeAdapter implements ILookupScopePort {
+
+    private static final Duration IDLE_WORKER_TIMEOUT = Duration.ofSeconds(60);
+
+    private final ExecutorService workers;
+    private final Duration deadline;
+    private final Timer completedTimer;
+    private final Timer failedTimer;
+    private final Timer deadlineExceededTimer;
+
+    @Autowired
+    public ConcurrentLookupScopeAdapter(
+            WorkerThreads workerThreads,
+            MeterRegistry meterRegistry,
+            @Value("${server.tomcat.threads.max:200}") int requestThreads,
+            @Value("${order-lookups.forks-per-request:4}") int forksPerRequest,
+            @Value("${order-lookups.deadline-ms:5000}") long deadlineMs) {
+        this(lookupExecutor(workerThreads, requestThreads * forksPerRequest),
+                meterRegistry, Duration.ofMillis(deadlineMs));
+    }
+
+    ConcurrentLookupScopeAdapter(ExecutorService workers, MeterRegistry meterRegistry, Duration deadline) {
+        this.workers = workers;
+        this.deadline = deadline;
+        this.completedTimer = scopeTimer(meterRegistry, "completed");
+        this.failedTimer = scopeTimer(meterRegistry, "failed");
+        this.deadlineExceededTimer = scopeTimer(meterRegistry, "deadline_exceeded");
+    }
+
+    @Override
+    public Scope open() {
+        return new LookupScope();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    static ExecutorService lookupExecutor(WorkerThreads workerThreads, int maxWorkers) {
+        ThreadFactory threadFactory = workerThreads.pool("order-lookup-");
+        if (workerThreads.isVirtual()) {
+            return Executors.newThreadPerTaskExecutor(threadFactory);
+        }
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(maxWorkers, maxWorkers,
+                IDLE_WORKER_TIMEOUT.toSeconds(), TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static Timer scopeTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("order.lookups.scope")
+                .description("Time spent waiting for a scope of concurrent lookups, by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static <T> T runWithContext(RequestAttributes requestAttributes, SecurityContext securityContext,
+                                        Supplier<T> lookup) {
+        RequestContextHolder.setRequestAttributes(requestAttributes);
+        SecurityContextHolder.setContext(securityContext);
+        try {
+            return lookup.get();
+        } finally {
+            SecurityContextHolder.clearContext();
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    private static RuntimeException unchecked(Throwable failure) {
+        if (failure instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (failure instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException("Lookup failed", failure);
+    }
+
+    private final class LookupScope implements Scope {
+
+        private final long startNanos = System.nanoTime();
+        private final CompletionService<Object> completionService = new ExecutorCompletionService<>(workers);
+        private final List<Future<Object>> forks = new ArrayList<>();
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> Supplier<T> fork(Supplier<T> lookup) {
+            RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+            SecurityContext securityContext = SecurityContextHolder.getContext();
+            Future<Object> future = completionService.submit(
+                    () -> runWithContext(requestAttributes, securityContext, lookup));
+            forks.add(future);
+            return () -> (T) future.resultNow();
+        }
+
+        @Override
+        public void join() {
+            try {
+                for (int pending = forks.size(); pending > 0; pending--) {
+                    long remainingNanos = deadline.toNanos() - (System.nanoTime() - startNanos);
+                    Future<Object> done = completionService.poll(remainingNanos, TimeUnit.NANOSECONDS);
+                    if (done == null) {
+                        cancelRemaining();
+                        deadlineExceededTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                        throw new LookupDeadlineExceededException(deadline.toMillis());
+                    }
+                    if (done.state() == Future.State.FAILED) {
+                        cancelRemaining();
+                        failedTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                        throw unchecked(done.exceptionNow());
+                    }
+                }
+                completedTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancelRemaining();
+                throw new IllegalStateException("Interrupted while waiting for lookups", e);
+            }
+        }
+
+        @Override
+        public void close() {
+            cancelRemaining();
+        }
+
+        private void cancelRemaining() {
+            forks.forEach(future -> future.cancel(true));
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.pragma.plazoleta.infrastructure.security;
+
+import java.security.Principal;
+
+/**
+ * Principal built from a verified JWT. {@code restaurantId} is only present when the token carries
+ * the claim, which the user service sets for employees.
+ */
+public record AuthenticatedUser(Long userId, String email, String role, Long restaurantId) implements Principal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
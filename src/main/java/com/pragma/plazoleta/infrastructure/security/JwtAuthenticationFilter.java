@@ -39,29 +39,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = authHeader.substring(BEARER_PREFIX.length());
 
-        if (jwtTokenValidator.isTokenValid(token)) {
-            String email = jwtTokenValidator.extractEmail(token);
-            String role = jwtTokenValidator.extractRole(token);
-            Long userId = jwtTokenValidator.extractUserId(token);
+        jwtTokenValidator.authenticate(token).ifPresent(principal -> {
+            List<SimpleGrantedAuthority> authorities = List.of(
+                    new SimpleGrantedAuthority("ROLE_" + principal.role())
+            );
 
-            // Validate that all required claims are present
-            if (email != null && !email.trim().isEmpty() &&
-                role != null && !role.trim().isEmpty() &&
-                userId != null) {
+            // Keep the raw token so outbound calls made off the request thread can forward it
+            UsernamePasswordAuthenticationToken authentication =
+                    new UsernamePasswordAuthenticationToken(principal, token, authorities);
 
-                List<SimpleGrantedAuthority> authorities = List.of(
-                        new SimpleGrantedAuthority("ROLE_" + role)
-                );
+            // Store userId in the details for later retrieval
+            authentication.setDetails(principal.userId());
 
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(email, null, authorities);
-
-                // Store userId in the details for later retrieval
-                authentication.setDetails(userId);
-
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-            }
-        }
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+        });
 
         filterChain.doFilter(request, response);
     }
@@ -0,0 +1,49 @@
+package com.pragma.plazoleta.infrastructure.security;
+
+import com.pragma.plazoleta.domain.spi.IEmployeeRestaurantPort;
+import com.pragma.plazoleta.infrastructure.output.feign.adapter.EmployeeRestaurantFeignAdapter;
+import org.springframework.context.annotation.Primary;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Answers employee lookups for the authenticated user from the claims of the verified JWT and only
+ * asks the user service when the token does not carry the data or the lookup is about someone else.
+ */
+@Component
+@Primary
+public class JwtEmployeeRestaurantAdapter implements IEmployeeRestaurantPort {
+
+    private final EmployeeRestaurantFeignAdapter employeeRestaurantFeignAdapter;
+
+    public JwtEmployeeRestaurantAdapter(EmployeeRestaurantFeignAdapter employeeRestaurantFeignAdapter) {
+        this.employeeRestaurantFeignAdapter = employeeRestaurantFeignAdapter;
+    }
+
+    @Override
+    public Optional<Long> getRestaurantIdByEmployeeId(Long employeeId) {
+        return currentUser(employeeId)
+                .map(AuthenticatedUser::restaurantId)
+                .or(() -> employeeRestaurantFeignAdapter.getRestaurantIdByEmployeeId(employeeId));
+    }
+
+    @Override
+    public Optional<String> getEmployeeEmailById(Long employeeId) {
+        return currentUser(employeeId)
+                .map(AuthenticatedUser::email)
+                .or(() -> employeeRestaurantFeignAdapter.getEmployeeEmailById(employeeId));
+    }
+
+    private static Optional<AuthenticatedUser> currentUser(Long employeeId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null
+                && authentication.getPrincipal() instanceof AuthenticatedUser user
+                && user.userId().equals(employeeId)) {
+            return Optional.of(user);
+        }
+        return Optional.empty();
+    }
+}
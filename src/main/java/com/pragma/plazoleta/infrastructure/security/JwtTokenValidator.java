@@ -1,63 +1,113 @@
 package com.pragma.plazoleta.infrastructure.security;
 
+import com.pragma.plazoleta.infrastructure.cache.LruCache;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.Optional;
 
 @Component
 public class JwtTokenValidator {
 
-    private final SecretKey secretKey;
+    private final JwtParser parser;
+    private final LruCache<String, VerifiedToken> verifiedTokens;
+    private final Counter cacheHitCounter;
+    private final Counter cacheMissCounter;
+    private final Timer verificationTimer;
 
-    public JwtTokenValidator(@Value("${jwt.secret}") String secret) {
-        this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    @Autowired
+    public JwtTokenValidator(@Value("${jwt.secret}") String secret,
+                             @Value("${jwt.cache.max-size:10000}") int cacheSize,
+                             MeterRegistry meterRegistry) {
+        SecretKey secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(secretKey).build();
+        this.verifiedTokens = new LruCache<>(cacheSize);
+        this.cacheHitCounter = cacheCounter(meterRegistry, "hit");
+        this.cacheMissCounter = cacheCounter(meterRegistry, "miss");
+        this.verificationTimer = Timer.builder("jwt.verification")
+                .description("Time spent verifying the signature and claims of a JWT")
+                .register(meterRegistry);
     }
 
-    public String extractEmail(String token) {
-        try {
-            return extractAllClaims(token).getSubject();
-        } catch (JwtException | IllegalArgumentException _) {
-            return null;
+    /**
+     * Verifies the token once and builds the principal from its claims. Tokens that were already
+     * verified are served from a cache keyed by the token digest until they expire.
+     *
+     * @return the principal, or empty when the token is invalid, expired or misses a required claim
+     */
+    public Optional<AuthenticatedUser> authenticate(String token) {
+        String digest = digest(token);
+        VerifiedToken cached = verifiedTokens.get(digest);
+        if (cached != null) {
+            if (cached.expiresAt().isAfter(Instant.now())) {
+                cacheHitCounter.increment();
+                return Optional.of(cached.user());
+            }
+            verifiedTokens.remove(digest);
         }
-    }
 
-    public String extractRole(String token) {
+        cacheMissCounter.increment();
+        Claims claims;
         try {
-            return extractAllClaims(token).get("role", String.class);
+            claims = verificationTimer.recordCallable(() -> extractAllClaims(token));
         } catch (JwtException | IllegalArgumentException _) {
-            return null;
+            return Optional.empty();
+        } catch (Exception e) {
+            throw new IllegalStateException("Unexpected error verifying JWT", e);
         }
-    }
 
-    public Long extractUserId(String token) {
-        try {
-            return extractAllClaims(token).get("userId", Long.class);
-        } catch (JwtException | IllegalArgumentException _) {
-            return null;
+        String email = claims.getSubject();
+        String role = claims.get("role", String.class);
+        Long userId = claims.get("userId", Long.class);
+        Date expiration = claims.getExpiration();
+
+        // Validate that all required claims are present
+        if (email == null || email.isBlank() || role == null || role.isBlank()
+                || userId == null || expiration == null) {
+            return Optional.empty();
         }
+
+        AuthenticatedUser user = new AuthenticatedUser(userId, email, role, claims.get("restaurantId", Long.class));
+        verifiedTokens.put(digest, new VerifiedToken(user, expiration.toInstant()));
+        return Optional.of(user);
     }
 
-    public boolean isTokenValid(String token) {
+    private Claims extractAllClaims(String token) {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    private static String digest(String token) {
         try {
-            Claims claims = extractAllClaims(token);
-            return !claims.getExpiration().before(new Date());
-        } catch (JwtException | IllegalArgumentException _) {
-            return false;
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
         }
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    private static Counter cacheCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("jwt.cache.requests")
+                .description("JWT authentications by verified-token cache outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record VerifiedToken(AuthenticatedUser user, Instant expiresAt) {
     }
 }
@@ -0,0 +1,12 @@
+CREATE TABLE traceability_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    order_id BIGINT NOT NULL,
+    payload TEXT NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error VARCHAR(500),
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    next_attempt_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_traceability_outbox_next_attempt_at ON traceability_outbox(next_attempt_at, id);
+CREATE INDEX idx_traceability_outbox_order_id ON traceability_outbox(order_id, id);
@@ -0,0 +1 @@
+CREATE INDEX idx_orders_restaurant_status_created_at_id ON orders(restaurant_id, status, created_at, id);
@@ -0,0 +1,3 @@
+ALTER TABLE traceability_outbox ADD COLUMN parked_at TIMESTAMP WITH TIME ZONE;
+
+CREATE INDEX idx_traceability_outbox_parked_at ON traceability_outbox(parked_at) WHERE parked_at IS NOT NULL;
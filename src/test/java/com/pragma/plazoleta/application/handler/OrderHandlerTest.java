@@ -5,13 +5,16 @@ import com.pragma.plazoleta.application.dto.request.CreateOrderRequestDto;
 import com.pragma.plazoleta.application.dto.request.DeliverOrderRequestDto;
 import com.pragma.plazoleta.application.dto.request.MarkOrderReadyRequestDto;
 import com.pragma.plazoleta.application.dto.request.OrderItemRequestDto;
+import com.pragma.plazoleta.application.dto.response.CursorPageResponse;
 import com.pragma.plazoleta.application.dto.response.OrderItemResponseDto;
 import com.pragma.plazoleta.application.dto.response.OrderResponseDto;
 import com.pragma.plazoleta.application.dto.response.PagedResponse;
 import com.pragma.plazoleta.application.mapper.OrderDtoMapper;
 import com.pragma.plazoleta.domain.api.IOrderServicePort;
+import com.pragma.plazoleta.domain.model.CursorResult;
 import com.pragma.plazoleta.domain.model.Dish;
 import com.pragma.plazoleta.domain.model.Order;
+import com.pragma.plazoleta.domain.model.OrderCursor;
 import com.pragma.plazoleta.domain.model.OrderItem;
 import com.pragma.plazoleta.domain.model.OrderStatus;
 import com.pragma.plazoleta.domain.model.PagedResult;
@@ -23,6 +26,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -32,10 +36,15 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -141,9 +150,9 @@ class OrderHandlerTest {
                     .thenReturn(List.of(new OrderItem(DISH_ID, 2)));
             when(orderServicePort.createOrder(any(Order.class))).thenReturn(order);
             when(orderDtoMapper.toOrderResponseDto(order)).thenReturn(orderResponseDto);
-            when(restaurantPersistencePort.findById(RESTAURANT_ID)).thenReturn(Optional.of(restaurant));
+            when(restaurantPersistencePort.findAllByIds(Set.of(RESTAURANT_ID))).thenReturn(List.of(restaurant));
             when(orderDtoMapper.toOrderItemResponseDto(any(OrderItem.class))).thenReturn(itemResponseDto);
-            when(dishPersistencePort.findById(DISH_ID)).thenReturn(Optional.of(dish));
+            when(dishPersistencePort.findAllByIds(Set.of(DISH_ID))).thenReturn(List.of(dish));
 
             OrderResponseDto result = orderHandler.createOrder(request, CLIENT_ID);
 
@@ -152,7 +161,7 @@ class OrderHandlerTest {
             assertThat(result.getItems()).hasSize(1);
 
             verify(orderServicePort).createOrder(any(Order.class));
-            verify(restaurantPersistencePort).findById(RESTAURANT_ID);
+            verify(restaurantPersistencePort).findAllByIds(Set.of(RESTAURANT_ID));
         }
     }
 
@@ -201,9 +210,9 @@ class OrderHandlerTest {
                     .thenReturn(pagedResult);
             when(orderDtoMapper.toOrderResponseDto(order)).thenReturn(orderResponseDto);
             when(orderDtoMapper.toOrderResponseDto(order2)).thenReturn(orderResponseDto2);
-            when(restaurantPersistencePort.findById(RESTAURANT_ID)).thenReturn(Optional.of(restaurant));
+            when(restaurantPersistencePort.findAllByIds(Set.of(RESTAURANT_ID))).thenReturn(List.of(restaurant));
             when(orderDtoMapper.toOrderItemResponseDto(any(OrderItem.class))).thenReturn(itemResponseDto);
-            when(dishPersistencePort.findById(DISH_ID)).thenReturn(Optional.of(dish));
+            when(dishPersistencePort.findAllByIds(Set.of(DISH_ID))).thenReturn(List.of(dish));
 
             PagedResponse<OrderResponseDto> result = orderHandler.getOrdersByStatus(EMPLOYEE_ID, status, page, size);
 
@@ -217,6 +226,24 @@ class OrderHandlerTest {
             assertThat(result.isLast()).isTrue();
 
             verify(orderServicePort).getOrdersByRestaurantAndStatus(EMPLOYEE_ID, OrderStatus.PENDING, page, size);
+            verify(restaurantPersistencePort, times(1)).findAllByIds(Set.of(RESTAURANT_ID));
+            verify(dishPersistencePort, times(1)).findAllByIds(Set.of(DISH_ID));
+            verify(restaurantPersistencePort, never()).findById(any());
+            verify(dishPersistencePort, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("Should skip the total count when it is not requested")
+        void shouldSkipTotalCountWhenNotRequested() {
+            when(orderServicePort.getOrdersByRestaurantAndStatusSlice(EMPLOYEE_ID, OrderStatus.PENDING, 0, 10))
+                    .thenReturn(PagedResult.sliceOf(Collections.emptyList(), 0, 10, false));
+
+            PagedResponse<OrderResponseDto> result = orderHandler.getOrdersByStatus(EMPLOYEE_ID, STATUS_PENDING, 0, 10, false);
+
+            assertThat(result.getTotalElements()).isEqualTo(-1);
+            assertThat(result.isHasNext()).isFalse();
+            assertThat(result.isLast()).isTrue();
+            verify(orderServicePort, never()).getOrdersByRestaurantAndStatus(any(), any(), anyInt(), anyInt());
         }
 
         @Test
@@ -303,9 +330,9 @@ class OrderHandlerTest {
             when(orderServicePort.getOrdersByRestaurantAndStatus(EMPLOYEE_ID, OrderStatus.PENDING, page, size))
                     .thenReturn(pagedResult);
             when(orderDtoMapper.toOrderResponseDto(order)).thenReturn(orderResponseDto);
-            when(restaurantPersistencePort.findById(RESTAURANT_ID)).thenReturn(Optional.of(restaurant));
+            when(restaurantPersistencePort.findAllByIds(Set.of(RESTAURANT_ID))).thenReturn(List.of(restaurant));
             when(orderDtoMapper.toOrderItemResponseDto(any(OrderItem.class))).thenReturn(itemResponseDto);
-            when(dishPersistencePort.findById(DISH_ID)).thenReturn(Optional.of(dish));
+            when(dishPersistencePort.findAllByIds(Set.of(DISH_ID))).thenReturn(List.of(dish));
 
             PagedResponse<OrderResponseDto> result = orderHandler.getOrdersByStatus(EMPLOYEE_ID, status, page, size);
 
@@ -336,9 +363,9 @@ class OrderHandlerTest {
             when(orderServicePort.getOrdersByRestaurantAndStatus(EMPLOYEE_ID, OrderStatus.PENDING, page, size))
                     .thenReturn(pagedResult);
             when(orderDtoMapper.toOrderResponseDto(order)).thenReturn(orderResponseDto);
-            when(restaurantPersistencePort.findById(RESTAURANT_ID)).thenReturn(Optional.of(restaurant));
+            when(restaurantPersistencePort.findAllByIds(Set.of(RESTAURANT_ID))).thenReturn(List.of(restaurant));
             when(orderDtoMapper.toOrderItemResponseDto(any(OrderItem.class))).thenReturn(itemResponseDto);
-            when(dishPersistencePort.findById(DISH_ID)).thenReturn(Optional.of(dish));
+            when(dishPersistencePort.findAllByIds(Set.of(DISH_ID))).thenReturn(List.of(dish));
 
             PagedResponse<OrderResponseDto> result = orderHandler.getOrdersByStatus(EMPLOYEE_ID, status, page, size);
 
@@ -385,9 +412,9 @@ class OrderHandlerTest {
             when(orderServicePort.getOrdersByRestaurantAndStatus(EMPLOYEE_ID, OrderStatus.PENDING, page, size))
                     .thenReturn(pagedResult);
             when(orderDtoMapper.toOrderResponseDto(order)).thenReturn(responseDto);
-            when(restaurantPersistencePort.findById(RESTAURANT_ID)).thenReturn(Optional.of(restaurant));
+            when(restaurantPersistencePort.findAllByIds(Set.of(RESTAURANT_ID))).thenReturn(List.of(restaurant));
             when(orderDtoMapper.toOrderItemResponseDto(any(OrderItem.class))).thenReturn(itemResponseDto);
-            when(dishPersistencePort.findById(DISH_ID)).thenReturn(Optional.of(dish));
+            when(dishPersistencePort.findAllByIds(Set.of(DISH_ID))).thenReturn(List.of(dish));
 
             PagedResponse<OrderResponseDto> result = orderHandler.getOrdersByStatus(EMPLOYEE_ID, status, page, size);
 
@@ -426,9 +453,9 @@ class OrderHandlerTest {
             when(orderServicePort.getOrdersByRestaurantAndStatus(EMPLOYEE_ID, OrderStatus.IN_PREPARATION, page, size))
                     .thenReturn(pagedResult);
             when(orderDtoMapper.toOrderResponseDto(order)).thenReturn(orderResponseDto);
-            when(restaurantPersistencePort.findById(RESTAURANT_ID)).thenReturn(Optional.of(restaurant));
+            when(restaurantPersistencePort.findAllByIds(Set.of(RESTAURANT_ID))).thenReturn(List.of(restaurant));
             when(orderDtoMapper.toOrderItemResponseDto(any(OrderItem.class))).thenReturn(itemResponseDto);
-            when(dishPersistencePort.findById(DISH_ID)).thenReturn(Optional.of(dish));
+            when(dishPersistencePort.findAllByIds(Set.of(DISH_ID))).thenReturn(List.of(dish));
 
             PagedResponse<OrderResponseDto> result = orderHandler.getOrdersByStatus(EMPLOYEE_ID, status, page, size);
 
@@ -441,6 +468,60 @@ class OrderHandlerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Get Order Queue Tests")
+    class GetOrderQueueTests {
+
+        @Test
+        @DisplayName("Should decode the incoming cursor and encode the next one")
+        void shouldRoundTripCursor() {
+            OrderCursor after = new OrderCursor(LocalDateTime.of(2026, 1, 1, 12, 0, 30, 123_000), 7L);
+            OrderCursor next = new OrderCursor(LocalDateTime.of(2026, 1, 1, 12, 5), 9L);
+            String token = OrderCursorCodec.encode(after);
+
+            when(orderServicePort.getOrderQueue(any(), any(), any(), anyInt()))
+                    .thenReturn(CursorResult.of(List.of(order), 1, next));
+            when(orderDtoMapper.toOrderResponseDto(order)).thenReturn(orderResponseDto);
+            when(orderDtoMapper.toOrderItemResponseDto(any(OrderItem.class)))
+                    .thenReturn(OrderItemResponseDto.builder().dishId(DISH_ID).quantity(2).build());
+            when(restaurantPersistencePort.findAllByIds(Set.of(RESTAURANT_ID))).thenReturn(List.of(restaurant));
+            when(dishPersistencePort.findAllByIds(Set.of(DISH_ID))).thenReturn(List.of(dish));
+
+            CursorPageResponse<OrderResponseDto> result =
+                    orderHandler.getOrderQueue(EMPLOYEE_ID, "pending", token, 1);
+
+            ArgumentCaptor<OrderCursor> cursorCaptor = ArgumentCaptor.forClass(OrderCursor.class);
+            verify(orderServicePort).getOrderQueue(eq(EMPLOYEE_ID), eq(OrderStatus.PENDING), cursorCaptor.capture(), eq(1));
+            assertThat(cursorCaptor.getValue().getCreatedAt()).isEqualTo(after.getCreatedAt());
+            assertThat(cursorCaptor.getValue().getId()).isEqualTo(7L);
+            assertThat(result.getContent()).hasSize(1);
+            assertThat(result.getContent().getFirst().getRestaurantName()).isEqualTo(RESTAURANT_NAME);
+            assertThat(result.isHasNext()).isTrue();
+            assertThat(OrderCursorCodec.decode(result.getNextCursor()).getId()).isEqualTo(9L);
+        }
+
+        @Test
+        @DisplayName("Should start at the head of the queue without a cursor")
+        void shouldStartAtHeadWithoutCursor() {
+            when(orderServicePort.getOrderQueue(EMPLOYEE_ID, OrderStatus.READY, null, 10))
+                    .thenReturn(CursorResult.of(List.of(), 10, null));
+
+            CursorPageResponse<OrderResponseDto> result = orderHandler.getOrderQueue(EMPLOYEE_ID, "READY", null, 10);
+
+            assertThat(result.getContent()).isEmpty();
+            assertThat(result.isHasNext()).isFalse();
+            assertThat(result.getNextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should reject a cursor that was not issued by the service")
+        void shouldRejectTamperedCursor() {
+            assertThatThrownBy(() -> orderHandler.getOrderQueue(EMPLOYEE_ID, "PENDING", "not-a-cursor", 10))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Invalid cursor");
+        }
+    }
+
     @Nested
     @DisplayName("Assign Order To Employee")
     class AssignOrderToEmployeeTests {
@@ -467,10 +548,10 @@ class OrderHandlerTest {
 
             when(orderServicePort.assignOrderToEmployee(ORDER_ID, EMPLOYEE_ID))
                     .thenReturn(assignedOrder);
-            when(restaurantPersistencePort.findById(RESTAURANT_ID))
-                    .thenReturn(Optional.of(restaurant));
-            when(dishPersistencePort.findById(DISH_ID))
-                    .thenReturn(Optional.of(dish));
+            when(restaurantPersistencePort.findAllByIds(Set.of(RESTAURANT_ID)))
+                    .thenReturn(List.of(restaurant));
+            when(dishPersistencePort.findAllByIds(Set.of(DISH_ID)))
+                    .thenReturn(List.of(dish));
             when(orderDtoMapper.toOrderResponseDto(assignedOrder))
                     .thenReturn(orderResponseDto);
             when(orderDtoMapper.toOrderItemResponseDto(any(OrderItem.class)))
@@ -480,7 +561,7 @@ class OrderHandlerTest {
 
             assertThat(result).isNotNull();
             verify(orderServicePort).assignOrderToEmployee(ORDER_ID, EMPLOYEE_ID);
-            verify(restaurantPersistencePort).findById(RESTAURANT_ID);
+            verify(restaurantPersistencePort).findAllByIds(Set.of(RESTAURANT_ID));
         }
 
         @Test
@@ -526,6 +607,37 @@ class OrderHandlerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Claim Next Pending Order")
+    class ClaimNextPendingOrderTests {
+
+        @Test
+        @DisplayName("Should build the response of the claimed order")
+        void shouldBuildResponseOfClaimedOrder() {
+            Order claimedOrder = new Order();
+            claimedOrder.setId(200L);
+            claimedOrder.setRestaurantId(RESTAURANT_ID);
+            claimedOrder.setStatus(OrderStatus.IN_PREPARATION);
+
+            when(orderServicePort.claimNextPendingOrder(EMPLOYEE_ID)).thenReturn(Optional.of(claimedOrder));
+            when(restaurantPersistencePort.findAllByIds(Set.of(RESTAURANT_ID))).thenReturn(List.of(restaurant));
+            when(orderDtoMapper.toOrderResponseDto(claimedOrder)).thenReturn(orderResponseDto);
+
+            Optional<OrderResponseDto> result = orderHandler.claimNextPendingOrder(EMPLOYEE_ID);
+
+            assertThat(result).contains(orderResponseDto);
+        }
+
+        @Test
+        @DisplayName("Should return empty when no order is waiting")
+        void shouldReturnEmptyWhenNoOrderIsWaiting() {
+            when(orderServicePort.claimNextPendingOrder(EMPLOYEE_ID)).thenReturn(Optional.empty());
+
+            assertThat(orderHandler.claimNextPendingOrder(EMPLOYEE_ID)).isEmpty();
+            verify(orderDtoMapper, never()).toOrderResponseDto(any());
+        }
+    }
+
     @Nested
     @DisplayName("Mark Order As Ready")
     class MarkOrderAsReadyTests {
@@ -553,10 +665,10 @@ class OrderHandlerTest {
 
             when(orderServicePort.markOrderAsReady(ORDER_ID, EMPLOYEE_ID))
                     .thenReturn(readyOrder);
-            when(restaurantPersistencePort.findById(RESTAURANT_ID))
-                    .thenReturn(Optional.of(restaurant));
-            when(dishPersistencePort.findById(DISH_ID))
-                    .thenReturn(Optional.of(dish));
+            when(restaurantPersistencePort.findAllByIds(Set.of(RESTAURANT_ID)))
+                    .thenReturn(List.of(restaurant));
+            when(dishPersistencePort.findAllByIds(Set.of(DISH_ID)))
+                    .thenReturn(List.of(dish));
             when(orderDtoMapper.toOrderResponseDto(readyOrder))
                     .thenReturn(orderResponseDto);
             when(orderDtoMapper.toOrderItemResponseDto(any(OrderItem.class)))
@@ -566,7 +678,7 @@ class OrderHandlerTest {
 
             assertThat(result).isNotNull();
             verify(orderServicePort).markOrderAsReady(ORDER_ID, EMPLOYEE_ID);
-            verify(restaurantPersistencePort).findById(RESTAURANT_ID);
+            verify(restaurantPersistencePort).findAllByIds(Set.of(RESTAURANT_ID));
         }
 
         @Test
@@ -625,10 +737,10 @@ class OrderHandlerTest {
 
             when(orderServicePort.markOrderAsDelivered(ORDER_ID, EMPLOYEE_ID, SECURITY_PIN))
                     .thenReturn(deliveredOrder);
-            when(restaurantPersistencePort.findById(RESTAURANT_ID))
-                    .thenReturn(Optional.of(restaurant));
-            when(dishPersistencePort.findById(DISH_ID))
-                    .thenReturn(Optional.of(dish));
+            when(restaurantPersistencePort.findAllByIds(Set.of(RESTAURANT_ID)))
+                    .thenReturn(List.of(restaurant));
+            when(dishPersistencePort.findAllByIds(Set.of(DISH_ID)))
+                    .thenReturn(List.of(dish));
             when(orderDtoMapper.toOrderResponseDto(deliveredOrder))
                     .thenReturn(orderResponseDto);
             when(orderDtoMapper.toOrderItemResponseDto(any(OrderItem.class)))
@@ -638,7 +750,7 @@ class OrderHandlerTest {
 
             assertThat(result).isNotNull();
             verify(orderServicePort).markOrderAsDelivered(ORDER_ID, EMPLOYEE_ID, SECURITY_PIN);
-            verify(restaurantPersistencePort).findById(RESTAURANT_ID);
+            verify(restaurantPersistencePort).findAllByIds(Set.of(RESTAURANT_ID));
         }
 
         @Test
@@ -5,9 +5,11 @@ import com.pragma.plazoleta.domain.exception.InvalidActiveStatusException;
 import com.pragma.plazoleta.domain.exception.InvalidPriceException;
 import com.pragma.plazoleta.domain.exception.RestaurantNotFoundException;
 import com.pragma.plazoleta.domain.exception.UserNotRestaurantOwnerException;
+import com.pragma.plazoleta.domain.model.ChangeEventType;
 import com.pragma.plazoleta.domain.model.Dish;
 import com.pragma.plazoleta.domain.model.PagedResult;
 import com.pragma.plazoleta.domain.model.Restaurant;
+import com.pragma.plazoleta.domain.spi.IChangeEventPort;
 import com.pragma.plazoleta.domain.spi.IDishPersistencePort;
 import com.pragma.plazoleta.domain.spi.IRestaurantPersistencePort;
 import org.junit.jupiter.api.BeforeEach;
@@ -39,6 +41,9 @@ class DishUseCaseTest {
     @Mock
     private IRestaurantPersistencePort restaurantPersistencePort;
 
+    @Mock
+    private IChangeEventPort changeEventPort;
+
     @InjectMocks
     private DishUseCase dishUseCase;
 
@@ -107,6 +112,9 @@ class DishUseCaseTest {
 
             verify(restaurantPersistencePort).findById(RESTAURANT_ID);
             verify(dishPersistencePort).saveDish(any(Dish.class));
+            verify(changeEventPort).publish(argThat(event -> event.getType() == ChangeEventType.DISH
+                    && event.getEntityId().equals(1L)
+                    && event.getRestaurantId().equals(RESTAURANT_ID)));
         }
 
         @Test
@@ -485,6 +493,37 @@ class DishUseCaseTest {
             assertThat(result.getContent()).isEmpty();
             assertThat(result.getTotalElements()).isZero();
         }
+
+        @Test
+        @DisplayName("Should read a count-free slice filtered by category")
+        void shouldReadSliceWithCategoryFilter() {
+            PagedResult<Dish> slice = PagedResult.sliceOf(
+                    List.of(createDish(1L, "Hamburguesa", "Hamburguesas")), 0, 1, true);
+
+            when(restaurantPersistencePort.findById(RESTAURANT_ID)).thenReturn(Optional.of(restaurant));
+            when(dishPersistencePort.findActiveDishesByRestaurantIdAndCategorySlice(RESTAURANT_ID, DISH_CATEGORY, 0, 1))
+                    .thenReturn(slice);
+
+            PagedResult<Dish> result = dishUseCase.getDishesByRestaurantSlice(RESTAURANT_ID, " " + DISH_CATEGORY + " ", 0, 1);
+
+            assertThat(result.isHasNext()).isTrue();
+            verify(dishPersistencePort, never()).findActiveDishesByRestaurantIdAndCategory(any(), any(), anyInt(), anyInt());
+        }
+
+        @Test
+        @DisplayName("Should read a count-free slice when category is blank")
+        void shouldReadSliceWithoutCategoryFilter() {
+            PagedResult<Dish> slice = PagedResult.sliceOf(
+                    List.of(createDish(1L, "Hamburguesa", "Hamburguesas")), 0, 1, false);
+
+            when(restaurantPersistencePort.findById(RESTAURANT_ID)).thenReturn(Optional.of(restaurant));
+            when(dishPersistencePort.findActiveDishesByRestaurantIdSlice(RESTAURANT_ID, 0, 1)).thenReturn(slice);
+
+            PagedResult<Dish> result = dishUseCase.getDishesByRestaurantSlice(RESTAURANT_ID, "   ", 0, 1);
+
+            assertThat(result.isHasNext()).isFalse();
+            verify(dishPersistencePort, never()).findActiveDishesByRestaurantId(any(), anyInt(), anyInt());
+        }
     }
 
     @Nested
@@ -2,6 +2,7 @@ package com.pragma.plazoleta.domain.usecase;
 
 import com.pragma.plazoleta.domain.exception.ClientHasActiveOrderException;
 import com.pragma.plazoleta.domain.exception.ClientPhoneNotFoundException;
+import com.pragma.plazoleta.domain.exception.LookupDeadlineExceededException;
 import com.pragma.plazoleta.domain.exception.DishNotActiveException;
 import com.pragma.plazoleta.domain.exception.DishNotFoundException;
 import com.pragma.plazoleta.domain.exception.DishNotFromRestaurantException;
@@ -11,19 +12,26 @@ import com.pragma.plazoleta.domain.exception.InvalidQuantityException;
 import com.pragma.plazoleta.domain.exception.InvalidSecurityPinException;
 import com.pragma.plazoleta.domain.exception.OrderNotInPreparationException;
 import com.pragma.plazoleta.domain.exception.RestaurantNotFoundException;
+import com.pragma.plazoleta.domain.model.CursorResult;
 import com.pragma.plazoleta.domain.model.Dish;
 import com.pragma.plazoleta.domain.model.Order;
+import com.pragma.plazoleta.domain.model.OrderCursor;
 import com.pragma.plazoleta.domain.model.OrderItem;
 import com.pragma.plazoleta.domain.model.OrderStatus;
+import com.pragma.plazoleta.domain.model.OrderTransition;
+import com.pragma.plazoleta.domain.model.OrderTransitionResult;
 import com.pragma.plazoleta.domain.model.PagedResult;
 import com.pragma.plazoleta.domain.model.Restaurant;
 import com.pragma.plazoleta.domain.spi.IClientInfoPort;
 import com.pragma.plazoleta.domain.spi.IDishPersistencePort;
 import com.pragma.plazoleta.domain.spi.IEmployeeRestaurantPort;
+import com.pragma.plazoleta.domain.spi.ILookupScopePort;
+import com.pragma.plazoleta.domain.spi.IOrderEventPort;
 import com.pragma.plazoleta.domain.spi.INotificationPort;
 import com.pragma.plazoleta.domain.spi.IOrderPersistencePort;
 import com.pragma.plazoleta.domain.spi.IRestaurantPersistencePort;
 import com.pragma.plazoleta.domain.spi.ITraceabilityPort;
+import com.pragma.plazoleta.domain.spi.ITransactionPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -31,24 +39,31 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -76,6 +91,15 @@ class OrderUseCaseTest {
     @Mock
     private ITraceabilityPort traceabilityPort;
 
+    @Mock
+    private IOrderEventPort orderEventPort;
+
+    @Mock
+    private ITransactionPort transactionPort;
+
+    @Mock
+    private ILookupScopePort lookupScopePort;
+
     @InjectMocks
     private OrderUseCase orderUseCase;
 
@@ -107,6 +131,9 @@ class OrderUseCaseTest {
         // Default mocks to avoid NPEs in traceability logic
         org.mockito.Mockito.lenient().when(clientInfoPort.getClientEmailById(any())).thenReturn(Optional.of("client@test.com"));
         org.mockito.Mockito.lenient().when(employeeRestaurantPort.getEmployeeEmailById(any())).thenReturn(Optional.of("employee@test.com"));
+        org.mockito.Mockito.lenient().when(transactionPort.inTransaction(any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+        org.mockito.Mockito.lenient().when(lookupScopePort.open()).thenAnswer(_ -> inlineScope());
     }
 
     @Nested
@@ -123,7 +150,7 @@ class OrderUseCaseTest {
 
             when(restaurantPersistencePort.findById(RESTAURANT_ID)).thenReturn(Optional.of(restaurant));
             when(orderPersistencePort.existsActiveOrderByClientId(CLIENT_ID)).thenReturn(false);
-            when(dishPersistencePort.findById(DISH_ID_1)).thenReturn(Optional.of(dish1));
+            when(dishPersistencePort.findCurrentByIds(Set.of(DISH_ID_1))).thenReturn(List.of(dish1));
             when(orderPersistencePort.saveOrder(any(Order.class))).thenReturn(savedOrder);
 
             Order result = orderUseCase.createOrder(order);
@@ -136,8 +163,13 @@ class OrderUseCaseTest {
 
             verify(restaurantPersistencePort).findById(RESTAURANT_ID);
             verify(orderPersistencePort).existsActiveOrderByClientId(CLIENT_ID);
-            verify(dishPersistencePort, atLeastOnce()).findById(DISH_ID_1);
+            verify(dishPersistencePort).findCurrentByIds(Set.of(DISH_ID_1));
             verify(orderPersistencePort).saveOrder(any(Order.class));
+            verify(orderEventPort).publish(argThat(event ->
+                    event.getOrderId().equals(1L)
+                            && event.getRestaurantId().equals(RESTAURANT_ID)
+                            && event.getPreviousStatus() == null
+                            && event.getStatus() == OrderStatus.PENDING));
         }
 
         @Test
@@ -152,8 +184,7 @@ class OrderUseCaseTest {
 
             when(restaurantPersistencePort.findById(RESTAURANT_ID)).thenReturn(Optional.of(restaurant));
             when(orderPersistencePort.existsActiveOrderByClientId(CLIENT_ID)).thenReturn(false);
-            when(dishPersistencePort.findById(DISH_ID_1)).thenReturn(Optional.of(dish1));
-            when(dishPersistencePort.findById(DISH_ID_2)).thenReturn(Optional.of(dish2));
+            when(dishPersistencePort.findCurrentByIds(Set.of(DISH_ID_1, DISH_ID_2))).thenReturn(List.of(dish1, dish2));
             when(orderPersistencePort.saveOrder(any(Order.class))).thenReturn(savedOrder);
 
             Order result = orderUseCase.createOrder(order);
@@ -161,8 +192,8 @@ class OrderUseCaseTest {
             assertThat(result).isNotNull();
             assertThat(result.getItems()).hasSize(2);
 
-            verify(dishPersistencePort, atLeastOnce()).findById(DISH_ID_1);
-            verify(dishPersistencePort, atLeastOnce()).findById(DISH_ID_2);
+            verify(dishPersistencePort).findCurrentByIds(Set.of(DISH_ID_1, DISH_ID_2));
+            verify(dishPersistencePort, never()).findById(any());
         }
 
         @Test
@@ -174,7 +205,7 @@ class OrderUseCaseTest {
 
             when(restaurantPersistencePort.findById(RESTAURANT_ID)).thenReturn(Optional.of(restaurant));
             when(orderPersistencePort.existsActiveOrderByClientId(CLIENT_ID)).thenReturn(false);
-            when(dishPersistencePort.findById(DISH_ID_1)).thenReturn(Optional.of(dish1));
+            when(dishPersistencePort.findCurrentByIds(Set.of(DISH_ID_1))).thenReturn(List.of(dish1));
             when(orderPersistencePort.saveOrder(any(Order.class))).thenAnswer(invocation -> {
                 Order savedOrder = invocation.getArgument(0);
                 assertThat(savedOrder.getStatus()).isEqualTo(OrderStatus.PENDING);
@@ -195,7 +226,7 @@ class OrderUseCaseTest {
 
             when(restaurantPersistencePort.findById(RESTAURANT_ID)).thenReturn(Optional.of(restaurant));
             when(orderPersistencePort.existsActiveOrderByClientId(CLIENT_ID)).thenReturn(false);
-            when(dishPersistencePort.findById(DISH_ID_1)).thenReturn(Optional.of(dish1));
+            when(dishPersistencePort.findCurrentByIds(Set.of(DISH_ID_1))).thenReturn(List.of(dish1));
             when(orderPersistencePort.saveOrder(any(Order.class))).thenAnswer(invocation -> {
                 Order savedOrder = invocation.getArgument(0);
                 assertThat(savedOrder.getCreatedAt()).isNotNull();
@@ -333,7 +364,7 @@ class OrderUseCaseTest {
 
             when(restaurantPersistencePort.findById(RESTAURANT_ID)).thenReturn(Optional.of(restaurant));
             when(orderPersistencePort.existsActiveOrderByClientId(CLIENT_ID)).thenReturn(false);
-            when(dishPersistencePort.findById(DISH_ID_1)).thenReturn(Optional.empty());
+            when(dishPersistencePort.findCurrentByIds(Set.of(DISH_ID_1))).thenReturn(List.of());
 
             assertThatThrownBy(() -> orderUseCase.createOrder(order))
                     .isInstanceOf(DishNotFoundException.class)
@@ -353,7 +384,7 @@ class OrderUseCaseTest {
 
             when(restaurantPersistencePort.findById(RESTAURANT_ID)).thenReturn(Optional.of(restaurant));
             when(orderPersistencePort.existsActiveOrderByClientId(CLIENT_ID)).thenReturn(false);
-            when(dishPersistencePort.findById(DISH_ID_1)).thenReturn(Optional.of(dishFromDifferentRestaurant));
+            when(dishPersistencePort.findCurrentByIds(Set.of(DISH_ID_1))).thenReturn(List.of(dishFromDifferentRestaurant));
 
             assertThatThrownBy(() -> orderUseCase.createOrder(order))
                     .isInstanceOf(DishNotFromRestaurantException.class)
@@ -374,7 +405,7 @@ class OrderUseCaseTest {
 
             when(restaurantPersistencePort.findById(RESTAURANT_ID)).thenReturn(Optional.of(restaurant));
             when(orderPersistencePort.existsActiveOrderByClientId(CLIENT_ID)).thenReturn(false);
-            when(dishPersistencePort.findById(DISH_ID_1)).thenReturn(Optional.of(inactiveDish));
+            when(dishPersistencePort.findCurrentByIds(Set.of(DISH_ID_1))).thenReturn(List.of(inactiveDish));
 
             assertThatThrownBy(() -> orderUseCase.createOrder(order))
                     .isInstanceOf(DishNotActiveException.class)
@@ -395,7 +426,7 @@ class OrderUseCaseTest {
 
             when(restaurantPersistencePort.findById(RESTAURANT_ID)).thenReturn(Optional.of(restaurant));
             when(orderPersistencePort.existsActiveOrderByClientId(CLIENT_ID)).thenReturn(false);
-            when(dishPersistencePort.findById(DISH_ID_1)).thenReturn(Optional.of(dishWithNullActive));
+            when(dishPersistencePort.findCurrentByIds(Set.of(DISH_ID_1))).thenReturn(List.of(dishWithNullActive));
 
             assertThatThrownBy(() -> orderUseCase.createOrder(order))
                     .isInstanceOf(DishNotActiveException.class);
@@ -421,8 +452,8 @@ class OrderUseCaseTest {
 
             when(restaurantPersistencePort.findById(RESTAURANT_ID)).thenReturn(Optional.of(restaurant));
             when(orderPersistencePort.existsActiveOrderByClientId(CLIENT_ID)).thenReturn(false);
-            when(dishPersistencePort.findById(DISH_ID_1)).thenReturn(Optional.of(dish1));
-            when(dishPersistencePort.findById(DISH_ID_2)).thenReturn(Optional.of(dishFromDifferentRestaurant));
+            when(dishPersistencePort.findCurrentByIds(Set.of(DISH_ID_1, DISH_ID_2)))
+                    .thenReturn(List.of(dish1, dishFromDifferentRestaurant));
 
             assertThatThrownBy(() -> orderUseCase.createOrder(order))
                     .isInstanceOf(DishNotFromRestaurantException.class)
@@ -445,7 +476,7 @@ class OrderUseCaseTest {
             assertThatThrownBy(() -> orderUseCase.createOrder(order))
                     .isInstanceOf(InvalidQuantityException.class);
 
-            verify(dishPersistencePort, never()).findById(any());
+            verify(dishPersistencePort, never()).findCurrentByIds(any());
             verify(orderPersistencePort, never()).saveOrder(any());
         }
     }
@@ -553,6 +584,39 @@ class OrderUseCaseTest {
         }
     }
 
+    @Nested
+    @DisplayName("Get Order Queue")
+    class GetOrderQueue {
+
+        @Test
+        @DisplayName("Should read the queue of the employee's restaurant after the cursor")
+        void shouldReadQueueOfEmployeeRestaurant() {
+            OrderCursor after = new OrderCursor(LocalDateTime.of(2026, 1, 1, 12, 0), 5L);
+            CursorResult<Order> expected = CursorResult.of(List.of(), 10, null);
+
+            when(employeeRestaurantPort.getRestaurantIdByEmployeeId(EMPLOYEE_ID))
+                    .thenReturn(Optional.of(RESTAURANT_ID));
+            when(orderPersistencePort.findByRestaurantIdAndStatusAfter(RESTAURANT_ID, OrderStatus.PENDING, after, 10))
+                    .thenReturn(expected);
+
+            CursorResult<Order> result = orderUseCase.getOrderQueue(EMPLOYEE_ID, OrderStatus.PENDING, after, 10);
+
+            assertThat(result).isSameAs(expected);
+        }
+
+        @Test
+        @DisplayName("Should throw exception when employee is not associated with restaurant")
+        void shouldThrowWhenEmployeeNotAssociatedWithRestaurant() {
+            when(employeeRestaurantPort.getRestaurantIdByEmployeeId(EMPLOYEE_ID))
+                    .thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> orderUseCase.getOrderQueue(EMPLOYEE_ID, OrderStatus.PENDING, null, 10))
+                    .isInstanceOf(EmployeeNotAssociatedWithRestaurantException.class);
+
+            verify(orderPersistencePort, never()).findByRestaurantIdAndStatusAfter(any(), any(), any(), anyInt());
+        }
+    }
+
     private Order createOrder(Long clientId, Long restaurantId, List<OrderItem> items) {
         Order order = new Order();
         order.setClientId(clientId);
@@ -601,16 +665,11 @@ class OrderUseCaseTest {
             readyOrder.setEmployeeId(EMPLOYEE_ID);
             readyOrder.setSecurityPin(VALID_SECURITY_PIN);
 
-            Order expectedDeliveredOrder = createOrderWithStatus(ORDER_ID, RESTAURANT_ID, OrderStatus.DELIVERED);
-            expectedDeliveredOrder.setEmployeeId(EMPLOYEE_ID);
-            expectedDeliveredOrder.setSecurityPin(VALID_SECURITY_PIN);
-
             when(employeeRestaurantPort.getRestaurantIdByEmployeeId(EMPLOYEE_ID))
                     .thenReturn(Optional.of(RESTAURANT_ID));
-            when(orderPersistencePort.findById(ORDER_ID))
-                    .thenReturn(Optional.of(readyOrder));
-            when(orderPersistencePort.saveOrder(any(Order.class)))
-                    .thenReturn(expectedDeliveredOrder);
+            when(orderPersistencePort.findHeaderById(ORDER_ID)).thenReturn(Optional.of(readyOrder));
+            when(orderPersistencePort.transitionStatus(any(OrderTransition.class)))
+                    .thenAnswer(applyTransitionTo(readyOrder));
 
             Order result = orderUseCase.markOrderAsDelivered(ORDER_ID, EMPLOYEE_ID, VALID_SECURITY_PIN);
 
@@ -620,8 +679,7 @@ class OrderUseCaseTest {
             assertThat(result.getEmployeeId()).isEqualTo(EMPLOYEE_ID);
 
             verify(employeeRestaurantPort).getRestaurantIdByEmployeeId(EMPLOYEE_ID);
-            verify(orderPersistencePort).findById(ORDER_ID);
-            verify(orderPersistencePort).saveOrder(any(Order.class));
+            verify(orderPersistencePort).transitionStatus(any(OrderTransition.class));
         }
 
         @Test
@@ -629,14 +687,13 @@ class OrderUseCaseTest {
         void shouldThrowOrderNotFoundExceptionWhenOrderDoesNotExist() {
             when(employeeRestaurantPort.getRestaurantIdByEmployeeId(EMPLOYEE_ID))
                     .thenReturn(Optional.of(RESTAURANT_ID));
-            when(orderPersistencePort.findById(ORDER_ID))
-                    .thenReturn(Optional.empty());
+            when(orderPersistencePort.findHeaderById(ORDER_ID)).thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> orderUseCase.markOrderAsDelivered(ORDER_ID, EMPLOYEE_ID, VALID_SECURITY_PIN))
                     .isInstanceOf(com.pragma.plazoleta.domain.exception.OrderNotFoundException.class)
                     .hasMessageContaining(ORDER_ID.toString());
 
-            verify(orderPersistencePort, never()).saveOrder(any());
+            verify(traceabilityPort, never()).saveTraceability(any());
         }
 
         @Test
@@ -646,14 +703,13 @@ class OrderUseCaseTest {
 
             when(employeeRestaurantPort.getRestaurantIdByEmployeeId(EMPLOYEE_ID))
                     .thenReturn(Optional.of(RESTAURANT_ID));
-            when(orderPersistencePort.findById(ORDER_ID))
-                    .thenReturn(Optional.of(pendingOrder));
+            when(orderPersistencePort.findHeaderById(ORDER_ID)).thenReturn(Optional.of(pendingOrder));
 
             assertThatThrownBy(() -> orderUseCase.markOrderAsDelivered(ORDER_ID, EMPLOYEE_ID, VALID_SECURITY_PIN))
                     .isInstanceOf(com.pragma.plazoleta.domain.exception.InvalidOrderStatusException.class)
                     .hasMessageContaining("READY");
 
-            verify(orderPersistencePort, never()).saveOrder(any());
+            verify(traceabilityPort, never()).saveTraceability(any());
         }
 
         @Test
@@ -663,13 +719,12 @@ class OrderUseCaseTest {
 
             when(employeeRestaurantPort.getRestaurantIdByEmployeeId(EMPLOYEE_ID))
                     .thenReturn(Optional.of(RESTAURANT_ID));
-            when(orderPersistencePort.findById(ORDER_ID))
-                    .thenReturn(Optional.of(inPreparationOrder));
+            when(orderPersistencePort.findHeaderById(ORDER_ID)).thenReturn(Optional.of(inPreparationOrder));
 
             assertThatThrownBy(() -> orderUseCase.markOrderAsDelivered(ORDER_ID, EMPLOYEE_ID, VALID_SECURITY_PIN))
                     .isInstanceOf(com.pragma.plazoleta.domain.exception.InvalidOrderStatusException.class);
 
-            verify(orderPersistencePort, never()).saveOrder(any());
+            verify(traceabilityPort, never()).saveTraceability(any());
         }
 
         @Test
@@ -679,13 +734,12 @@ class OrderUseCaseTest {
 
             when(employeeRestaurantPort.getRestaurantIdByEmployeeId(EMPLOYEE_ID))
                     .thenReturn(Optional.of(RESTAURANT_ID));
-            when(orderPersistencePort.findById(ORDER_ID))
-                    .thenReturn(Optional.of(cancelledOrder));
+            when(orderPersistencePort.findHeaderById(ORDER_ID)).thenReturn(Optional.of(cancelledOrder));
 
             assertThatThrownBy(() -> orderUseCase.markOrderAsDelivered(ORDER_ID, EMPLOYEE_ID, VALID_SECURITY_PIN))
                     .isInstanceOf(com.pragma.plazoleta.domain.exception.InvalidOrderStatusException.class);
 
-            verify(orderPersistencePort, never()).saveOrder(any());
+            verify(traceabilityPort, never()).saveTraceability(any());
         }
 
         @Test
@@ -695,13 +749,12 @@ class OrderUseCaseTest {
 
             when(employeeRestaurantPort.getRestaurantIdByEmployeeId(EMPLOYEE_ID))
                     .thenReturn(Optional.of(RESTAURANT_ID));
-            when(orderPersistencePort.findById(ORDER_ID))
-                    .thenReturn(Optional.of(deliveredOrder));
+            when(orderPersistencePort.findHeaderById(ORDER_ID)).thenReturn(Optional.of(deliveredOrder));
 
             assertThatThrownBy(() -> orderUseCase.markOrderAsDelivered(ORDER_ID, EMPLOYEE_ID, VALID_SECURITY_PIN))
                     .isInstanceOf(com.pragma.plazoleta.domain.exception.InvalidOrderStatusException.class);
 
-            verify(orderPersistencePort, never()).saveOrder(any());
+            verify(traceabilityPort, never()).saveTraceability(any());
         }
 
         @Test
@@ -715,14 +768,13 @@ class OrderUseCaseTest {
 
             when(employeeRestaurantPort.getRestaurantIdByEmployeeId(EMPLOYEE_ID))
                     .thenReturn(Optional.of(RESTAURANT_ID));
-            when(orderPersistencePort.findById(ORDER_ID))
-                    .thenReturn(Optional.of(readyOrder));
+            when(orderPersistencePort.findHeaderById(ORDER_ID)).thenReturn(Optional.of(readyOrder));
 
             assertThatThrownBy(() -> orderUseCase.markOrderAsDelivered(ORDER_ID, EMPLOYEE_ID, incorrectPin))
                     .isInstanceOf(InvalidSecurityPinException.class)
                     .hasMessageContaining("security PIN");
 
-            verify(orderPersistencePort, never()).saveOrder(any());
+            verify(traceabilityPort, never()).saveTraceability(any());
         }
 
         @Test
@@ -734,13 +786,12 @@ class OrderUseCaseTest {
 
             when(employeeRestaurantPort.getRestaurantIdByEmployeeId(EMPLOYEE_ID))
                     .thenReturn(Optional.of(RESTAURANT_ID));
-            when(orderPersistencePort.findById(ORDER_ID))
-                    .thenReturn(Optional.of(readyOrder));
+            when(orderPersistencePort.findHeaderById(ORDER_ID)).thenReturn(Optional.of(readyOrder));
 
             assertThatThrownBy(() -> orderUseCase.markOrderAsDelivered(ORDER_ID, EMPLOYEE_ID, null))
                     .isInstanceOf(InvalidSecurityPinException.class);
 
-            verify(orderPersistencePort, never()).saveOrder(any());
+            verify(traceabilityPort, never()).saveTraceability(any());
         }
 
         @Test
@@ -752,13 +803,12 @@ class OrderUseCaseTest {
 
             when(employeeRestaurantPort.getRestaurantIdByEmployeeId(EMPLOYEE_ID))
                     .thenReturn(Optional.of(RESTAURANT_ID));
-            when(orderPersistencePort.findById(ORDER_ID))
-                    .thenReturn(Optional.of(readyOrder));
+            when(orderPersistencePort.findHeaderById(ORDER_ID)).thenReturn(Optional.of(readyOrder));
 
             assertThatThrownBy(() -> orderUseCase.markOrderAsDelivered(ORDER_ID, EMPLOYEE_ID, VALID_SECURITY_PIN))
                     .isInstanceOf(InvalidSecurityPinException.class);
 
-            verify(orderPersistencePort, never()).saveOrder(any());
+            verify(traceabilityPort, never()).saveTraceability(any());
         }
 
         @Test
@@ -770,14 +820,13 @@ class OrderUseCaseTest {
 
             when(employeeRestaurantPort.getRestaurantIdByEmployeeId(EMPLOYEE_ID))
                     .thenReturn(Optional.of(RESTAURANT_ID));
-            when(orderPersistencePort.findById(ORDER_ID))
-                    .thenReturn(Optional.of(orderFromDifferentRestaurant));
+            when(orderPersistencePort.findHeaderById(ORDER_ID)).thenReturn(Optional.of(orderFromDifferentRestaurant));
 
             assertThatThrownBy(() -> orderUseCase.markOrderAsDelivered(ORDER_ID, EMPLOYEE_ID, VALID_SECURITY_PIN))
                     .isInstanceOf(com.pragma.plazoleta.domain.exception.OrderNotFromEmployeeRestaurantException.class)
                     .hasMessageContaining(ORDER_ID.toString());
 
-            verify(orderPersistencePort, never()).saveOrder(any());
+            verify(traceabilityPort, never()).saveTraceability(any());
         }
 
         @Test
@@ -790,8 +839,7 @@ class OrderUseCaseTest {
                     .isInstanceOf(EmployeeNotAssociatedWithRestaurantException.class)
                     .hasMessageContaining(EMPLOYEE_ID.toString());
 
-            verify(orderPersistencePort, never()).findById(any());
-            verify(orderPersistencePort, never()).saveOrder(any());
+            verify(orderPersistencePort, never()).transitionStatus(any());
         }
 
         @Test
@@ -803,18 +851,13 @@ class OrderUseCaseTest {
 
             when(employeeRestaurantPort.getRestaurantIdByEmployeeId(EMPLOYEE_ID))
                     .thenReturn(Optional.of(RESTAURANT_ID));
-            when(orderPersistencePort.findById(ORDER_ID))
-                    .thenReturn(Optional.of(readyOrder));
-            when(orderPersistencePort.saveOrder(any(Order.class)))
-                    .thenAnswer(invocation -> {
-                        Order savedOrder = invocation.getArgument(0);
-                        assertThat(savedOrder.getUpdatedAt()).isNotNull();
-                        return savedOrder;
-                    });
+            when(orderPersistencePort.findHeaderById(ORDER_ID)).thenReturn(Optional.of(readyOrder));
+            when(orderPersistencePort.transitionStatus(any(OrderTransition.class)))
+                    .thenAnswer(applyTransitionTo(readyOrder));
 
             orderUseCase.markOrderAsDelivered(ORDER_ID, EMPLOYEE_ID, VALID_SECURITY_PIN);
 
-            verify(orderPersistencePort).saveOrder(any(Order.class));
+            verify(orderPersistencePort).transitionStatus(argThat(transition -> transition.getUpdatedAt() != null));
         }
 
         @Test
@@ -826,20 +869,20 @@ class OrderUseCaseTest {
 
             when(employeeRestaurantPort.getRestaurantIdByEmployeeId(EMPLOYEE_ID))
                     .thenReturn(Optional.of(RESTAURANT_ID));
-            when(orderPersistencePort.findById(ORDER_ID))
-                    .thenReturn(Optional.of(readyOrder));
-            when(orderPersistencePort.saveOrder(any(Order.class)))
-                    .thenAnswer(invocation -> {
-                        Order orderToSave = invocation.getArgument(0);
-                        assertThat(orderToSave.getStatus()).isEqualTo(OrderStatus.DELIVERED);
-                        orderToSave.setId(ORDER_ID);
-                        return orderToSave;
-                    });
+            when(orderPersistencePort.findHeaderById(ORDER_ID)).thenReturn(Optional.of(readyOrder));
+            when(orderPersistencePort.transitionStatus(any(OrderTransition.class)))
+                    .thenAnswer(applyTransitionTo(readyOrder));
 
             Order result = orderUseCase.markOrderAsDelivered(ORDER_ID, EMPLOYEE_ID, VALID_SECURITY_PIN);
 
             assertThat(result.getStatus()).isEqualTo(OrderStatus.DELIVERED);
-            verify(orderPersistencePort).saveOrder(any(Order.class));
+            verify(orderPersistencePort).transitionStatus(argThat(transition ->
+                    transition.getOrderId().equals(ORDER_ID)
+                            && transition.getFromStatus() == OrderStatus.READY
+                            && transition.getToStatus() == OrderStatus.DELIVERED
+                            && transition.getRestaurantId().equals(RESTAURANT_ID)
+                            && transition.isSecurityPinChecked()
+                            && VALID_SECURITY_PIN.equals(transition.getExpectedSecurityPin())));
         }
 
         @Test
@@ -852,15 +895,14 @@ class OrderUseCaseTest {
 
             when(employeeRestaurantPort.getRestaurantIdByEmployeeId(EMPLOYEE_ID))
                     .thenReturn(Optional.of(RESTAURANT_ID));
-            when(orderPersistencePort.findById(ORDER_ID))
-                    .thenReturn(Optional.of(readyOrder));
-            when(orderPersistencePort.saveOrder(any(Order.class)))
-                    .thenReturn(readyOrder);
+            when(orderPersistencePort.findHeaderById(ORDER_ID)).thenReturn(Optional.of(readyOrder));
+            when(orderPersistencePort.transitionStatus(any(OrderTransition.class)))
+                    .thenAnswer(applyTransitionTo(readyOrder));
 
             Order result = orderUseCase.markOrderAsDelivered(ORDER_ID, EMPLOYEE_ID, actualPin);
 
             assertThat(result).isNotNull();
-            verify(orderPersistencePort).saveOrder(any(Order.class));
+            verify(orderPersistencePort).transitionStatus(any(OrderTransition.class));
         }
     }
 
@@ -874,15 +916,12 @@ class OrderUseCaseTest {
         @DisplayName("Should assign order to employee successfully when order is PENDING")
         void shouldAssignOrderSuccessfullyWhenPending() {
             Order pendingOrder = createOrderWithStatus(ORDER_ID, RESTAURANT_ID, OrderStatus.PENDING);
-            Order expectedAssignedOrder = createOrderWithStatus(ORDER_ID, RESTAURANT_ID, OrderStatus.IN_PREPARATION);
-            expectedAssignedOrder.setEmployeeId(EMPLOYEE_ID);
 
             when(employeeRestaurantPort.getRestaurantIdByEmployeeId(EMPLOYEE_ID))
                     .thenReturn(Optional.of(RESTAURANT_ID));
-            when(orderPersistencePort.findById(ORDER_ID))
-                    .thenReturn(Optional.of(pendingOrder));
-            when(orderPersistencePort.saveOrder(any(Order.class)))
-                    .thenReturn(expectedAssignedOrder);
+            when(orderPersistencePort.findHeaderById(ORDER_ID)).thenReturn(Optional.of(pendingOrder));
+            when(orderPersistencePort.transitionStatus(any(OrderTransition.class)))
+                    .thenAnswer(applyTransitionTo(pendingOrder));
 
             Order result = orderUseCase.assignOrderToEmployee(ORDER_ID, EMPLOYEE_ID);
 
@@ -892,8 +931,7 @@ class OrderUseCaseTest {
             assertThat(result.getStatus()).isEqualTo(OrderStatus.IN_PREPARATION);
 
             verify(employeeRestaurantPort).getRestaurantIdByEmployeeId(EMPLOYEE_ID);
-            verify(orderPersistencePort).findById(ORDER_ID);
-            verify(orderPersistencePort).saveOrder(any(Order.class));
+            verify(orderPersistencePort).transitionStatus(any(OrderTransition.class));
         }
 
         @Test
@@ -901,14 +939,13 @@ class OrderUseCaseTest {
         void shouldThrowOrderNotFoundExceptionWhenOrderDoesNotExist() {
             when(employeeRestaurantPort.getRestaurantIdByEmployeeId(EMPLOYEE_ID))
                     .thenReturn(Optional.of(RESTAURANT_ID));
-            when(orderPersistencePort.findById(ORDER_ID))
-                    .thenReturn(Optional.empty());
+            when(orderPersistencePort.findHeaderById(ORDER_ID)).thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> orderUseCase.assignOrderToEmployee(ORDER_ID, EMPLOYEE_ID))
                     .isInstanceOf(com.pragma.plazoleta.domain.exception.OrderNotFoundException.class)
                     .hasMessageContaining(ORDER_ID.toString());
 
-            verify(orderPersistencePort, never()).saveOrder(any());
+            verify(traceabilityPort, never()).saveTraceability(any());
         }
 
         @Test
@@ -918,15 +955,14 @@ class OrderUseCaseTest {
 
             when(employeeRestaurantPort.getRestaurantIdByEmployeeId(EMPLOYEE_ID))
                     .thenReturn(Optional.of(RESTAURANT_ID));
-            when(orderPersistencePort.findById(ORDER_ID))
-                    .thenReturn(Optional.of(inPreparationOrder));
+            when(orderPersistencePort.findHeaderById(ORDER_ID)).thenReturn(Optional.of(inPreparationOrder));
 
             assertThatThrownBy(() -> orderUseCase.assignOrderToEmployee(ORDER_ID, EMPLOYEE_ID))
                     .isInstanceOf(com.pragma.plazoleta.domain.exception.InvalidOrderStatusException.class)
                     .hasMessageContaining("PENDING")
                     .hasMessageContaining("IN_PREPARATION");
 
-            verify(orderPersistencePort, never()).saveOrder(any());
+            verify(traceabilityPort, never()).saveTraceability(any());
         }
 
         @Test
@@ -937,14 +973,13 @@ class OrderUseCaseTest {
 
             when(employeeRestaurantPort.getRestaurantIdByEmployeeId(EMPLOYEE_ID))
                     .thenReturn(Optional.of(RESTAURANT_ID));
-            when(orderPersistencePort.findById(ORDER_ID))
-                    .thenReturn(Optional.of(orderFromDifferentRestaurant));
+            when(orderPersistencePort.findHeaderById(ORDER_ID)).thenReturn(Optional.of(orderFromDifferentRestaurant));
 
             assertThatThrownBy(() -> orderUseCase.assignOrderToEmployee(ORDER_ID, EMPLOYEE_ID))
                     .isInstanceOf(com.pragma.plazoleta.domain.exception.OrderNotFromEmployeeRestaurantException.class)
                     .hasMessageContaining(ORDER_ID.toString());
 
-            verify(orderPersistencePort, never()).saveOrder(any());
+            verify(traceabilityPort, never()).saveTraceability(any());
         }
 
         @Test
@@ -957,8 +992,7 @@ class OrderUseCaseTest {
                     .isInstanceOf(EmployeeNotAssociatedWithRestaurantException.class)
                     .hasMessageContaining(EMPLOYEE_ID.toString());
 
-            verify(orderPersistencePort, never()).findById(any());
-            verify(orderPersistencePort, never()).saveOrder(any());
+            verify(orderPersistencePort, never()).transitionStatus(any());
         }
 
         @Test
@@ -968,13 +1002,12 @@ class OrderUseCaseTest {
 
             when(employeeRestaurantPort.getRestaurantIdByEmployeeId(EMPLOYEE_ID))
                     .thenReturn(Optional.of(RESTAURANT_ID));
-            when(orderPersistencePort.findById(ORDER_ID))
-                    .thenReturn(Optional.of(readyOrder));
+            when(orderPersistencePort.findHeaderById(ORDER_ID)).thenReturn(Optional.of(readyOrder));
 
             assertThatThrownBy(() -> orderUseCase.assignOrderToEmployee(ORDER_ID, EMPLOYEE_ID))
                     .isInstanceOf(com.pragma.plazoleta.domain.exception.InvalidOrderStatusException.class);
 
-            verify(orderPersistencePort, never()).saveOrder(any());
+            verify(traceabilityPort, never()).saveTraceability(any());
         }
 
         @Test
@@ -984,13 +1017,12 @@ class OrderUseCaseTest {
 
             when(employeeRestaurantPort.getRestaurantIdByEmployeeId(EMPLOYEE_ID))
                     .thenReturn(Optional.of(RESTAURANT_ID));
-            when(orderPersistencePort.findById(ORDER_ID))
-                    .thenReturn(Optional.of(deliveredOrder));
+            when(orderPersistencePort.findHeaderById(ORDER_ID)).thenReturn(Optional.of(deliveredOrder));
 
             assertThatThrownBy(() -> orderUseCase.assignOrderToEmployee(ORDER_ID, EMPLOYEE_ID))
                     .isInstanceOf(com.pragma.plazoleta.domain.exception.InvalidOrderStatusException.class);
 
-            verify(orderPersistencePort, never()).saveOrder(any());
+            verify(traceabilityPort, never()).saveTraceability(any());
         }
 
         @Test
@@ -1000,14 +1032,137 @@ class OrderUseCaseTest {
 
             when(employeeRestaurantPort.getRestaurantIdByEmployeeId(EMPLOYEE_ID))
                     .thenReturn(Optional.of(RESTAURANT_ID));
-            when(orderPersistencePort.findById(ORDER_ID))
-                    .thenReturn(Optional.of(cancelledOrder));
+            when(orderPersistencePort.findHeaderById(ORDER_ID)).thenReturn(Optional.of(cancelledOrder));
 
             assertThatThrownBy(() -> orderUseCase.assignOrderToEmployee(ORDER_ID, EMPLOYEE_ID))
                     .isInstanceOf(com.pragma.plazoleta.domain.exception.InvalidOrderStatusException.class);
 
-            verify(orderPersistencePort, never()).saveOrder(any());
+            verify(traceabilityPort, never()).saveTraceability(any());
+        }
+
+        @Test
+        @DisplayName("Should throw InvalidOrderStatusException when the update loses a race the current state does not explain")
+        void shouldThrowWhenTransitionIsRejectedByConcurrentChange() {
+            Order pendingOrder = createOrderWithStatus(ORDER_ID, RESTAURANT_ID, OrderStatus.PENDING);
+
+            when(employeeRestaurantPort.getRestaurantIdByEmployeeId(EMPLOYEE_ID))
+                    .thenReturn(Optional.of(RESTAURANT_ID));
+            when(orderPersistencePort.findHeaderById(ORDER_ID)).thenReturn(Optional.of(pendingOrder));
+            when(orderPersistencePort.transitionStatus(any(OrderTransition.class)))
+                    .thenReturn(OrderTransitionResult.rejected(pendingOrder));
+
+            assertThatThrownBy(() -> orderUseCase.assignOrderToEmployee(ORDER_ID, EMPLOYEE_ID))
+                    .isInstanceOf(com.pragma.plazoleta.domain.exception.InvalidOrderStatusException.class)
+                    .hasMessageContaining(ORDER_ID.toString());
+
+            verify(traceabilityPort, never()).saveTraceability(any());
+        }
+
+        @Test
+        @DisplayName("Should look up the emails before opening the transaction")
+        void shouldResolveRemoteDataBeforeTransaction() {
+            Order pendingOrder = createOrderWithStatus(ORDER_ID, RESTAURANT_ID, OrderStatus.PENDING);
+
+            when(employeeRestaurantPort.getRestaurantIdByEmployeeId(EMPLOYEE_ID))
+                    .thenReturn(Optional.of(RESTAURANT_ID));
+            when(orderPersistencePort.findHeaderById(ORDER_ID)).thenReturn(Optional.of(pendingOrder));
+            when(orderPersistencePort.transitionStatus(any(OrderTransition.class)))
+                    .thenAnswer(applyTransitionTo(pendingOrder));
+
+            orderUseCase.assignOrderToEmployee(ORDER_ID, EMPLOYEE_ID);
+
+            InOrder inOrder = inOrder(clientInfoPort, employeeRestaurantPort, transactionPort, orderPersistencePort);
+            inOrder.verify(clientInfoPort).getClientEmailById(CLIENT_ID);
+            inOrder.verify(employeeRestaurantPort).getEmployeeEmailById(EMPLOYEE_ID);
+            inOrder.verify(transactionPort).inTransaction(any());
+            inOrder.verify(orderPersistencePort).transitionStatus(any(OrderTransition.class));
+            verify(traceabilityPort).saveTraceability(argThat(traceability ->
+                    "client@test.com".equals(traceability.getClientEmail())
+                            && "employee@test.com".equals(traceability.getEmployeeEmail())));
+        }
+    }
+
+    @Nested
+    @DisplayName("Claim Next Pending Order")
+    class ClaimNextPendingOrderTests {
+
+        private static final Long ORDER_ID = 250L;
+
+        @Test
+        @DisplayName("Should claim the next pending order of the employee's restaurant")
+        void shouldClaimNextPendingOrder() {
+            Order claimedOrder = createOrderWithStatus(ORDER_ID, RESTAURANT_ID, OrderStatus.IN_PREPARATION);
+            claimedOrder.setEmployeeId(EMPLOYEE_ID);
+
+            when(employeeRestaurantPort.getRestaurantIdByEmployeeId(EMPLOYEE_ID))
+                    .thenReturn(Optional.of(RESTAURANT_ID));
+            when(orderPersistencePort.claimNextOrder(any(OrderTransition.class)))
+                    .thenReturn(Optional.of(claimedOrder));
+
+            Optional<Order> result = orderUseCase.claimNextPendingOrder(EMPLOYEE_ID);
+
+            assertThat(result).contains(claimedOrder);
+            verify(orderPersistencePort).claimNextOrder(argThat(transition ->
+                    transition.getOrderId() == null
+                            && transition.getFromStatus() == OrderStatus.PENDING
+                            && transition.getToStatus() == OrderStatus.IN_PREPARATION
+                            && transition.getRestaurantId().equals(RESTAURANT_ID)
+                            && transition.getEmployeeId().equals(EMPLOYEE_ID)));
+            verify(traceabilityPort).saveTraceability(argThat(traceability ->
+                    traceability.getOrderId().equals(ORDER_ID)
+                            && "PENDING".equals(traceability.getPreviousStatus())
+                            && "IN_PREPARATION".equals(traceability.getNewStatus())
+                            && traceability.getClientEmail() == null
+                            && "employee@test.com".equals(traceability.getEmployeeEmail())));
+            verify(clientInfoPort, never()).getClientEmailById(any());
         }
+
+        @Test
+        @DisplayName("Should return empty without traceability when no order is waiting")
+        void shouldReturnEmptyWhenNoOrderIsWaiting() {
+            when(employeeRestaurantPort.getRestaurantIdByEmployeeId(EMPLOYEE_ID))
+                    .thenReturn(Optional.of(RESTAURANT_ID));
+            when(orderPersistencePort.claimNextOrder(any(OrderTransition.class)))
+                    .thenReturn(Optional.empty());
+
+            Optional<Order> result = orderUseCase.claimNextPendingOrder(EMPLOYEE_ID);
+
+            assertThat(result).isEmpty();
+            verify(traceabilityPort, never()).saveTraceability(any());
+        }
+
+        @Test
+        @DisplayName("Should throw EmployeeNotAssociatedWithRestaurantException when employee has no restaurant")
+        void shouldThrowEmployeeNotAssociatedWithRestaurantException() {
+            when(employeeRestaurantPort.getRestaurantIdByEmployeeId(EMPLOYEE_ID))
+                    .thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> orderUseCase.claimNextPendingOrder(EMPLOYEE_ID))
+                    .isInstanceOf(EmployeeNotAssociatedWithRestaurantException.class);
+
+            verify(orderPersistencePort, never()).claimNextOrder(any());
+        }
+    }
+
+    /**
+     * Scope that runs each lookup as it is forked, so the tests stay on one thread.
+     */
+    private static ILookupScopePort.Scope inlineScope() {
+        return new ILookupScopePort.Scope() {
+            @Override
+            public <T> Supplier<T> fork(Supplier<T> lookup) {
+                T result = lookup.get();
+                return () -> result;
+            }
+
+            @Override
+            public void join() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
     }
 
     private Order createOrderWithStatus(Long orderId, Long restaurantId, OrderStatus status) {
@@ -1022,6 +1177,21 @@ class OrderUseCaseTest {
         return order;
     }
 
+    private Answer<OrderTransitionResult> applyTransitionTo(Order currentOrder) {
+        return invocation -> {
+            OrderTransition transition = invocation.getArgument(0);
+            currentOrder.setStatus(transition.getToStatus());
+            if (transition.getEmployeeId() != null) {
+                currentOrder.setEmployeeId(transition.getEmployeeId());
+            }
+            if (transition.getSecurityPin() != null) {
+                currentOrder.setSecurityPin(transition.getSecurityPin());
+            }
+            currentOrder.setUpdatedAt(transition.getUpdatedAt());
+            return OrderTransitionResult.applied(currentOrder);
+        };
+    }
+
     @Nested
     @DisplayName("Mark Order As Ready")
     class MarkOrderAsReadyTests {
@@ -1037,16 +1207,9 @@ class OrderUseCaseTest {
 
             when(employeeRestaurantPort.getRestaurantIdByEmployeeId(EMPLOYEE_ID))
                     .thenReturn(Optional.of(RESTAURANT_ID));
-            when(orderPersistencePort.findById(ORDER_ID))
-                    .thenReturn(Optional.of(inPreparationOrder));
-            when(orderPersistencePort.saveOrder(any(Order.class)))
-                    .thenAnswer(invocation -> {
-                        Order savedOrder = invocation.getArgument(0);
-                        assertThat(savedOrder.getStatus()).isEqualTo(OrderStatus.READY);
-                        assertThat(savedOrder.getSecurityPin()).isNotNull();
-                        assertThat(savedOrder.getSecurityPin()).hasSize(6);
-                        return savedOrder;
-                    });
+            when(orderPersistencePort.findHeaderById(ORDER_ID)).thenReturn(Optional.of(inPreparationOrder));
+            when(orderPersistencePort.transitionStatus(any(OrderTransition.class)))
+                    .thenAnswer(applyTransitionTo(inPreparationOrder));
             when(clientInfoPort.getClientPhoneById(CLIENT_ID))
                     .thenReturn(Optional.of(CLIENT_PHONE));
             when(restaurantPersistencePort.findById(RESTAURANT_ID))
@@ -1060,8 +1223,11 @@ class OrderUseCaseTest {
             assertThat(result.getSecurityPin()).hasSize(6);
 
             verify(employeeRestaurantPort).getRestaurantIdByEmployeeId(EMPLOYEE_ID);
-            verify(orderPersistencePort).findById(ORDER_ID);
-            verify(orderPersistencePort).saveOrder(any(Order.class));
+            verify(orderPersistencePort).transitionStatus(argThat(transition ->
+                    transition.getFromStatus() == OrderStatus.IN_PREPARATION
+                            && transition.getToStatus() == OrderStatus.READY
+                            && transition.getSecurityPin() != null
+                            && transition.getSecurityPin().length() == 6));
             verify(clientInfoPort).getClientPhoneById(CLIENT_ID);
             verify(notificationPort).sendOrderReadyNotification(
                     eq(CLIENT_PHONE),
@@ -1079,10 +1245,9 @@ class OrderUseCaseTest {
 
             when(employeeRestaurantPort.getRestaurantIdByEmployeeId(EMPLOYEE_ID))
                     .thenReturn(Optional.of(RESTAURANT_ID));
-            when(orderPersistencePort.findById(ORDER_ID))
-                    .thenReturn(Optional.of(inPreparationOrder));
-            when(orderPersistencePort.saveOrder(any(Order.class)))
-                    .thenAnswer(invocation -> invocation.getArgument(0));
+            when(orderPersistencePort.findHeaderById(ORDER_ID)).thenReturn(Optional.of(inPreparationOrder));
+            when(orderPersistencePort.transitionStatus(any(OrderTransition.class)))
+                    .thenAnswer(applyTransitionTo(inPreparationOrder));
             when(clientInfoPort.getClientPhoneById(CLIENT_ID))
                     .thenReturn(Optional.of(CLIENT_PHONE));
             when(restaurantPersistencePort.findById(RESTAURANT_ID))
@@ -1098,14 +1263,13 @@ class OrderUseCaseTest {
         void shouldThrowOrderNotFoundExceptionWhenOrderDoesNotExist() {
             when(employeeRestaurantPort.getRestaurantIdByEmployeeId(EMPLOYEE_ID))
                     .thenReturn(Optional.of(RESTAURANT_ID));
-            when(orderPersistencePort.findById(ORDER_ID))
-                    .thenReturn(Optional.empty());
+            when(orderPersistencePort.findHeaderById(ORDER_ID)).thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> orderUseCase.markOrderAsReady(ORDER_ID, EMPLOYEE_ID))
                     .isInstanceOf(com.pragma.plazoleta.domain.exception.OrderNotFoundException.class)
                     .hasMessageContaining(ORDER_ID.toString());
 
-            verify(orderPersistencePort, never()).saveOrder(any());
+            verify(traceabilityPort, never()).saveTraceability(any());
             verify(notificationPort, never()).sendOrderReadyNotification(anyString(), anyString(), anyString(), anyString());
         }
 
@@ -1116,14 +1280,13 @@ class OrderUseCaseTest {
 
             when(employeeRestaurantPort.getRestaurantIdByEmployeeId(EMPLOYEE_ID))
                     .thenReturn(Optional.of(RESTAURANT_ID));
-            when(orderPersistencePort.findById(ORDER_ID))
-                    .thenReturn(Optional.of(pendingOrder));
+            when(orderPersistencePort.findHeaderById(ORDER_ID)).thenReturn(Optional.of(pendingOrder));
 
             assertThatThrownBy(() -> orderUseCase.markOrderAsReady(ORDER_ID, EMPLOYEE_ID))
                     .isInstanceOf(OrderNotInPreparationException.class)
                     .hasMessageContaining(ORDER_ID.toString());
 
-            verify(orderPersistencePort, never()).saveOrder(any());
+            verify(traceabilityPort, never()).saveTraceability(any());
             verify(notificationPort, never()).sendOrderReadyNotification(anyString(), anyString(), anyString(), anyString());
         }
 
@@ -1134,13 +1297,12 @@ class OrderUseCaseTest {
 
             when(employeeRestaurantPort.getRestaurantIdByEmployeeId(EMPLOYEE_ID))
                     .thenReturn(Optional.of(RESTAURANT_ID));
-            when(orderPersistencePort.findById(ORDER_ID))
-                    .thenReturn(Optional.of(readyOrder));
+            when(orderPersistencePort.findHeaderById(ORDER_ID)).thenReturn(Optional.of(readyOrder));
 
             assertThatThrownBy(() -> orderUseCase.markOrderAsReady(ORDER_ID, EMPLOYEE_ID))
                     .isInstanceOf(OrderNotInPreparationException.class);
 
-            verify(orderPersistencePort, never()).saveOrder(any());
+            verify(traceabilityPort, never()).saveTraceability(any());
         }
 
         @Test
@@ -1150,13 +1312,12 @@ class OrderUseCaseTest {
 
             when(employeeRestaurantPort.getRestaurantIdByEmployeeId(EMPLOYEE_ID))
                     .thenReturn(Optional.of(RESTAURANT_ID));
-            when(orderPersistencePort.findById(ORDER_ID))
-                    .thenReturn(Optional.of(deliveredOrder));
+            when(orderPersistencePort.findHeaderById(ORDER_ID)).thenReturn(Optional.of(deliveredOrder));
 
             assertThatThrownBy(() -> orderUseCase.markOrderAsReady(ORDER_ID, EMPLOYEE_ID))
                     .isInstanceOf(OrderNotInPreparationException.class);
 
-            verify(orderPersistencePort, never()).saveOrder(any());
+            verify(traceabilityPort, never()).saveTraceability(any());
         }
 
         @Test
@@ -1166,13 +1327,12 @@ class OrderUseCaseTest {
 
             when(employeeRestaurantPort.getRestaurantIdByEmployeeId(EMPLOYEE_ID))
                     .thenReturn(Optional.of(RESTAURANT_ID));
-            when(orderPersistencePort.findById(ORDER_ID))
-                    .thenReturn(Optional.of(cancelledOrder));
+            when(orderPersistencePort.findHeaderById(ORDER_ID)).thenReturn(Optional.of(cancelledOrder));
 
             assertThatThrownBy(() -> orderUseCase.markOrderAsReady(ORDER_ID, EMPLOYEE_ID))
                     .isInstanceOf(OrderNotInPreparationException.class);
 
-            verify(orderPersistencePort, never()).saveOrder(any());
+            verify(traceabilityPort, never()).saveTraceability(any());
         }
 
         @Test
@@ -1183,14 +1343,13 @@ class OrderUseCaseTest {
 
             when(employeeRestaurantPort.getRestaurantIdByEmployeeId(EMPLOYEE_ID))
                     .thenReturn(Optional.of(RESTAURANT_ID));
-            when(orderPersistencePort.findById(ORDER_ID))
-                    .thenReturn(Optional.of(orderFromDifferentRestaurant));
+            when(orderPersistencePort.findHeaderById(ORDER_ID)).thenReturn(Optional.of(orderFromDifferentRestaurant));
 
             assertThatThrownBy(() -> orderUseCase.markOrderAsReady(ORDER_ID, EMPLOYEE_ID))
                     .isInstanceOf(com.pragma.plazoleta.domain.exception.OrderNotFromEmployeeRestaurantException.class)
                     .hasMessageContaining(ORDER_ID.toString());
 
-            verify(orderPersistencePort, never()).saveOrder(any());
+            verify(traceabilityPort, never()).saveTraceability(any());
         }
 
         @Test
@@ -1203,8 +1362,7 @@ class OrderUseCaseTest {
                     .isInstanceOf(EmployeeNotAssociatedWithRestaurantException.class)
                     .hasMessageContaining(EMPLOYEE_ID.toString());
 
-            verify(orderPersistencePort, never()).findById(any());
-            verify(orderPersistencePort, never()).saveOrder(any());
+            verify(orderPersistencePort, never()).transitionStatus(any());
         }
 
         @Test
@@ -1215,10 +1373,7 @@ class OrderUseCaseTest {
 
             when(employeeRestaurantPort.getRestaurantIdByEmployeeId(EMPLOYEE_ID))
                     .thenReturn(Optional.of(RESTAURANT_ID));
-            when(orderPersistencePort.findById(ORDER_ID))
-                    .thenReturn(Optional.of(inPreparationOrder));
-            when(orderPersistencePort.saveOrder(any(Order.class)))
-                    .thenAnswer(invocation -> invocation.getArgument(0));
+            when(orderPersistencePort.findHeaderById(ORDER_ID)).thenReturn(Optional.of(inPreparationOrder));
             when(clientInfoPort.getClientPhoneById(CLIENT_ID))
                     .thenReturn(Optional.empty());
 
@@ -1226,6 +1381,54 @@ class OrderUseCaseTest {
                     .isInstanceOf(ClientPhoneNotFoundException.class)
                     .hasMessageContaining(CLIENT_ID.toString());
 
+            verify(orderPersistencePort, never()).transitionStatus(any());
+            verify(notificationPort, never()).sendOrderReadyNotification(anyString(), anyString(), anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("Should resolve traceability and notification details in one lookup scope")
+        void shouldResolveAllLookupsInOneScope() {
+            Order inPreparationOrder = createOrderWithStatus(ORDER_ID, RESTAURANT_ID, OrderStatus.IN_PREPARATION);
+            ILookupScopePort.Scope scope = org.mockito.Mockito.spy(inlineScope());
+
+            when(lookupScopePort.open()).thenReturn(scope);
+            when(employeeRestaurantPort.getRestaurantIdByEmployeeId(EMPLOYEE_ID))
+                    .thenReturn(Optional.of(RESTAURANT_ID));
+            when(orderPersistencePort.findHeaderById(ORDER_ID)).thenReturn(Optional.of(inPreparationOrder));
+            when(orderPersistencePort.transitionStatus(any(OrderTransition.class)))
+                    .thenAnswer(applyTransitionTo(inPreparationOrder));
+            when(clientInfoPort.getClientPhoneById(CLIENT_ID))
+                    .thenReturn(Optional.of(CLIENT_PHONE));
+            when(restaurantPersistencePort.findById(RESTAURANT_ID))
+                    .thenReturn(Optional.of(restaurant));
+
+            orderUseCase.markOrderAsReady(ORDER_ID, EMPLOYEE_ID);
+
+            verify(lookupScopePort).open();
+            verify(scope, times(4)).fork(any());
+            InOrder inOrder = inOrder(scope, transactionPort);
+            inOrder.verify(scope).join();
+            inOrder.verify(scope).close();
+            inOrder.verify(transactionPort).inTransaction(any());
+        }
+
+        @Test
+        @DisplayName("Should leave the order in preparation when the lookups miss their deadline")
+        void shouldNotTransitionWhenLookupsMissDeadline() {
+            Order inPreparationOrder = createOrderWithStatus(ORDER_ID, RESTAURANT_ID, OrderStatus.IN_PREPARATION);
+            ILookupScopePort.Scope scope = mock(ILookupScopePort.Scope.class);
+
+            when(lookupScopePort.open()).thenReturn(scope);
+            org.mockito.Mockito.doThrow(new LookupDeadlineExceededException(5000)).when(scope).join();
+            when(employeeRestaurantPort.getRestaurantIdByEmployeeId(EMPLOYEE_ID))
+                    .thenReturn(Optional.of(RESTAURANT_ID));
+            when(orderPersistencePort.findHeaderById(ORDER_ID)).thenReturn(Optional.of(inPreparationOrder));
+
+            assertThatThrownBy(() -> orderUseCase.markOrderAsReady(ORDER_ID, EMPLOYEE_ID))
+                    .isInstanceOf(LookupDeadlineExceededException.class);
+
+            verify(scope).close();
+            verify(transactionPort, never()).inTransaction(any());
             verify(notificationPort, never()).sendOrderReadyNotification(anyString(), anyString(), anyString(), anyString());
         }
 
@@ -1237,10 +1440,9 @@ class OrderUseCaseTest {
 
             when(employeeRestaurantPort.getRestaurantIdByEmployeeId(EMPLOYEE_ID))
                     .thenReturn(Optional.of(RESTAURANT_ID));
-            when(orderPersistencePort.findById(ORDER_ID))
-                    .thenReturn(Optional.of(inPreparationOrder));
-            when(orderPersistencePort.saveOrder(any(Order.class)))
-                    .thenAnswer(invocation -> invocation.getArgument(0));
+            when(orderPersistencePort.findHeaderById(ORDER_ID)).thenReturn(Optional.of(inPreparationOrder));
+            when(orderPersistencePort.transitionStatus(any(OrderTransition.class)))
+                    .thenAnswer(applyTransitionTo(inPreparationOrder));
             when(clientInfoPort.getClientPhoneById(CLIENT_ID))
                     .thenReturn(Optional.of(CLIENT_PHONE));
             when(restaurantPersistencePort.findById(RESTAURANT_ID))
@@ -1268,24 +1470,32 @@ class OrderUseCaseTest {
         void shouldCancelOrderSuccessfully() {
             Order pendingOrder = createOrderWithStatus(ORDER_ID, RESTAURANT_ID, OrderStatus.PENDING);
 
-            when(orderPersistencePort.findById(ORDER_ID)).thenReturn(Optional.of(pendingOrder));
-            when(orderPersistencePort.saveOrder(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            when(orderPersistencePort.transitionStatus(any(OrderTransition.class)))
+                    .thenAnswer(applyTransitionTo(pendingOrder));
 
             Order cancelled = orderUseCase.cancelOrder(ORDER_ID, CLIENT_ID);
 
             assertThat(cancelled.getStatus()).isEqualTo(OrderStatus.CANCELLED);
-            verify(orderPersistencePort).saveOrder(pendingOrder);
+            verify(orderPersistencePort).transitionStatus(argThat(transition ->
+                    transition.getFromStatus() == OrderStatus.PENDING
+                            && transition.getToStatus() == OrderStatus.CANCELLED
+                            && transition.getClientId().equals(CLIENT_ID)
+                            && transition.getRestaurantId() == null));
+            verify(orderEventPort).publish(argThat(event ->
+                    event.getOrderId().equals(ORDER_ID)
+                            && event.getPreviousStatus() == OrderStatus.PENDING
+                            && event.getStatus() == OrderStatus.CANCELLED));
         }
 
         @Test
         @DisplayName("Should throw OrderNotFoundException when order does not exist")
         void shouldThrowOrderNotFoundException() {
-            when(orderPersistencePort.findById(ORDER_ID)).thenReturn(Optional.empty());
+            when(orderPersistencePort.transitionStatus(any(OrderTransition.class))).thenReturn(OrderTransitionResult.notFound());
 
             assertThatThrownBy(() -> orderUseCase.cancelOrder(ORDER_ID, CLIENT_ID))
                     .isInstanceOf(com.pragma.plazoleta.domain.exception.OrderNotFoundException.class);
 
-            verify(orderPersistencePort, never()).saveOrder(any());
+            verify(traceabilityPort, never()).saveTraceability(any());
         }
 
         @Test
@@ -1294,12 +1504,13 @@ class OrderUseCaseTest {
             Order pendingOrder = createOrderWithStatus(ORDER_ID, RESTAURANT_ID, OrderStatus.PENDING);
             Long otherClientId = 999L;
 
-            when(orderPersistencePort.findById(ORDER_ID)).thenReturn(Optional.of(pendingOrder));
+            when(orderPersistencePort.transitionStatus(any(OrderTransition.class))).thenReturn(OrderTransitionResult.rejected(pendingOrder));
 
             assertThatThrownBy(() -> orderUseCase.cancelOrder(ORDER_ID, otherClientId))
                     .isInstanceOf(com.pragma.plazoleta.domain.exception.UserNotOwnerException.class);
 
-            verify(orderPersistencePort, never()).saveOrder(any());
+            verify(traceabilityPort, never()).saveTraceability(any());
+            verify(orderEventPort, never()).publish(any());
         }
 
         @Test
@@ -1307,13 +1518,13 @@ class OrderUseCaseTest {
         void shouldThrowOrderNotCancellableException() {
             Order inPreparationOrder = createOrderWithStatus(ORDER_ID, RESTAURANT_ID, OrderStatus.IN_PREPARATION);
 
-            when(orderPersistencePort.findById(ORDER_ID)).thenReturn(Optional.of(inPreparationOrder));
+            when(orderPersistencePort.transitionStatus(any(OrderTransition.class))).thenReturn(OrderTransitionResult.rejected(inPreparationOrder));
 
             assertThatThrownBy(() -> orderUseCase.cancelOrder(ORDER_ID, CLIENT_ID))
                     .isInstanceOf(com.pragma.plazoleta.domain.exception.OrderNotCancellableException.class)
                     .hasMessageContaining("Sorry, your order is already in preparation and cannot be canceled");
 
-            verify(orderPersistencePort, never()).saveOrder(any());
+            verify(traceabilityPort, never()).saveTraceability(any());
         }
     }
 }
@@ -1,8 +1,10 @@
 package com.pragma.plazoleta.domain.usecase;
 
 import com.pragma.plazoleta.domain.exception.*;
+import com.pragma.plazoleta.domain.model.ChangeEventType;
 import com.pragma.plazoleta.domain.model.PagedResult;
 import com.pragma.plazoleta.domain.model.Restaurant;
+import com.pragma.plazoleta.domain.spi.IChangeEventPort;
 import com.pragma.plazoleta.domain.spi.IRestaurantPersistencePort;
 import com.pragma.plazoleta.domain.spi.IUserValidationPort;
 import com.pragma.plazoleta.infrastructure.constant.SecurityConstants;
@@ -34,6 +36,9 @@ class RestaurantUseCaseTest {
     @Mock
     private IUserValidationPort userValidationPort;
 
+    @Mock
+    private IChangeEventPort changeEventPort;
+
     @InjectMocks
     private RestaurantUseCase restaurantUseCase;
 
@@ -74,6 +79,8 @@ class RestaurantUseCaseTest {
             assertNotNull(result.getId());
             assertEquals("El Buen Sabor", result.getName());
             verify(restaurantPersistencePort).saveRestaurant(any(Restaurant.class));
+            verify(changeEventPort).publish(argThat(event -> event.getType() == ChangeEventType.RESTAURANT
+                    && event.getEntityId().equals(1L)));
         }
 
         @Test
@@ -0,0 +1,171 @@
+package com.pragma.plazoleta.infrastructure.cache;
+
+import com.pragma.plazoleta.domain.model.Dish;
+import com.pragma.plazoleta.domain.spi.IDishPersistencePort;
+import com.pragma.plazoleta.infrastructure.output.event.ClusterEventBus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingDishPersistencePortTest {
+
+    private static final Long RESTAURANT_ID = 10L;
+    private static final Long DISH_ID = 5L;
+
+    @Mock
+    private IDishPersistencePort delegate;
+
+    @Mock
+    private ClusterEventBus clusterEventBus;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private MenuCache menuCache;
+    private CachingDishPersistencePort dishPersistencePort;
+
+    @BeforeEach
+    void setUp() {
+        menuCache = new MenuCache(clusterEventBus, meterRegistry, 100, 50, Duration.ofMinutes(5), Clock.systemUTC());
+        dishPersistencePort = new CachingDishPersistencePort(delegate, menuCache, meterRegistry, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Nested
+    @DisplayName("Lookups")
+    class Lookups {
+
+        @Test
+        @DisplayName("Should load a dish once and hand out copies afterwards")
+        void shouldServeCopiesFromCache() {
+            when(delegate.findById(DISH_ID)).thenReturn(Optional.of(dish(DISH_ID, 25000)));
+
+            Dish first = dishPersistencePort.findById(DISH_ID).orElseThrow();
+            first.setPrice(1);
+            Dish second = dishPersistencePort.findById(DISH_ID).orElseThrow();
+
+            assertThat(second.getPrice()).isEqualTo(25000);
+            verify(delegate).findById(DISH_ID);
+            assertThat(requests("findById", "hit")).isEqualTo(1.0);
+            assertThat(requests("findById", "miss")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("Should only load the dishes that are not cached")
+        void shouldLoadOnlyMissingIds() {
+            when(delegate.findById(DISH_ID)).thenReturn(Optional.of(dish(DISH_ID, 25000)));
+            when(delegate.findAllByIds(List.of(6L))).thenReturn(List.of(dish(6L, 18000)));
+            dishPersistencePort.findById(DISH_ID);
+
+            List<Dish> result = dishPersistencePort.findAllByIds(List.of(DISH_ID, 6L));
+
+            assertThat(result).extracting(Dish::getId).containsExactlyInAnyOrder(DISH_ID, 6L);
+            verify(delegate).findAllByIds(List.of(6L));
+            assertThat(requests("findAllByIds", "hit")).isEqualTo(1.0);
+            assertThat(requests("findAllByIds", "miss")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("Should read current dishes from the database and refresh the cached copy")
+        void shouldReadCurrentDishesFromDatabase() {
+            when(delegate.findById(DISH_ID)).thenReturn(Optional.of(dish(DISH_ID, 25000)));
+            when(delegate.findCurrentByIds(List.of(DISH_ID))).thenReturn(List.of(dish(DISH_ID, 30000)));
+            dishPersistencePort.findById(DISH_ID);
+
+            List<Dish> result = dishPersistencePort.findCurrentByIds(List.of(DISH_ID));
+
+            assertThat(result).extracting(Dish::getPrice).containsExactly(30000);
+            assertThat(dishPersistencePort.findById(DISH_ID)).get().extracting(Dish::getPrice).isEqualTo(30000);
+            verify(delegate).findById(DISH_ID);
+            assertThat(requests("findCurrentByIds", "bypass")).isEqualTo(1.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalidation")
+    class Invalidation {
+
+        @Test
+        @DisplayName("Should reload a dish once its menu version changes")
+        void shouldReloadAfterMenuVersionChange() {
+            when(delegate.findById(DISH_ID))
+                    .thenReturn(Optional.of(dish(DISH_ID, 25000)))
+                    .thenReturn(Optional.of(dish(DISH_ID, 30000)));
+            dishPersistencePort.findById(DISH_ID);
+
+            menuCache.invalidate(RESTAURANT_ID);
+
+            assertThat(dishPersistencePort.findById(DISH_ID)).get().extracting(Dish::getPrice).isEqualTo(30000);
+            assertThat(requests("findById", "stale")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("Should not cache a dish loaded while a menu version changed")
+        void shouldNotCacheDishLoadedDuringChange() {
+            when(delegate.findById(DISH_ID)).thenAnswer(_ -> {
+                menuCache.invalidate(RESTAURANT_ID);
+                return Optional.of(dish(DISH_ID, 25000));
+            });
+
+            dishPersistencePort.findById(DISH_ID);
+
+            assertThat(meterRegistry.get("dish.cache.size").gauge().value()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should drop a saved dish again when its transaction ends")
+        void shouldDropSavedDishWhenTransactionEnds() {
+            Dish updated = dish(DISH_ID, 30000);
+            when(delegate.saveDish(updated)).thenReturn(updated);
+            when(delegate.findById(DISH_ID)).thenReturn(Optional.of(updated));
+            TransactionSynchronizationManager.initSynchronization();
+
+            dishPersistencePort.saveDish(updated);
+            dishPersistencePort.findById(DISH_ID);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            dishPersistencePort.findById(DISH_ID);
+
+            verify(delegate, times(2)).findById(DISH_ID);
+        }
+    }
+
+    private double requests(String operation, String result) {
+        return meterRegistry.get("dish.cache.requests")
+                .tag("operation", operation)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    private Dish dish(Long id, int price) {
+        Dish dish = new Dish("Hamburguesa", price, "Clásica", "https://example.com/burger.jpg", "Burgers", RESTAURANT_ID);
+        dish.setId(id);
+        return dish;
+    }
+}
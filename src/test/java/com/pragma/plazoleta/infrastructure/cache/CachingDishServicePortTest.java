@@ -0,0 +1,222 @@
+package com.pragma.plazoleta.infrastructure.cache;
+
+import com.pragma.plazoleta.domain.api.IDishServicePort;
+import com.pragma.plazoleta.domain.exception.RestaurantNotFoundException;
+import com.pragma.plazoleta.domain.model.ChangeEvent;
+import com.pragma.plazoleta.domain.model.ChangeEventType;
+import com.pragma.plazoleta.domain.model.Dish;
+import com.pragma.plazoleta.domain.model.PagedResult;
+import com.pragma.plazoleta.infrastructure.output.event.ClusterEventBus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingDishServicePortTest {
+
+    private static final Long RESTAURANT_ID = 10L;
+    private static final Long OWNER_ID = 1L;
+    private static final Long DISH_ID = 5L;
+    private static final Duration MAX_AGE = Duration.ofMinutes(5);
+
+    @Mock
+    private IDishServicePort delegate;
+
+    @Mock
+    private ClusterEventBus clusterEventBus;
+
+    @Mock
+    private Clock clock;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong now = new AtomicLong(1_767_225_600_000L);
+
+    private MenuCache menuCache;
+    private CachingDishServicePort dishServicePort;
+    private PagedResult<Dish> menuPage;
+
+    @BeforeEach
+    void setUp() {
+        when(clock.millis()).thenAnswer(_ -> now.get());
+        menuCache = new MenuCache(clusterEventBus, meterRegistry, 100, 50, MAX_AGE, clock);
+        dishServicePort = new CachingDishServicePort(delegate, menuCache);
+        menuPage = PagedResult.of(List.of(dish()), 0, 10, 1, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Nested
+    @DisplayName("Reading Menus")
+    class ReadingMenus {
+
+        @Test
+        @DisplayName("Should load a menu page once and serve repeated reads from the cache")
+        void shouldServeRepeatedReadsFromCache() {
+            when(delegate.getDishesByRestaurant(RESTAURANT_ID, "Burgers", 0, 10)).thenReturn(menuPage);
+
+            dishServicePort.getDishesByRestaurant(RESTAURANT_ID, "Burgers", 0, 10);
+            PagedResult<Dish> result = dishServicePort.getDishesByRestaurant(RESTAURANT_ID, " Burgers ", 0, 10);
+
+            assertThat(result).isSameAs(menuPage);
+            verify(delegate).getDishesByRestaurant(RESTAURANT_ID, "Burgers", 0, 10);
+            assertThat(meterRegistry.get("menu.cache.requests").tag("result", "hit").counter().count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("Should cache counted pages and slices separately")
+        void shouldKeepSlicesApartFromCountedPages() {
+            PagedResult<Dish> slice = PagedResult.sliceOf(List.of(dish()), 0, 10, false);
+            when(delegate.getDishesByRestaurant(RESTAURANT_ID, null, 0, 10)).thenReturn(menuPage);
+            when(delegate.getDishesByRestaurantSlice(RESTAURANT_ID, null, 0, 10)).thenReturn(slice);
+
+            assertThat(dishServicePort.getDishesByRestaurant(RESTAURANT_ID, null, 0, 10)).isSameAs(menuPage);
+            assertThat(dishServicePort.getDishesByRestaurantSlice(RESTAURANT_ID, null, 0, 10)).isSameAs(slice);
+        }
+
+        @Test
+        @DisplayName("Should not cache pages larger than the configured page size")
+        void shouldBypassLargePages() {
+            when(delegate.getDishesByRestaurant(RESTAURANT_ID, null, 0, 500)).thenReturn(menuPage);
+
+            dishServicePort.getDishesByRestaurant(RESTAURANT_ID, null, 0, 500);
+            dishServicePort.getDishesByRestaurant(RESTAURANT_ID, null, 0, 500);
+
+            verify(delegate, times(2)).getDishesByRestaurant(RESTAURANT_ID, null, 0, 500);
+        }
+
+        @Test
+        @DisplayName("Should not cache a missing restaurant")
+        void shouldNotCacheFailures() {
+            when(delegate.getDishesByRestaurant(RESTAURANT_ID, null, 0, 10))
+                    .thenThrow(new RestaurantNotFoundException(RESTAURANT_ID));
+
+            assertThatThrownBy(() -> dishServicePort.getDishesByRestaurant(RESTAURANT_ID, null, 0, 10))
+                    .isInstanceOf(RestaurantNotFoundException.class);
+            assertThat(meterRegistry.get("menu.cache.size").gauge().value()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalidation")
+    class Invalidation {
+
+        @Test
+        @DisplayName("Should bump the menu version only after the dish change commits")
+        void shouldBumpVersionAfterCommit() {
+            when(delegate.updateDish(DISH_ID, 30000, "Nueva", OWNER_ID)).thenReturn(dish());
+            when(delegate.getDishesByRestaurant(RESTAURANT_ID, null, 0, 10)).thenReturn(menuPage);
+            dishServicePort.getDishesByRestaurant(RESTAURANT_ID, null, 0, 10);
+            long versionBefore = menuCache.version(RESTAURANT_ID);
+            TransactionSynchronizationManager.initSynchronization();
+
+            dishServicePort.updateDish(DISH_ID, 30000, "Nueva", OWNER_ID);
+            assertThat(menuCache.version(RESTAURANT_ID)).isEqualTo(versionBefore);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(menuCache.version(RESTAURANT_ID)).isGreaterThan(versionBefore);
+            dishServicePort.getDishesByRestaurant(RESTAURANT_ID, null, 0, 10);
+            verify(delegate, times(2)).getDishesByRestaurant(RESTAURANT_ID, null, 0, 10);
+        }
+
+        @Test
+        @DisplayName("Should leave the menus of other restaurants cached")
+        void shouldOnlyInvalidateTheChangedRestaurant() {
+            Long otherRestaurantId = 20L;
+            when(delegate.createDish(any(Dish.class), eq(OWNER_ID))).thenReturn(dish());
+            when(delegate.getDishesByRestaurant(otherRestaurantId, null, 0, 10)).thenReturn(menuPage);
+            dishServicePort.getDishesByRestaurant(otherRestaurantId, null, 0, 10);
+
+            dishServicePort.createDish(dish(), OWNER_ID);
+            dishServicePort.getDishesByRestaurant(otherRestaurantId, null, 0, 10);
+
+            verify(delegate).getDishesByRestaurant(otherRestaurantId, null, 0, 10);
+        }
+
+        @Test
+        @DisplayName("Should bump the menu version when another instance changes a dish")
+        @SuppressWarnings("unchecked")
+        void shouldInvalidateOnRemoteChange() {
+            ArgumentCaptor<Consumer<ChangeEvent>> handler = ArgumentCaptor.forClass(Consumer.class);
+            verify(clusterEventBus).subscribe(eq(ClusterEventBus.CHANGE_TOPIC), eq(ChangeEvent.class), handler.capture());
+            long versionBefore = menuCache.version(RESTAURANT_ID);
+
+            handler.getValue().accept(ChangeEvent.builder()
+                    .type(ChangeEventType.DISH)
+                    .entityId(DISH_ID)
+                    .restaurantId(RESTAURANT_ID)
+                    .build());
+
+            assertThat(menuCache.version(RESTAURANT_ID)).isGreaterThan(versionBefore);
+        }
+
+        @Test
+        @DisplayName("Should drop every menu when the cluster bus resyncs")
+        void shouldInvalidateEverythingOnResync() {
+            ArgumentCaptor<Runnable> resync = ArgumentCaptor.forClass(Runnable.class);
+            verify(clusterEventBus).onResync(resync.capture());
+            when(delegate.getDishesByRestaurant(RESTAURANT_ID, null, 0, 10)).thenReturn(menuPage);
+            dishServicePort.getDishesByRestaurant(RESTAURANT_ID, null, 0, 10);
+            long versionBefore = menuCache.version(RESTAURANT_ID);
+
+            resync.getValue().run();
+
+            assertThat(menuCache.version(RESTAURANT_ID)).isGreaterThan(versionBefore);
+            assertThat(meterRegistry.get("menu.cache.size").gauge().value()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should reload menus and bump versions once the maximum age passes")
+        void shouldExpireMenusAfterMaxAge() {
+            when(delegate.getDishesByRestaurant(RESTAURANT_ID, null, 0, 10)).thenReturn(menuPage);
+            dishServicePort.getDishesByRestaurant(RESTAURANT_ID, null, 0, 10);
+            long versionBefore = menuCache.version(RESTAURANT_ID);
+
+            now.addAndGet(MAX_AGE.minusSeconds(1).toMillis());
+            dishServicePort.getDishesByRestaurant(RESTAURANT_ID, null, 0, 10);
+            assertThat(menuCache.version(RESTAURANT_ID)).isEqualTo(versionBefore);
+
+            now.addAndGet(Duration.ofSeconds(1).toMillis());
+            dishServicePort.getDishesByRestaurant(RESTAURANT_ID, null, 0, 10);
+
+            assertThat(menuCache.version(RESTAURANT_ID)).isGreaterThan(versionBefore);
+            verify(delegate, times(2)).getDishesByRestaurant(RESTAURANT_ID, null, 0, 10);
+            assertThat(meterRegistry.get("menu.cache.expirations").counter().count()).isEqualTo(1.0);
+        }
+    }
+
+    private Dish dish() {
+        Dish dish = new Dish("Hamburguesa", 25000, "Clásica", "https://example.com/burger.jpg", "Burgers", RESTAURANT_ID);
+        dish.setId(DISH_ID);
+        dish.setActive(true);
+        return dish;
+    }
+}
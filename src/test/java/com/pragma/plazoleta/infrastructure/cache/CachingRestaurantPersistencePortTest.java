@@ -0,0 +1,163 @@
+package com.pragma.plazoleta.infrastructure.cache;
+
+import com.pragma.plazoleta.domain.model.ChangeEvent;
+import com.pragma.plazoleta.domain.model.ChangeEventType;
+import com.pragma.plazoleta.domain.model.PagedResult;
+import com.pragma.plazoleta.domain.model.Restaurant;
+import com.pragma.plazoleta.domain.spi.IRestaurantPersistencePort;
+import com.pragma.plazoleta.infrastructure.output.event.ClusterEventBus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingRestaurantPersistencePortTest {
+
+    private static final Long RESTAURANT_ID = 10L;
+    private static final Long OWNER_ID = 1L;
+
+    @Mock
+    private IRestaurantPersistencePort delegate;
+
+    @Mock
+    private ClusterEventBus clusterEventBus;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CachingRestaurantPersistencePort restaurantPersistencePort;
+
+    @BeforeEach
+    void setUp() {
+        restaurantPersistencePort = new CachingRestaurantPersistencePort(delegate, clusterEventBus, meterRegistry, 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Nested
+    @DisplayName("Find By Id")
+    class FindById {
+
+        @Test
+        @DisplayName("Should load a restaurant once and serve it from memory afterwards")
+        void shouldServeRepeatedLookupsFromMemory() {
+            Restaurant restaurant = restaurant(RESTAURANT_ID);
+            when(delegate.findById(RESTAURANT_ID)).thenReturn(Optional.of(restaurant));
+
+            restaurantPersistencePort.findById(RESTAURANT_ID);
+            Optional<Restaurant> result = restaurantPersistencePort.findById(RESTAURANT_ID);
+
+            assertThat(result).containsSame(restaurant);
+            verify(delegate).findById(RESTAURANT_ID);
+            assertThat(meterRegistry.get("restaurant.cache.requests").tag("result", "hit").counter().count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("Should not remember restaurants that do not exist")
+        void shouldNotRememberMissingRestaurants() {
+            when(delegate.findById(RESTAURANT_ID)).thenReturn(Optional.empty());
+
+            assertThat(restaurantPersistencePort.findById(RESTAURANT_ID)).isEmpty();
+            assertThat(restaurantPersistencePort.findById(RESTAURANT_ID)).isEmpty();
+
+            verify(delegate, times(2)).findById(RESTAURANT_ID);
+        }
+
+        @Test
+        @DisplayName("Should only load the restaurants that are not in memory")
+        void shouldLoadOnlyMissingIds() {
+            when(delegate.findById(RESTAURANT_ID)).thenReturn(Optional.of(restaurant(RESTAURANT_ID)));
+            when(delegate.findAllByIds(List.of(20L))).thenReturn(List.of(restaurant(20L)));
+            restaurantPersistencePort.findById(RESTAURANT_ID);
+
+            List<Restaurant> result = restaurantPersistencePort.findAllByIds(List.of(RESTAURANT_ID, 20L));
+
+            assertThat(result).extracting(Restaurant::getId).containsExactlyInAnyOrder(RESTAURANT_ID, 20L);
+            verify(delegate).findAllByIds(List.of(20L));
+        }
+
+        @Test
+        @DisplayName("Should drop a restaurant changed on another instance")
+        @SuppressWarnings("unchecked")
+        void shouldEvictOnRemoteChange() {
+            ArgumentCaptor<Consumer<ChangeEvent>> handler = ArgumentCaptor.forClass(Consumer.class);
+            verify(clusterEventBus).subscribe(eq(ClusterEventBus.CHANGE_TOPIC), eq(ChangeEvent.class), handler.capture());
+            when(delegate.findById(RESTAURANT_ID)).thenReturn(Optional.of(restaurant(RESTAURANT_ID)));
+            restaurantPersistencePort.findById(RESTAURANT_ID);
+
+            handler.getValue().accept(ChangeEvent.builder()
+                    .type(ChangeEventType.RESTAURANT)
+                    .entityId(RESTAURANT_ID)
+                    .build());
+            restaurantPersistencePort.findById(RESTAURANT_ID);
+
+            verify(delegate, times(2)).findById(RESTAURANT_ID);
+        }
+    }
+
+    @Nested
+    @DisplayName("Loading")
+    class Loading {
+
+        @Test
+        @DisplayName("Should load restaurants at startup up to the configured size")
+        void shouldWarmUpUpToMaxSize() {
+            when(delegate.findAllOrderedByNameSlice(0, 500))
+                    .thenReturn(PagedResult.sliceOf(List.of(restaurant(1L), restaurant(2L)), 0, 500, true));
+            when(delegate.findAllOrderedByNameSlice(1, 500))
+                    .thenReturn(PagedResult.sliceOf(List.of(restaurant(3L), restaurant(4L)), 1, 500, true));
+
+            restaurantPersistencePort.warmUp();
+
+            assertThat(meterRegistry.get("restaurant.cache.size").gauge().value()).isEqualTo(3.0);
+            verify(delegate, never()).findAllOrderedByNameSlice(2, 500);
+        }
+
+        @Test
+        @DisplayName("Should remember a saved restaurant only after the transaction commits")
+        void shouldRememberSavedRestaurantAfterCommit() {
+            Restaurant saved = restaurant(RESTAURANT_ID);
+            when(delegate.saveRestaurant(saved)).thenReturn(saved);
+            TransactionSynchronizationManager.initSynchronization();
+
+            restaurantPersistencePort.saveRestaurant(saved);
+            assertThat(meterRegistry.get("restaurant.cache.size").gauge().value()).isZero();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(restaurantPersistencePort.findById(RESTAURANT_ID)).containsSame(saved);
+            verify(delegate, never()).findById(RESTAURANT_ID);
+        }
+    }
+
+    private Restaurant restaurant(Long id) {
+        Restaurant restaurant = new Restaurant("El Buen Sabor", "123456789", "Calle 123 #45-67",
+                "+573001234567", "https://example.com/logo.png", OWNER_ID);
+        restaurant.setId(id);
+        return restaurant;
+    }
+}
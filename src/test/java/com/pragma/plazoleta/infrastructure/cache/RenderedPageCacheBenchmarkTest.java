@@ -0,0 +1,97 @@
+package com.pragma.plazoleta.infrastructure.cache;
+
+import com.pragma.plazoleta.application.handler.DishHandler;
+import com.pragma.plazoleta.application.mapper.DishDtoMapper;
+import com.pragma.plazoleta.domain.api.IDishServicePort;
+import com.pragma.plazoleta.domain.model.Dish;
+import com.pragma.plazoleta.domain.model.PagedResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Timed comparison of a menu page served from {@link RenderedPageCache} against the same page
+ * mapped with MapStruct and serialized with Jackson on every request. Excluded from {@code test};
+ * run it with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+class RenderedPageCacheBenchmarkTest {
+
+    private static final Long RESTAURANT_ID = 1L;
+    private static final String ETAG = "a1b2c3d4-menu.1-42";
+    private static final String PARAMETERS = "category=null&page=0&size=20&countTotal=true";
+    private static final int PAGE_SIZE = 20;
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURED_ITERATIONS = 100_000;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private DishHandler dishHandler;
+    private RenderedPageCache renderedPageCache;
+
+    @BeforeEach
+    void setUp() {
+        IDishServicePort dishServicePort = mock(IDishServicePort.class);
+        when(dishServicePort.getDishesByRestaurant(RESTAURANT_ID, null, 0, PAGE_SIZE)).thenReturn(menuPage());
+        dishHandler = new DishHandler(dishServicePort, Mappers.getMapper(DishDtoMapper.class));
+        renderedPageCache = new RenderedPageCache(jsonMapper, new SimpleMeterRegistry(), 100, 262144, 1024);
+    }
+
+    @Test
+    @DisplayName("Should serve a cached menu page faster than mapping and serializing it")
+    void shouldServeCachedBytesFasterThanRendering() {
+        Supplier<Object> loader = () -> dishHandler.getDishesByRestaurant(RESTAURANT_ID, null, 0, PAGE_SIZE);
+
+        double renderedNanos = measure(() -> jsonMapper.writeValueAsBytes(loader.get()));
+        double plainNanos = measure(() -> renderedPageCache.render(ETAG, PARAMETERS, null, loader).getBody());
+        double gzipNanos = measure(() -> renderedPageCache.render(ETAG, PARAMETERS, "gzip", loader).getBody());
+
+        System.out.printf("MapStruct + Jackson: %.0f ns/op%n", renderedNanos);
+        System.out.printf("Cached plain bytes:  %.0f ns/op%n", plainNanos);
+        System.out.printf("Cached gzip bytes:   %.0f ns/op%n", gzipNanos);
+        assertThat(plainNanos).isLessThan(renderedNanos);
+        assertThat(gzipNanos).isLessThan(renderedNanos);
+    }
+
+    private static double measure(Supplier<byte[]> operation) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink += operation.get().length;
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            sink += operation.get().length;
+        }
+        long elapsed = System.nanoTime() - start;
+        assertThat(sink).isPositive();
+        return (double) elapsed / MEASURED_ITERATIONS;
+    }
+
+    private static PagedResult<Dish> menuPage() {
+        List<Dish> dishes = IntStream.range(0, PAGE_SIZE)
+                .mapToObj(item -> Dish.builder()
+                        .id((long) item)
+                        .name("Hamburguesa " + item)
+                        .price(25000 + item)
+                        .description("Carne de res, queso y vegetales frescos")
+                        .imageUrl("https://example.com/dishes/" + item + ".png")
+                        .category("MAIN_COURSE")
+                        .active(true)
+                        .restaurantId(RESTAURANT_ID)
+                        .build())
+                .toList();
+        return PagedResult.of(dishes, 0, PAGE_SIZE, PAGE_SIZE, 1);
+    }
+}
@@ -0,0 +1,137 @@
+package com.pragma.plazoleta.infrastructure.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RenderedPageCacheTest {
+
+    private static final String ETAG = "a1b2c3d4-menu.1-42";
+    private static final String PARAMETERS = "category=null&page=0&size=10&countTotal=true";
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger renders = new AtomicInteger();
+
+    private RenderedPageCache renderedPageCache;
+
+    @BeforeEach
+    void setUp() {
+        renderedPageCache = new RenderedPageCache(JsonMapper.builder().build(), meterRegistry, 10, 512, 64);
+    }
+
+    @Nested
+    @DisplayName("Caching")
+    class Caching {
+
+        @Test
+        @DisplayName("Should render a page once and reuse the bytes for the same ETag")
+        void shouldReuseRenderedBytes() {
+            ResponseEntity<byte[]> first = renderedPageCache.render(ETAG, PARAMETERS, null, page(3));
+            ResponseEntity<byte[]> second = renderedPageCache.render(ETAG, PARAMETERS, null, page(3));
+
+            assertThat(second.getBody()).isSameAs(first.getBody());
+            assertThat(renders).hasValue(1);
+            assertThat(meterRegistry.get("rendered.cache.requests").tag("result", "hit").counter().count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("Should render again once the version in the ETag changes")
+        void shouldRenderAgainForNewVersion() {
+            renderedPageCache.render(ETAG, PARAMETERS, null, page(3));
+            renderedPageCache.render("a1b2c3d4-menu.1-43", PARAMETERS, null, page(3));
+
+            assertThat(renders).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("Should keep pages with different parameters apart")
+        void shouldKeyByParameters() {
+            renderedPageCache.render(ETAG, PARAMETERS, null, page(3));
+            renderedPageCache.render(ETAG, "category=null&page=1&size=10&countTotal=true", null, page(3));
+
+            assertThat(renders).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("Should not cache responses without an ETag or larger than the entry limit")
+        void shouldBypassUncacheableResponses() {
+            renderedPageCache.render(null, PARAMETERS, null, page(3));
+            renderedPageCache.render(ETAG, PARAMETERS, null, page(200));
+
+            assertThat(meterRegistry.get("rendered.cache.requests").tag("result", "bypass").counter().count()).isEqualTo(2.0);
+            assertThat(meterRegistry.get("rendered.cache.size").gauge().value()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Compression")
+    class Compression {
+
+        @Test
+        @DisplayName("Should send the gzip rendering only to clients that accept it")
+        void shouldNegotiateGzip() throws IOException {
+            ResponseEntity<byte[]> plain = renderedPageCache.render(ETAG, PARAMETERS, null, page(10));
+            ResponseEntity<byte[]> compressed = renderedPageCache.render(ETAG, PARAMETERS, "br, gzip", page(10));
+
+            assertThat(plain.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+            assertThat(compressed.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+            assertThat(compressed.getHeaders().getFirst(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+            try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed.getBody()))) {
+                assertThat(gzip.readAllBytes()).isEqualTo(plain.getBody());
+            }
+        }
+
+        @Test
+        @DisplayName("Should send small bodies uncompressed")
+        void shouldNotCompressSmallBodies() {
+            ResponseEntity<byte[]> response = renderedPageCache.render(ETAG, PARAMETERS, "gzip", () -> Map.of("a", 1));
+
+            assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+            assertThat(new String(response.getBody(), StandardCharsets.UTF_8)).isEqualTo("{\"a\":1}");
+        }
+
+        @Test
+        @DisplayName("Should honour a zero quality for gzip")
+        void shouldParseAcceptEncoding() {
+            assertThat(RenderedPageCache.acceptsGzip("gzip")).isTrue();
+            assertThat(RenderedPageCache.acceptsGzip("deflate, GZIP;q=0.5")).isTrue();
+            assertThat(RenderedPageCache.acceptsGzip("gzip;q=0")).isFalse();
+            assertThat(RenderedPageCache.acceptsGzip("identity")).isFalse();
+            assertThat(RenderedPageCache.acceptsGzip(null)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should give the gzip rendering its own ETag")
+        void shouldSuffixGzipETag() {
+            assertThat(RenderedPageCache.responseETag(ETAG, "gzip, deflate")).isEqualTo(ETAG + "-gz");
+            assertThat(RenderedPageCache.responseETag(ETAG, "gzip;q=0")).isEqualTo(ETAG);
+            assertThat(RenderedPageCache.responseETag(ETAG, null)).isEqualTo(ETAG);
+        }
+    }
+
+    private Supplier<Object> page(int items) {
+        return () -> {
+            renders.incrementAndGet();
+            return Map.of("content", IntStream.range(0, items)
+                    .mapToObj(item -> Map.of("id", item, "name", "Hamburguesa " + item))
+                    .toList());
+        };
+    }
+}
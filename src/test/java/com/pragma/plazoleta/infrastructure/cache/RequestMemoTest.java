@@ -0,0 +1,114 @@
+package com.pragma.plazoleta.infrastructure.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestMemoTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Should resolve each key once per request")
+    void shouldResolveEachKeyOncePerRequest() {
+        startRequest();
+
+        assertThat(RequestMemo.get("user", 1L, this::load)).isEqualTo("value-1");
+        assertThat(RequestMemo.get("user", 1L, this::load)).isEqualTo("value-1");
+        RequestMemo.get("user", 2L, this::load);
+        RequestMemo.get("restaurant", 1L, this::load);
+
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("Should not share values between requests")
+    void shouldNotShareValuesBetweenRequests() {
+        startRequest();
+        RequestMemo.get("user", 1L, this::load);
+
+        startRequest();
+        RequestMemo.get("user", 1L, this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should call the loader every time outside a request")
+    void shouldNotRememberOutsideRequest() {
+        RequestMemo.get("user", 1L, this::load);
+        RequestMemo.get("user", 1L, this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should not remember failures")
+    void shouldNotRememberFailures() {
+        startRequest();
+
+        assertThatThrownBy(() -> RequestMemo.get("user", 1L, () -> {
+            throw new IllegalStateException("user service down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(RequestMemo.get("user", 1L, this::load)).isEqualTo("value-2");
+    }
+
+    @Test
+    @DisplayName("Should keep what concurrent lookups of the same request remember")
+    void shouldShareMemoBetweenConcurrentLookups() throws Exception {
+        startRequest();
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        int lookups = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(lookups);
+        try {
+            List<Future<String>> results = IntStream.range(0, lookups)
+                    .mapToObj(key -> executor.submit(() -> {
+                        RequestContextHolder.setRequestAttributes(attributes);
+                        start.await();
+                        return RequestMemo.get(RequestMemo.USERS, key, this::load);
+                    }))
+                    .toList();
+            start.countDown();
+            for (Future<String> result : results) {
+                result.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        IntStream.range(0, lookups).forEach(key -> RequestMemo.get(RequestMemo.USERS, key, this::load));
+
+        assertThat(loads).hasValue(lookups);
+    }
+
+    private String load() {
+        return "value-" + loads.incrementAndGet();
+    }
+
+    private static void startRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+}
@@ -0,0 +1,307 @@
+package com.pragma.plazoleta.infrastructure.cache;
+
+import com.pragma.plazoleta.infrastructure.output.feign.client.IUserFeignClient;
+import com.pragma.plazoleta.infrastructure.output.feign.dto.UserDto;
+import feign.FeignException;
+import feign.Request;
+import feign.RequestTemplate;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserInfoCacheTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Duration TTL = Duration.ofSeconds(60);
+    private static final Duration STALE_WHILE_REVALIDATE = Duration.ofSeconds(300);
+    private static final Duration STALE_IF_ERROR = Duration.ofSeconds(1800);
+    private static final Duration NEGATIVE_TTL = Duration.ofSeconds(30);
+
+    @Mock
+    private IUserFeignClient userFeignClient;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MutableClock clock = new MutableClock();
+
+    private UserInfoCache userInfoCache;
+    private UserDto userDto;
+
+    @BeforeEach
+    void setUp() {
+        userInfoCache = new UserInfoCache(userFeignClient, meterRegistry, 2, TTL, STALE_WHILE_REVALIDATE,
+                STALE_IF_ERROR, NEGATIVE_TTL, Executors.newSingleThreadExecutor(), clock);
+        userDto = new UserDto();
+        userDto.setId(USER_ID);
+        userDto.setEmail("user@test.com");
+    }
+
+    @AfterEach
+    void tearDown() {
+        userInfoCache.shutdown();
+    }
+
+    @Nested
+    @DisplayName("Fresh Entries")
+    class FreshEntries {
+
+        @Test
+        @DisplayName("Should serve repeated lookups from the cache within the TTL")
+        void shouldServeFromCacheWithinTtl() {
+            when(userFeignClient.getUserById(USER_ID)).thenReturn(Optional.of(userDto));
+
+            userInfoCache.getUserById(USER_ID);
+            clock.advance(Duration.ofSeconds(30));
+            Optional<UserDto> result = userInfoCache.getUserById(USER_ID);
+
+            assertThat(result).contains(userDto);
+            verify(userFeignClient, times(1)).getUserById(USER_ID);
+            assertThat(meterRegistry.get("user.cache.requests").tag("result", "hit").counter().count()).isEqualTo(1.0);
+            assertThat(meterRegistry.get("user.cache.requests").tag("result", "miss").counter().count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("Should evict the least recently used profile when full")
+        void shouldEvictLeastRecentlyUsed() {
+            when(userFeignClient.getUserById(1L)).thenReturn(Optional.of(userDto));
+            when(userFeignClient.getUserById(2L)).thenReturn(Optional.of(new UserDto()));
+            when(userFeignClient.getUserById(3L)).thenReturn(Optional.of(new UserDto()));
+
+            userInfoCache.getUserById(1L);
+            userInfoCache.getUserById(2L);
+            userInfoCache.getUserById(3L);
+            userInfoCache.getUserById(1L);
+
+            verify(userFeignClient, times(2)).getUserById(1L);
+            assertThat(meterRegistry.get("user.cache.evictions").counter().count()).isEqualTo(2.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("Stale Entries")
+    class StaleEntries {
+
+        @Test
+        @DisplayName("Should serve a stale profile and refresh it in the background")
+        void shouldServeStaleAndRevalidate() {
+            UserDto refreshed = new UserDto();
+            refreshed.setEmail("new@test.com");
+            when(userFeignClient.getUserById(USER_ID))
+                    .thenReturn(Optional.of(userDto))
+                    .thenReturn(Optional.of(refreshed));
+
+            userInfoCache.getUserById(USER_ID);
+            clock.advance(TTL.plusSeconds(10));
+            Optional<UserDto> result = userInfoCache.getUserById(USER_ID);
+
+            assertThat(result).contains(userDto);
+            verify(userFeignClient, timeout(2000).times(2)).getUserById(USER_ID);
+        }
+
+        @Test
+        @DisplayName("Should reload synchronously once past the stale-while-revalidate window")
+        void shouldReloadWhenTooOld() {
+            UserDto refreshed = new UserDto();
+            when(userFeignClient.getUserById(USER_ID))
+                    .thenReturn(Optional.of(userDto))
+                    .thenReturn(Optional.of(refreshed));
+
+            userInfoCache.getUserById(USER_ID);
+            clock.advance(TTL.plus(STALE_WHILE_REVALIDATE).plusSeconds(1));
+
+            assertThat(userInfoCache.getUserById(USER_ID)).contains(refreshed);
+        }
+
+        @Test
+        @DisplayName("Should serve a stale profile when the user service fails")
+        void shouldServeStaleOnError() {
+            FeignException unavailable = mock(FeignException.class);
+            when(userFeignClient.getUserById(USER_ID))
+                    .thenReturn(Optional.of(userDto))
+                    .thenThrow(unavailable);
+
+            userInfoCache.getUserById(USER_ID);
+            clock.advance(TTL.plus(STALE_WHILE_REVALIDATE).plusSeconds(1));
+
+            assertThat(userInfoCache.getUserById(USER_ID)).contains(userDto);
+            assertThat(meterRegistry.get("user.cache.stale_on_error").counter().count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("Should propagate the error once past the stale-if-error window")
+        void shouldPropagateErrorWhenTooOld() {
+            FeignException unavailable = mock(FeignException.class);
+            when(userFeignClient.getUserById(USER_ID))
+                    .thenReturn(Optional.of(userDto))
+                    .thenThrow(unavailable);
+
+            userInfoCache.getUserById(USER_ID);
+            clock.advance(TTL.plus(STALE_IF_ERROR).plusSeconds(1));
+
+            assertThatThrownBy(() -> userInfoCache.getUserById(USER_ID)).isSameAs(unavailable);
+        }
+    }
+
+    @Nested
+    @DisplayName("Unknown Users")
+    class UnknownUsers {
+
+        @Test
+        @DisplayName("Should remember a 404 for the negative TTL")
+        void shouldCacheNotFound() {
+            when(userFeignClient.getUserById(USER_ID)).thenThrow(notFoundException());
+
+            assertThat(userInfoCache.getUserById(USER_ID)).isEmpty();
+            clock.advance(NEGATIVE_TTL.minusSeconds(1));
+            assertThat(userInfoCache.getUserById(USER_ID)).isEmpty();
+
+            verify(userFeignClient, times(1)).getUserById(USER_ID);
+            assertThat(meterRegistry.get("user.cache.requests").tag("result", "negative_hit").counter().count())
+                    .isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("Should ask the user service again once the negative TTL expires")
+        void shouldRetryAfterNegativeTtl() {
+            when(userFeignClient.getUserById(USER_ID))
+                    .thenReturn(Optional.empty())
+                    .thenReturn(Optional.of(userDto));
+
+            assertThat(userInfoCache.getUserById(USER_ID)).isEmpty();
+            clock.advance(NEGATIVE_TTL);
+
+            assertThat(userInfoCache.getUserById(USER_ID)).contains(userDto);
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrent Lookups")
+    class ConcurrentLookups {
+
+        @Test
+        @DisplayName("Should share one outbound call between concurrent lookups of the same user")
+        void shouldCoalesceConcurrentLookups() throws Exception {
+            CountDownLatch release = new CountDownLatch(1);
+            when(userFeignClient.getUserById(USER_ID)).thenAnswer(_ -> {
+                release.await(2, TimeUnit.SECONDS);
+                return Optional.of(userDto);
+            });
+
+            ExecutorService callers = Executors.newFixedThreadPool(2);
+            try {
+                CompletableFuture<Optional<UserDto>> first =
+                        CompletableFuture.supplyAsync(() -> userInfoCache.getUserById(USER_ID), callers);
+                verify(userFeignClient, timeout(2000)).getUserById(USER_ID);
+                CompletableFuture<Optional<UserDto>> second =
+                        CompletableFuture.supplyAsync(() -> userInfoCache.getUserById(USER_ID), callers);
+                awaitCoalesced();
+                release.countDown();
+
+                assertThat(first.get(2, TimeUnit.SECONDS)).contains(userDto);
+                assertThat(second.get(2, TimeUnit.SECONDS)).contains(userDto);
+                verify(userFeignClient, times(1)).getUserById(USER_ID);
+            } finally {
+                callers.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("Should share the failure with every caller of the in-flight lookup")
+        void shouldShareFailures() throws Exception {
+            FeignException unavailable = mock(FeignException.class);
+            CountDownLatch release = new CountDownLatch(1);
+            when(userFeignClient.getUserById(USER_ID)).thenAnswer(_ -> {
+                release.await(2, TimeUnit.SECONDS);
+                throw unavailable;
+            });
+
+            ExecutorService callers = Executors.newFixedThreadPool(2);
+            try {
+                CompletableFuture<Optional<UserDto>> first =
+                        CompletableFuture.supplyAsync(() -> userInfoCache.getUserById(USER_ID), callers);
+                verify(userFeignClient, timeout(2000)).getUserById(USER_ID);
+                CompletableFuture<Optional<UserDto>> second =
+                        CompletableFuture.supplyAsync(() -> userInfoCache.getUserById(USER_ID), callers);
+                awaitCoalesced();
+                release.countDown();
+
+                assertThatThrownBy(first::join).isInstanceOf(CompletionException.class).hasCause(unavailable);
+                assertThatThrownBy(second::join).isInstanceOf(CompletionException.class).hasCause(unavailable);
+                verify(userFeignClient, times(1)).getUserById(USER_ID);
+            } finally {
+                callers.shutdownNow();
+            }
+        }
+
+        private void awaitCoalesced() {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+            while (meterRegistry.get("user.cache.coalesced").counter().count() < 1 && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    private FeignException notFoundException() {
+        Request request = Request.create(
+                Request.HttpMethod.GET,
+                "/api/v1/users/1",
+                Collections.emptyMap(),
+                null,
+                new RequestTemplate()
+        );
+        return new FeignException.NotFound("not found", request, null, null);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
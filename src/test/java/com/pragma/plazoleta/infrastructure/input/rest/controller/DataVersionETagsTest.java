@@ -0,0 +1,70 @@
+package com.pragma.plazoleta.infrastructure.input.rest.controller;
+
+import com.pragma.plazoleta.infrastructure.cache.MenuCache;
+import com.pragma.plazoleta.infrastructure.cache.RestaurantCatalogVersion;
+import com.pragma.plazoleta.infrastructure.output.event.OrderEventBroadcaster;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DataVersionETagsTest {
+
+    private static final Long RESTAURANT_ID = 1L;
+    private static final Duration ORDERS_MAX_AGE = Duration.ofSeconds(5);
+
+    @Mock
+    private RestaurantCatalogVersion restaurantCatalogVersion;
+
+    @Mock
+    private MenuCache menuCache;
+
+    @Mock
+    private OrderEventBroadcaster orderEventBroadcaster;
+
+    @Mock
+    private Clock clock;
+
+    private final AtomicLong now = new AtomicLong(1_767_225_600_000L);
+
+    private DataVersionETags dataVersionETags;
+
+    @BeforeEach
+    void setUp() {
+        dataVersionETags = new DataVersionETags(restaurantCatalogVersion, menuCache, orderEventBroadcaster,
+                ORDERS_MAX_AGE, clock);
+        when(clock.millis()).thenAnswer(_ -> now.get());
+        when(orderEventBroadcaster.ordersVersion(RESTAURANT_ID)).thenReturn(7L);
+        when(menuCache.version(RESTAURANT_ID)).thenReturn(42L);
+    }
+
+    @Test
+    @DisplayName("Should keep the orders tag while nothing changes within the time bound")
+    void shouldKeepOrdersTagWithinBound() {
+        String tag = dataVersionETags.orders(RESTAURANT_ID);
+
+        now.addAndGet(ORDERS_MAX_AGE.minusSeconds(1).toMillis());
+
+        assertThat(dataVersionETags.orders(RESTAURANT_ID)).isEqualTo(tag);
+    }
+
+    @Test
+    @DisplayName("Should change the orders tag once the time bound passes without events")
+    void shouldChangeOrdersTagAfterBound() {
+        String tag = dataVersionETags.orders(RESTAURANT_ID);
+
+        now.addAndGet(ORDERS_MAX_AGE.toMillis());
+
+        assertThat(dataVersionETags.orders(RESTAURANT_ID)).isNotEqualTo(tag);
+    }
+}
@@ -3,13 +3,17 @@ package com.pragma.plazoleta.infrastructure.input.rest.controller;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -25,14 +29,17 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pragma.plazoleta.application.dto.request.CreateOrderRequestDto;
 import com.pragma.plazoleta.application.dto.request.OrderItemRequestDto;
+import com.pragma.plazoleta.application.dto.response.CursorPageResponse;
 import com.pragma.plazoleta.application.dto.response.OrderResponseDto;
 import com.pragma.plazoleta.application.dto.response.PagedResponse;
 import com.pragma.plazoleta.application.handler.IOrderHandler;
 import com.pragma.plazoleta.infrastructure.exception.GlobalExceptionHandler;
+import com.pragma.plazoleta.infrastructure.output.event.OrderEventBroadcaster;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("OrderRestController Tests")
@@ -46,6 +53,12 @@ class OrderRestControllerTest {
     @Mock
     private IOrderHandler orderHandler;
 
+    @Mock
+    private OrderEventBroadcaster orderEventBroadcaster;
+
+    @Mock
+    private DataVersionETags dataVersionETags;
+
     @InjectMocks
     private OrderRestController orderRestController;
 
@@ -106,7 +119,7 @@ class OrderRestControllerTest {
         paged.setSize(1);
         paged.setTotalElements(1);
 
-        given(orderHandler.getOrdersByStatus(eq(22L), eq(STATUS_PENDING), eq(0), eq(10))).willReturn(paged);
+        given(orderHandler.getOrdersByStatus(eq(22L), eq(STATUS_PENDING), eq(0), eq(10), eq(true))).willReturn(paged);
 
         mockMvc.perform(get(ORDERS_API_PATH)
                 .param("status", STATUS_PENDING)
@@ -117,6 +130,29 @@ class OrderRestControllerTest {
                 .andExpect(jsonPath("$.page").value(0));
     }
 
+    @Test
+    void getOrderQueue_shouldPassCursorAndReturnNextCursor() throws Exception {
+        setAuthenticationWithId(22L, ROLE_EMPLOYEE);
+
+        CursorPageResponse<OrderResponseDto> slice = CursorPageResponse.<OrderResponseDto>builder()
+                .content(List.of(new OrderResponseDto()))
+                .size(1)
+                .hasNext(true)
+                .nextCursor("next-token")
+                .build();
+
+        given(orderHandler.getOrderQueue(eq(22L), eq(STATUS_PENDING), eq("token"), eq(1))).willReturn(slice);
+
+        mockMvc.perform(get(ORDERS_API_PATH + "/queue")
+                .param("status", STATUS_PENDING)
+                .param("cursor", "token")
+                .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").isArray())
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value("next-token"));
+    }
+
     @Test
     void cancelOrder_shouldReturnOk() throws Exception {
         setAuthenticationWithId(33L, ROLE_CLIENT);
@@ -158,6 +194,73 @@ class OrderRestControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void streamOrderEvents_shouldSubscribeToEmployeeRestaurantFromLastEventId() throws Exception {
+        setAuthenticationWithId(22L, ROLE_EMPLOYEE);
+
+        given(orderHandler.getEmployeeRestaurantId(22L)).willReturn(5L);
+        given(orderEventBroadcaster.subscribe(5L, "abc-7")).willReturn(new SseEmitter());
+
+        mockMvc.perform(get(ORDERS_API_PATH + "/events")
+                .header("Last-Event-ID", "abc-7"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getOrdersByStatus_shouldSendOrdersETagOfEmployeeRestaurant() throws Exception {
+        setAuthenticationWithId(22L, ROLE_EMPLOYEE);
+
+        given(orderHandler.getEmployeeRestaurantId(22L)).willReturn(5L);
+        given(dataVersionETags.orders(5L)).willReturn("a1b2c3d4-orders.5-3.42");
+        given(orderHandler.getOrdersByStatus(eq(22L), eq(STATUS_PENDING), eq(0), eq(10), eq(true)))
+                .willReturn(new PagedResponse<>());
+
+        mockMvc.perform(get(ORDERS_API_PATH).param("status", STATUS_PENDING))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"a1b2c3d4-orders.5-3.42\""));
+    }
+
+    @Test
+    void getOrderQueue_shouldReturnNotModifiedWithoutQueryingWhenETagMatches() throws Exception {
+        setAuthenticationWithId(22L, ROLE_EMPLOYEE);
+
+        given(orderHandler.getEmployeeRestaurantId(22L)).willReturn(5L);
+        given(dataVersionETags.orders(5L)).willReturn("a1b2c3d4-orders.5-3.42");
+
+        mockMvc.perform(get(ORDERS_API_PATH + "/queue")
+                .param("status", STATUS_PENDING)
+                .header("If-None-Match", "\"a1b2c3d4-orders.5-3.42\""))
+                .andExpect(status().isNotModified());
+
+        verify(orderHandler).getEmployeeRestaurantId(22L);
+        verifyNoMoreInteractions(orderHandler);
+    }
+
+    @Test
+    void claimNextPendingOrder_shouldReturnClaimedOrder() throws Exception {
+        setAuthenticationWithId(22L, ROLE_EMPLOYEE);
+        var response = new OrderResponseDto();
+        response.setId(100L);
+        response.setStatus("IN_PREPARATION");
+
+        given(orderHandler.claimNextPendingOrder(22L)).willReturn(Optional.of(response));
+
+        mockMvc.perform(post(ORDERS_API_PATH + "/claim"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(100))
+                .andExpect(jsonPath("$.status").value("IN_PREPARATION"));
+    }
+
+    @Test
+    void claimNextPendingOrder_shouldReturnNoContentWhenQueueIsEmpty() throws Exception {
+        setAuthenticationWithId(22L, ROLE_EMPLOYEE);
+
+        given(orderHandler.claimNextPendingOrder(22L)).willReturn(Optional.empty());
+
+        mockMvc.perform(post(ORDERS_API_PATH + "/claim"))
+                .andExpect(status().isNoContent());
+    }
+
     @Test
     void markOrderAsReady_shouldReturnOk() throws Exception {
         setAuthenticationWithId(22L, ROLE_EMPLOYEE);
@@ -12,7 +12,9 @@ import com.pragma.plazoleta.domain.exception.OwnerNotFoundException;
 import com.pragma.plazoleta.domain.exception.RestaurantAlreadyExistsException;
 import com.pragma.plazoleta.domain.exception.RestaurantNotFoundException;
 import com.pragma.plazoleta.domain.exception.UserNotOwnerException;
+import com.pragma.plazoleta.infrastructure.cache.RenderedPageCache;
 import com.pragma.plazoleta.infrastructure.exception.GlobalExceptionHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -20,14 +22,20 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -55,6 +63,13 @@ class RestaurantRestControllerTest {
     @Mock
     private IDishHandler dishHandler;
 
+    @Mock
+    private DataVersionETags dataVersionETags;
+
+    @Spy
+    private RenderedPageCache renderedPageCache =
+            new RenderedPageCache(JsonMapper.builder().build(), new SimpleMeterRegistry(), 100, 262144, 64);
+
     @InjectMocks
     private RestaurantRestController restaurantRestController;
 
@@ -323,7 +338,7 @@ class RestaurantRestControllerTest {
                     .last(true)
                     .build();
 
-            when(dishHandler.getDishesByRestaurant(RESTAURANT_ID, null, 0, 10))
+            when(dishHandler.getDishesByRestaurant(RESTAURANT_ID, null, 0, 10, true))
                     .thenReturn(response);
 
             // Act & Assert
@@ -343,7 +358,7 @@ class RestaurantRestControllerTest {
                     .andExpect(jsonPath("$.first").value(true))
                     .andExpect(jsonPath("$.last").value(true));
 
-            verify(dishHandler).getDishesByRestaurant(RESTAURANT_ID, null, 0, 10);
+            verify(dishHandler).getDishesByRestaurant(RESTAURANT_ID, null, 0, 10, true);
         }
 
         @Test
@@ -370,7 +385,7 @@ class RestaurantRestControllerTest {
                     .last(true)
                     .build();
 
-            when(dishHandler.getDishesByRestaurant(RESTAURANT_ID, category, 0, 10))
+            when(dishHandler.getDishesByRestaurant(RESTAURANT_ID, category, 0, 10, true))
                     .thenReturn(response);
 
             // Act & Assert
@@ -382,7 +397,7 @@ class RestaurantRestControllerTest {
                     .andExpect(jsonPath(CONTENT_LENGTH_JSON_PATH).value(1))
                     .andExpect(jsonPath("$.content[0].category").value(category));
 
-            verify(dishHandler).getDishesByRestaurant(RESTAURANT_ID, category, 0, 10);
+            verify(dishHandler).getDishesByRestaurant(RESTAURANT_ID, category, 0, 10, true);
         }
 
         @Test
@@ -399,7 +414,7 @@ class RestaurantRestControllerTest {
                     .last(true)
                     .build();
 
-            when(dishHandler.getDishesByRestaurant(RESTAURANT_ID, null, 0, 10))
+            when(dishHandler.getDishesByRestaurant(RESTAURANT_ID, null, 0, 10, true))
                     .thenReturn(emptyResponse);
 
             // Act & Assert
@@ -411,7 +426,7 @@ class RestaurantRestControllerTest {
                     .andExpect(jsonPath(CONTENT_LENGTH_JSON_PATH).value(0))
                     .andExpect(jsonPath("$.totalElements").value(0));
 
-            verify(dishHandler).getDishesByRestaurant(RESTAURANT_ID, null, 0, 10);
+            verify(dishHandler).getDishesByRestaurant(RESTAURANT_ID, null, 0, 10, true);
         }
 
         @Test
@@ -428,14 +443,162 @@ class RestaurantRestControllerTest {
                     .last(true)
                     .build();
 
-            when(dishHandler.getDishesByRestaurant(RESTAURANT_ID, null, 0, 10))
+            when(dishHandler.getDishesByRestaurant(RESTAURANT_ID, null, 0, 10, true))
                     .thenReturn(response);
 
             // Act & Assert
             mockMvc.perform(get(BASE_URL + "/" + RESTAURANT_ID + DISHES_ENDPOINT))
                     .andExpect(status().isOk());
 
-            verify(dishHandler).getDishesByRestaurant(RESTAURANT_ID, null, 0, 10);
+            verify(dishHandler).getDishesByRestaurant(RESTAURANT_ID, null, 0, 10, true);
+        }
+    }
+
+    @Nested
+    @DisplayName("Get Dishes By Restaurant - Without Totals")
+    class GetDishesByRestaurantWithoutTotals {
+
+        private static final Long RESTAURANT_ID = 1L;
+
+        @Test
+        @DisplayName("Should pass countTotal=false to the handler and expose hasNext")
+        void shouldPassCountTotalFalse() throws Exception {
+            // Arrange
+            PagedResponse<DishMenuItemResponseDto> response = PagedResponse.<DishMenuItemResponseDto>builder()
+                    .content(List.of())
+                    .page(0)
+                    .size(10)
+                    .totalElements(-1)
+                    .totalPages(-1)
+                    .first(true)
+                    .hasNext(true)
+                    .build();
+
+            when(dishHandler.getDishesByRestaurant(RESTAURANT_ID, null, 0, 10, false))
+                    .thenReturn(response);
+
+            // Act & Assert
+            mockMvc.perform(get(BASE_URL + "/" + RESTAURANT_ID + DISHES_ENDPOINT)
+                            .param("countTotal", "false"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.hasNext").value(true))
+                    .andExpect(jsonPath("$.totalElements").value(-1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Get Dishes By Restaurant - Conditional Requests")
+    class GetDishesByRestaurantConditionalRequests {
+
+        private static final Long RESTAURANT_ID = 1L;
+        private static final String MENU_ETAG = "a1b2c3d4-menu.1-42";
+
+        @Test
+        @DisplayName("Should send the menu version as ETag")
+        void shouldSendMenuETag() throws Exception {
+            // Arrange
+            when(dataVersionETags.menu(RESTAURANT_ID)).thenReturn(MENU_ETAG);
+            when(dishHandler.getDishesByRestaurant(RESTAURANT_ID, null, 0, 10, true))
+                    .thenReturn(PagedResponse.<DishMenuItemResponseDto>builder().content(List.of()).build());
+
+            // Act & Assert
+            mockMvc.perform(get(BASE_URL + "/" + RESTAURANT_ID + DISHES_ENDPOINT))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"" + MENU_ETAG + "\""));
+        }
+
+        @Test
+        @DisplayName("Should return 304 without loading the menu when the ETag matches")
+        void shouldReturnNotModifiedWhenETagMatches() throws Exception {
+            // Arrange
+            when(dataVersionETags.menu(RESTAURANT_ID)).thenReturn(MENU_ETAG);
+
+            // Act & Assert
+            mockMvc.perform(get(BASE_URL + "/" + RESTAURANT_ID + DISHES_ENDPOINT)
+                            .header("If-None-Match", "\"" + MENU_ETAG + "\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+
+            verifyNoInteractions(dishHandler);
+        }
+
+        @Test
+        @DisplayName("Should return 304 when the gzip ETag matches and the client still accepts gzip")
+        void shouldReturnNotModifiedForGzipETag() throws Exception {
+            // Arrange
+            when(dataVersionETags.menu(RESTAURANT_ID)).thenReturn(MENU_ETAG);
+
+            // Act & Assert
+            mockMvc.perform(get(BASE_URL + "/" + RESTAURANT_ID + DISHES_ENDPOINT)
+                            .header("Accept-Encoding", "gzip")
+                            .header("If-None-Match", "\"" + MENU_ETAG + "-gz\""))
+                    .andExpect(status().isNotModified());
+
+            verifyNoInteractions(dishHandler);
+        }
+
+        @Test
+        @DisplayName("Should return 304 for the restaurant list when the ETag matches")
+        void shouldReturnNotModifiedForRestaurantList() throws Exception {
+            // Arrange
+            when(dataVersionETags.restaurants()).thenReturn("a1b2c3d4-restaurants-7");
+
+            // Act & Assert
+            mockMvc.perform(get(BASE_URL).header("If-None-Match", "\"a1b2c3d4-restaurants-7\""))
+                    .andExpect(status().isNotModified());
+
+            verifyNoInteractions(restaurantHandler);
+        }
+
+        @Test
+        @DisplayName("Should render a menu page once while its version is unchanged")
+        void shouldServeRepeatedRequestsFromRenderedBytes() throws Exception {
+            // Arrange
+            when(dataVersionETags.menu(RESTAURANT_ID)).thenReturn(MENU_ETAG);
+            when(dishHandler.getDishesByRestaurant(RESTAURANT_ID, null, 0, 10, true))
+                    .thenReturn(menuPage());
+
+            // Act & Assert
+            for (int request = 0; request < 2; request++) {
+                mockMvc.perform(get(BASE_URL + "/" + RESTAURANT_ID + DISHES_ENDPOINT))
+                        .andExpect(status().isOk())
+                        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                        .andExpect(jsonPath("$.content[0].name").value(DISH_NAME));
+            }
+
+            verify(dishHandler, times(1)).getDishesByRestaurant(RESTAURANT_ID, null, 0, 10, true);
+        }
+
+        @Test
+        @DisplayName("Should send the gzip rendering when the client accepts it")
+        void shouldSendGzipWhenAccepted() throws Exception {
+            // Arrange
+            when(dataVersionETags.menu(RESTAURANT_ID)).thenReturn(MENU_ETAG);
+            when(dishHandler.getDishesByRestaurant(RESTAURANT_ID, null, 0, 10, true))
+                    .thenReturn(menuPage());
+
+            // Act
+            byte[] body = mockMvc.perform(get(BASE_URL + "/" + RESTAURANT_ID + DISHES_ENDPOINT)
+                            .header("Accept-Encoding", "gzip, deflate"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Content-Encoding", "gzip"))
+                    .andExpect(header().string("Vary", "Accept-Encoding"))
+                    .andExpect(header().string("ETag", "\"" + MENU_ETAG + "-gz\""))
+                    .andReturn().getResponse().getContentAsByteArray();
+
+            // Assert
+            try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(body))) {
+                assertThat(new String(gzip.readAllBytes(), StandardCharsets.UTF_8)).contains(DISH_NAME);
+            }
+        }
+
+        private PagedResponse<DishMenuItemResponseDto> menuPage() {
+            DishMenuItemResponseDto dish = DishMenuItemResponseDto.builder()
+                    .id(1L)
+                    .name(DISH_NAME)
+                    .price(25000)
+                    .build();
+            return PagedResponse.<DishMenuItemResponseDto>builder().content(List.of(dish)).build();
         }
     }
 
@@ -449,7 +612,7 @@ class RestaurantRestControllerTest {
         @DisplayName("Should return 404 when restaurant does not exist")
         void shouldReturn404WhenRestaurantDoesNotExist() throws Exception {
             // Arrange
-            when(dishHandler.getDishesByRestaurant(RESTAURANT_ID, null, 0, 10))
+            when(dishHandler.getDishesByRestaurant(RESTAURANT_ID, null, 0, 10, true))
                     .thenThrow(new RestaurantNotFoundException(RESTAURANT_ID));
 
             // Act & Assert
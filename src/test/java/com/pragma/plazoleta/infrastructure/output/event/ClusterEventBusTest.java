@@ -0,0 +1,216 @@
+package com.pragma.plazoleta.infrastructure.output.event;
+
+import com.pragma.plazoleta.domain.model.ChangeEvent;
+import com.pragma.plazoleta.domain.model.ChangeEventType;
+import com.pragma.plazoleta.infrastructure.configuration.WorkerThreads;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClusterEventBusTest {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<String> sentPayloads = new ArrayList<>();
+
+    private ClusterEventBus bus;
+
+    @BeforeEach
+    void setUp() {
+        bus = new ClusterEventBus(jsonMapper, meterRegistry, sentPayloads::addAll, Duration.ofMinutes(1),
+                new WorkerThreads(false));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        bus.shutdown();
+    }
+
+    @Nested
+    @DisplayName("Sending")
+    class Sending {
+
+        @Test
+        @DisplayName("Should send only the latest event of each key within the coalescing window")
+        void shouldCoalesceByKey() {
+            bus.publish(dishChange(7L, 1L));
+            bus.publish(dishChange(7L, 2L));
+            bus.send("order", null, "first");
+            bus.send("order", null, "second");
+
+            bus.flush();
+
+            assertThat(sentPayloads).hasSize(1);
+            ClusterEventBus.ClusterBatch batch = jsonMapper.readValue(sentPayloads.getFirst(), ClusterEventBus.ClusterBatch.class);
+            assertThat(batch.events()).hasSize(3);
+            assertThat(batch.events())
+                    .filteredOn(event -> event.topic().equals(ClusterEventBus.CHANGE_TOPIC))
+                    .singleElement()
+                    .satisfies(event -> assertThat(event.payload().get("restaurantId").asLong()).isEqualTo(2L));
+            assertThat(meterRegistry.get("cluster.events.coalesced").counter().count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("Should split large bursts into payloads under the notification size limit")
+        void shouldSplitLargeBursts() {
+            String description = "x".repeat(1000);
+            for (int i = 0; i < 20; i++) {
+                bus.send("note", null, description);
+            }
+
+            bus.flush();
+
+            assertThat(sentPayloads).hasSizeGreaterThan(1);
+            assertThat(sentPayloads).allSatisfy(payload ->
+                    assertThat(payload.getBytes(StandardCharsets.UTF_8).length)
+                            .isLessThanOrEqualTo(ClusterEventBus.MAX_PAYLOAD_BYTES));
+            assertThat(sentPayloads.stream()
+                    .mapToInt(payload -> jsonMapper.readValue(payload, ClusterEventBus.ClusterBatch.class).events().size())
+                    .sum()).isEqualTo(20);
+        }
+
+        @Test
+        @DisplayName("Should wait for the transaction to commit before queueing a change")
+        void shouldWaitForCommit() {
+            TransactionSynchronizationManager.initSynchronization();
+
+            bus.publish(dishChange(7L, 1L));
+            bus.flush();
+            assertThat(sentPayloads).isEmpty();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            bus.flush();
+            assertThat(sentPayloads).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("Should retry a batch that could not be sent until it goes through")
+        void shouldRetryFailedSends() throws InterruptedException {
+            AtomicInteger attempts = new AtomicInteger();
+            CountDownLatch delivered = new CountDownLatch(1);
+            ClusterEventBus flakyBus = new ClusterEventBus(jsonMapper, meterRegistry, payloads -> {
+                if (attempts.incrementAndGet() == 1) {
+                    throw new SQLException("connection refused");
+                }
+                sentPayloads.addAll(payloads);
+                delivered.countDown();
+            }, Duration.ofMinutes(1), new WorkerThreads(false));
+            flakyBus.publish(dishChange(7L, 1L));
+
+            flakyBus.flush();
+
+            assertThat(delivered.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(sentPayloads).singleElement().satisfies(payload ->
+                    assertThat(jsonMapper.readValue(payload, ClusterEventBus.ClusterBatch.class).events())
+                            .singleElement()
+                            .satisfies(event -> assertThat(event.payload().get("entityId").asLong()).isEqualTo(7L)));
+            assertThat(meterRegistry.get("cluster.events.retries").counter().count()).isEqualTo(1.0);
+            assertThat(meterRegistry.get("cluster.events.failed").counter().count()).isZero();
+            flakyBus.shutdown();
+        }
+
+        @Test
+        @DisplayName("Should ask the other instances to resync after giving up on a batch")
+        void shouldSendResyncMarkerAfterGivingUp() {
+            AtomicBoolean failing = new AtomicBoolean(true);
+            ClusterEventBus flakyBus = new ClusterEventBus(jsonMapper, meterRegistry, payloads -> {
+                if (failing.get()) {
+                    throw new SQLException("connection refused");
+                }
+                sentPayloads.addAll(payloads);
+            }, Duration.ofMinutes(1), new WorkerThreads(false));
+            flakyBus.publish(dishChange(7L, 1L));
+            for (int attempt = 0; attempt < 5; attempt++) {
+                flakyBus.flush();
+            }
+
+            failing.set(false);
+            flakyBus.flush();
+            AtomicInteger resyncs = new AtomicInteger();
+            List<ChangeEvent> received = new ArrayList<>();
+            bus.onResync(resyncs::incrementAndGet);
+            bus.subscribe(ClusterEventBus.CHANGE_TOPIC, ChangeEvent.class, received::add);
+            sentPayloads.forEach(bus::dispatch);
+
+            assertThat(meterRegistry.get("cluster.events.failed").counter().count()).isEqualTo(1.0);
+            assertThat(resyncs).hasValue(1);
+            assertThat(received).isEmpty();
+            flakyBus.shutdown();
+        }
+    }
+
+    @Nested
+    @DisplayName("Receiving")
+    class Receiving {
+
+        @Test
+        @DisplayName("Should hand events from other instances to the topic handlers")
+        void shouldDispatchRemoteEvents() {
+            List<ChangeEvent> received = new ArrayList<>();
+            bus.subscribe(ClusterEventBus.CHANGE_TOPIC, ChangeEvent.class, received::add);
+            ClusterEventBus other = new ClusterEventBus(jsonMapper, new SimpleMeterRegistry(), sentPayloads::addAll,
+                    Duration.ofMinutes(1), new WorkerThreads(false));
+            other.publish(dishChange(7L, 1L));
+            other.flush();
+
+            bus.dispatch(sentPayloads.getFirst());
+
+            assertThat(received).singleElement().satisfies(event -> {
+                assertThat(event.getType()).isEqualTo(ChangeEventType.DISH);
+                assertThat(event.getEntityId()).isEqualTo(7L);
+            });
+            other.shutdown();
+        }
+
+        @Test
+        @DisplayName("Should skip the events this instance sent itself")
+        void shouldSkipOwnEvents() {
+            List<ChangeEvent> received = new ArrayList<>();
+            bus.subscribe(ClusterEventBus.CHANGE_TOPIC, ChangeEvent.class, received::add);
+            bus.publish(dishChange(7L, 1L));
+            bus.flush();
+
+            bus.dispatch(sentPayloads.getFirst());
+
+            assertThat(received).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should back off exponentially between reconnect attempts up to the maximum")
+        void shouldBackOffReconnects() {
+            assertThat(bus.reconnectDelay(1)).isEqualTo(Duration.ofMillis(500));
+            assertThat(bus.reconnectDelay(3)).isEqualTo(Duration.ofSeconds(2));
+            assertThat(bus.reconnectDelay(30)).isEqualTo(Duration.ofSeconds(30));
+        }
+    }
+
+    private ChangeEvent dishChange(Long dishId, Long restaurantId) {
+        return ChangeEvent.builder()
+                .type(ChangeEventType.DISH)
+                .entityId(dishId)
+                .restaurantId(restaurantId)
+                .build();
+    }
+}
@@ -0,0 +1,276 @@
+package com.pragma.plazoleta.infrastructure.output.event;
+
+import com.pragma.plazoleta.domain.model.OrderEvent;
+import com.pragma.plazoleta.domain.model.OrderStatus;
+import com.pragma.plazoleta.infrastructure.configuration.WorkerThreads;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class OrderEventBroadcasterTest {
+
+    private static final Long RESTAURANT_ID = 1L;
+    private static final Long OTHER_RESTAURANT_ID = 2L;
+    private static final long AWAIT_SECONDS = 2;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ClusterEventBus clusterEventBus = mock(ClusterEventBus.class);
+
+    private OrderEventBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new OrderEventBroadcaster(meterRegistry, clusterEventBus, 3, 4,
+                Executors.newSingleThreadExecutor(), Duration.ofMinutes(1), new WorkerThreads(false));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        broadcaster.shutdown();
+    }
+
+    @Nested
+    @DisplayName("Live Events")
+    class LiveEvents {
+
+        @Test
+        @DisplayName("Should stream events only to subscribers of the order's restaurant")
+        void shouldStreamToRestaurantSubscribers() throws InterruptedException {
+            RecordingSink sink = new RecordingSink();
+            RecordingSink otherSink = new RecordingSink();
+            broadcaster.subscribe(RESTAURANT_ID, null, sink);
+            broadcaster.subscribe(OTHER_RESTAURANT_ID, null, otherSink);
+
+            broadcaster.publish(event(10L, null, OrderStatus.PENDING));
+
+            OrderEventMessage message = sink.next();
+            assertThat(message.type()).isEqualTo("created");
+            assertThat(message.orderId()).isEqualTo(10L);
+            assertThat(otherSink.received).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should wait for the transaction to commit before streaming")
+        void shouldWaitForCommit() throws InterruptedException {
+            RecordingSink sink = new RecordingSink();
+            broadcaster.subscribe(RESTAURANT_ID, null, sink);
+            TransactionSynchronizationManager.initSynchronization();
+
+            broadcaster.publish(event(10L, OrderStatus.PENDING, OrderStatus.IN_PREPARATION));
+
+            assertThat(sink.received.poll(100, TimeUnit.MILLISECONDS)).isNull();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(sink.next().type()).isEqualTo("assigned");
+        }
+
+        @Test
+        @DisplayName("Should disconnect a subscriber that falls behind without blocking the publisher")
+        void shouldDropSlowSubscriber() throws InterruptedException {
+            CountDownLatch release = new CountDownLatch(1);
+            RecordingSink slowSink = new RecordingSink(release);
+            OrderEventBroadcaster.Subscriber slow = broadcaster.subscribe(RESTAURANT_ID, null, slowSink);
+
+            for (long orderId = 1; orderId <= 6; orderId++) {
+                broadcaster.publish(event(orderId, null, OrderStatus.PENDING));
+            }
+            release.countDown();
+
+            assertThat(slow.isClosed()).isTrue();
+            assertThat(meterRegistry.get("order.events.subscribers.dropped").counter().count()).isEqualTo(1.0);
+            awaitSubscribers(0);
+        }
+    }
+
+    @Nested
+    @DisplayName("Resuming")
+    class Resuming {
+
+        @Test
+        @DisplayName("Should replay the buffered events after the last event id")
+        void shouldReplayAfterLastEventId() throws InterruptedException {
+            RecordingSink first = new RecordingSink();
+            broadcaster.subscribe(RESTAURANT_ID, null, first);
+            broadcaster.publish(event(1L, null, OrderStatus.PENDING));
+            broadcaster.publish(event(2L, null, OrderStatus.PENDING));
+            String lastSeen = first.next().id();
+
+            RecordingSink resumed = new RecordingSink();
+            broadcaster.subscribe(RESTAURANT_ID, lastSeen, resumed);
+
+            assertThat(resumed.next().orderId()).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("Should ask for a reload when the missed events are no longer buffered")
+        void shouldResetWhenEventsWereEvicted() throws InterruptedException {
+            RecordingSink first = new RecordingSink();
+            broadcaster.subscribe(RESTAURANT_ID, null, first);
+            broadcaster.publish(event(1L, null, OrderStatus.PENDING));
+            String lastSeen = first.next().id();
+            for (long orderId = 2; orderId <= 5; orderId++) {
+                broadcaster.publish(event(orderId, null, OrderStatus.PENDING));
+            }
+
+            RecordingSink resumed = new RecordingSink();
+            broadcaster.subscribe(RESTAURANT_ID, lastSeen, resumed);
+
+            assertThat(resumed.next().type()).isEqualTo(OrderEventBroadcaster.RESET_EVENT);
+        }
+
+        @Test
+        @DisplayName("Should ask for a reload when the event id was issued by another instance")
+        void shouldResetForForeignEventId() throws InterruptedException {
+            RecordingSink resumed = new RecordingSink();
+            broadcaster.subscribe(RESTAURANT_ID, "other-instance-42", resumed);
+
+            assertThat(resumed.next().type()).isEqualTo(OrderEventBroadcaster.RESET_EVENT);
+        }
+    }
+
+    @Nested
+    @DisplayName("Other Instances")
+    class OtherInstances {
+
+        @Test
+        @DisplayName("Should share committed events with the other instances")
+        void shouldShareCommittedEvents() {
+            OrderEvent event = event(10L, null, OrderStatus.PENDING);
+
+            broadcaster.publish(event);
+
+            verify(clusterEventBus).send(eq(OrderEventBroadcaster.ORDER_TOPIC), isNull(), same(event));
+        }
+
+        @Test
+        @DisplayName("Should stream events received from the other instances")
+        @SuppressWarnings("unchecked")
+        void shouldStreamRemoteEvents() throws InterruptedException {
+            ArgumentCaptor<Consumer<OrderEvent>> handler = ArgumentCaptor.forClass(Consumer.class);
+            verify(clusterEventBus).subscribe(eq(OrderEventBroadcaster.ORDER_TOPIC), eq(OrderEvent.class), handler.capture());
+            RecordingSink sink = new RecordingSink();
+            broadcaster.subscribe(RESTAURANT_ID, null, sink);
+
+            handler.getValue().accept(event(10L, OrderStatus.IN_PREPARATION, OrderStatus.READY));
+
+            assertThat(sink.next().type()).isEqualTo("ready");
+        }
+    }
+
+    @Nested
+    @DisplayName("Resync")
+    class Resync {
+
+        @Test
+        @DisplayName("Should change every orders version when the cluster bus resyncs")
+        void shouldChangeOrdersVersionOnResync() {
+            broadcaster.publish(event(1L, null, OrderStatus.PENDING));
+            long before = broadcaster.ordersVersion(RESTAURANT_ID);
+            long otherBefore = broadcaster.ordersVersion(OTHER_RESTAURANT_ID);
+
+            resyncHandler().run();
+
+            assertThat(broadcaster.ordersVersion(RESTAURANT_ID)).isGreaterThan(before);
+            assertThat(broadcaster.ordersVersion(OTHER_RESTAURANT_ID)).isGreaterThan(otherBefore);
+        }
+
+        @Test
+        @DisplayName("Should ask open streams to reload and not replay across the gap")
+        void shouldResetStreamsOnResync() throws InterruptedException {
+            RecordingSink sink = new RecordingSink();
+            broadcaster.subscribe(RESTAURANT_ID, null, sink);
+            broadcaster.publish(event(1L, null, OrderStatus.PENDING));
+            String lastSeen = sink.next().id();
+
+            resyncHandler().run();
+
+            assertThat(sink.next().type()).isEqualTo(OrderEventBroadcaster.RESET_EVENT);
+            RecordingSink resumed = new RecordingSink();
+            broadcaster.subscribe(RESTAURANT_ID, lastSeen, resumed);
+            assertThat(resumed.next().type()).isEqualTo(OrderEventBroadcaster.RESET_EVENT);
+        }
+
+        private Runnable resyncHandler() {
+            ArgumentCaptor<Runnable> handler = ArgumentCaptor.forClass(Runnable.class);
+            verify(clusterEventBus).onResync(handler.capture());
+            return handler.getValue();
+        }
+    }
+
+    private OrderEvent event(Long orderId, OrderStatus previousStatus, OrderStatus status) {
+        return OrderEvent.builder()
+                .orderId(orderId)
+                .restaurantId(RESTAURANT_ID)
+                .previousStatus(previousStatus)
+                .status(status)
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+
+    private void awaitSubscribers(int expected) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(AWAIT_SECONDS);
+        while (broadcaster.subscriberCount() != expected && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(broadcaster.subscriberCount()).isEqualTo(expected);
+    }
+
+    private static final class RecordingSink implements OrderEventBroadcaster.EventSink {
+
+        private final LinkedBlockingQueue<OrderEventMessage> received = new LinkedBlockingQueue<>();
+        private final CountDownLatch release;
+
+        private RecordingSink() {
+            this(new CountDownLatch(0));
+        }
+
+        private RecordingSink(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(OrderEventMessage message) throws IOException {
+            try {
+                release.await(AWAIT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            received.add(message);
+        }
+
+        @Override
+        public void close() {
+            release.countDown();
+        }
+
+        private OrderEventMessage next() throws InterruptedException {
+            return received.poll(AWAIT_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.pragma.plazoleta.infrastructure.output.feign.adapter;
+
+import com.pragma.plazoleta.infrastructure.configuration.WorkerThreads;
+import com.pragma.plazoleta.infrastructure.output.feign.client.INotificationFeignClient;
+import com.pragma.plazoleta.infrastructure.output.feign.dto.NotificationResponseDto;
+import com.pragma.plazoleta.infrastructure.output.feign.dto.OrderReadyNotificationRequestDto;
+import feign.FeignException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncNotificationAdapterTest {
+
+    private static final long VERIFY_TIMEOUT_MS = 2000;
+
+    @Mock
+    private INotificationFeignClient notificationFeignClient;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AsyncNotificationAdapter adapter;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        SecurityContextHolder.clearContext();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        if (adapter != null) {
+            adapter.shutdown();
+        }
+    }
+
+    @Test
+    void sendOrderReadyNotification_ShouldDeliverOffThreadWithCapturedToken() {
+        adapter = newAdapter(2, 10, 3);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("employee@test.com", "jwt-token", List.of()));
+        when(notificationFeignClient.sendOrderReadyNotification(any(), any()))
+                .thenReturn(new NotificationResponseDto(true, "MSG-1", "ok"));
+
+        adapter.sendOrderReadyNotification("+573001234567", "100", "123456", "Restaurante Uno");
+
+        verify(notificationFeignClient, timeout(VERIFY_TIMEOUT_MS))
+                .sendOrderReadyNotification(eq("Bearer jwt-token"), any(OrderReadyNotificationRequestDto.class));
+    }
+
+    @Test
+    void sendOrderReadyNotification_ShouldWaitForTransactionCommit() {
+        adapter = newAdapter(1, 10, 3);
+        when(notificationFeignClient.sendOrderReadyNotification(any(), any()))
+                .thenReturn(new NotificationResponseDto(true, "MSG-1", "ok"));
+        TransactionSynchronizationManager.initSynchronization();
+
+        adapter.sendOrderReadyNotification("+573001234567", "100", "123456", "Restaurante Uno");
+
+        verify(notificationFeignClient, never()).sendOrderReadyNotification(any(), any());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(notificationFeignClient, timeout(VERIFY_TIMEOUT_MS)).sendOrderReadyNotification(any(), any());
+    }
+
+    @Test
+    void sendOrderReadyNotification_ShouldRetryUnsuccessfulResponses() {
+        adapter = newAdapter(1, 10, 3);
+        when(notificationFeignClient.sendOrderReadyNotification(any(), any()))
+                .thenReturn(new NotificationResponseDto(false, null, "provider down"))
+                .thenReturn(new NotificationResponseDto(true, "MSG-2", "ok"));
+
+        adapter.sendOrderReadyNotification("+573001234567", "101", "654321", "Restaurante Dos");
+
+        verify(notificationFeignClient, timeout(VERIFY_TIMEOUT_MS).times(2)).sendOrderReadyNotification(any(), any());
+        assertTrue(adapter.getDeadLetters().isEmpty());
+        assertEquals(1.0, meterRegistry.get("notification.retries").counter().count());
+    }
+
+    @Test
+    void sendOrderReadyNotification_ShouldDeadLetterAfterMaxAttempts() {
+        adapter = newAdapter(1, 10, 2);
+        FeignException unavailable = mock(FeignException.class);
+        when(unavailable.status()).thenReturn(503);
+        when(notificationFeignClient.sendOrderReadyNotification(any(), any())).thenThrow(unavailable);
+
+        adapter.sendOrderReadyNotification("+573001234567", "102", "111111", "Restaurante Tres");
+
+        verify(notificationFeignClient, timeout(VERIFY_TIMEOUT_MS).times(2)).sendOrderReadyNotification(any(), any());
+        awaitDeadLetters(1);
+        AsyncNotificationAdapter.FailedNotification failed = adapter.getDeadLetters().getFirst();
+        assertEquals("102", failed.request().getOrderId());
+        assertEquals(2, failed.attempts());
+    }
+
+    @Test
+    void sendOrderReadyNotification_ShouldNotRetryClientErrors() {
+        adapter = newAdapter(1, 10, 3);
+        FeignException badRequest = mock(FeignException.class);
+        when(badRequest.status()).thenReturn(400);
+        when(notificationFeignClient.sendOrderReadyNotification(any(), any())).thenThrow(badRequest);
+
+        adapter.sendOrderReadyNotification("+573001234567", "103", "222222", "Restaurante Cuatro");
+
+        awaitDeadLetters(1);
+        verify(notificationFeignClient, times(1)).sendOrderReadyNotification(any(), any());
+    }
+
+    @Test
+    void sendOrderReadyNotification_ShouldDeadLetterWhenQueueIsFull() throws InterruptedException {
+        adapter = newAdapter(1, 1, 3);
+        CountDownLatch release = new CountDownLatch(1);
+        when(notificationFeignClient.sendOrderReadyNotification(any(), any())).thenAnswer(_ -> {
+            release.await(VERIFY_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            return new NotificationResponseDto(true, "MSG", "ok");
+        });
+
+        adapter.sendOrderReadyNotification("+573001234567", "1", "111111", "R");
+        verify(notificationFeignClient, timeout(VERIFY_TIMEOUT_MS)).sendOrderReadyNotification(any(), any());
+        adapter.sendOrderReadyNotification("+573001234567", "2", "222222", "R");
+        adapter.sendOrderReadyNotification("+573001234567", "3", "333333", "R");
+        release.countDown();
+
+        assertEquals(1.0, meterRegistry.get("notification.rejected").counter().count());
+        assertEquals("3", adapter.getDeadLetters().getFirst().request().getOrderId());
+    }
+
+    @Test
+    void retryDelay_ShouldGrowExponentially() {
+        adapter = new AsyncNotificationAdapter(notificationFeignClient, meterRegistry, new WorkerThreads(false),
+                1, 1, 3, 500, 10);
+
+        assertEquals(Duration.ofMillis(500), adapter.retryDelay(1));
+        assertEquals(Duration.ofMillis(2000), adapter.retryDelay(3));
+    }
+
+    private AsyncNotificationAdapter newAdapter(int workers, int queueCapacity, int maxAttempts) {
+        return new AsyncNotificationAdapter(notificationFeignClient, meterRegistry, new WorkerThreads(false),
+                workers, queueCapacity, maxAttempts, 1, 10);
+    }
+
+    private void awaitDeadLetters(int expected) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(VERIFY_TIMEOUT_MS);
+        while (adapter.getDeadLetters().size() < expected && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(expected, adapter.getDeadLetters().size());
+    }
+}
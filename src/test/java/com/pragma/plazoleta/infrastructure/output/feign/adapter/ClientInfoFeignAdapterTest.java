@@ -1,6 +1,6 @@
 package com.pragma.plazoleta.infrastructure.output.feign.adapter;
 
-import com.pragma.plazoleta.infrastructure.output.feign.client.IUserFeignClient;
+import com.pragma.plazoleta.infrastructure.cache.UserInfoCache;
 import com.pragma.plazoleta.infrastructure.output.feign.dto.UserDto;
 import feign.FeignException;
 import feign.Request;
@@ -11,11 +11,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.util.Collections;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -24,7 +28,7 @@ class ClientInfoFeignAdapterTest {
     private static final Long CLIENT_ID = 10L;
 
     @Mock
-    private IUserFeignClient userFeignClient;
+    private UserInfoCache userInfoCache;
 
     @InjectMocks
     private ClientInfoFeignAdapter adapter;
@@ -41,7 +45,7 @@ class ClientInfoFeignAdapterTest {
 
     @Test
     void getClientPhoneById_ShouldReturnPhoneWhenUserExists() {
-        when(userFeignClient.getUserById(CLIENT_ID)).thenReturn(Optional.of(userDto));
+        when(userInfoCache.getUserById(CLIENT_ID)).thenReturn(Optional.of(userDto));
 
         Optional<String> result = adapter.getClientPhoneById(CLIENT_ID);
 
@@ -51,7 +55,7 @@ class ClientInfoFeignAdapterTest {
 
     @Test
     void getClientPhoneById_ShouldReturnEmptyWhenFeignFails() {
-        when(userFeignClient.getUserById(CLIENT_ID)).thenThrow(notFoundException());
+        when(userInfoCache.getUserById(CLIENT_ID)).thenThrow(notFoundException());
 
         Optional<String> result = adapter.getClientPhoneById(CLIENT_ID);
 
@@ -60,7 +64,7 @@ class ClientInfoFeignAdapterTest {
 
     @Test
     void getClientEmailById_ShouldReturnEmailWhenUserExists() {
-        when(userFeignClient.getUserById(CLIENT_ID)).thenReturn(Optional.of(userDto));
+        when(userInfoCache.getUserById(CLIENT_ID)).thenReturn(Optional.of(userDto));
 
         Optional<String> result = adapter.getClientEmailById(CLIENT_ID);
 
@@ -70,13 +74,28 @@ class ClientInfoFeignAdapterTest {
 
     @Test
     void getClientEmailById_ShouldReturnEmptyWhenFeignFails() {
-        when(userFeignClient.getUserById(CLIENT_ID)).thenThrow(notFoundException());
+        when(userInfoCache.getUserById(CLIENT_ID)).thenThrow(notFoundException());
 
         Optional<String> result = adapter.getClientEmailById(CLIENT_ID);
 
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    void getClientPhoneAndEmail_ShouldLookUpUserOncePerRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        try {
+            when(userInfoCache.getUserById(CLIENT_ID)).thenReturn(Optional.of(userDto));
+
+            assertEquals(Optional.of("+573001234567"), adapter.getClientPhoneById(CLIENT_ID));
+            assertEquals(Optional.of("client@test.com"), adapter.getClientEmailById(CLIENT_ID));
+
+            verify(userInfoCache).getUserById(CLIENT_ID);
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
     private FeignException notFoundException() {
         Request request = Request.create(
                 Request.HttpMethod.GET,
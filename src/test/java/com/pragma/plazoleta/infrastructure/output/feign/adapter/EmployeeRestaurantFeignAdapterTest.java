@@ -1,6 +1,6 @@
 package com.pragma.plazoleta.infrastructure.output.feign.adapter;
 
-import com.pragma.plazoleta.infrastructure.output.feign.client.IUserFeignClient;
+import com.pragma.plazoleta.infrastructure.cache.UserInfoCache;
 import com.pragma.plazoleta.infrastructure.output.feign.dto.UserDto;
 import feign.FeignException;
 import feign.Request;
@@ -24,7 +24,7 @@ class EmployeeRestaurantFeignAdapterTest {
     private static final Long EMPLOYEE_ID = 20L;
 
     @Mock
-    private IUserFeignClient userFeignClient;
+    private UserInfoCache userInfoCache;
 
     @InjectMocks
     private EmployeeRestaurantFeignAdapter adapter;
@@ -41,7 +41,7 @@ class EmployeeRestaurantFeignAdapterTest {
 
     @Test
     void getRestaurantIdByEmployeeId_ShouldReturnRestaurantIdWhenUserExists() {
-        when(userFeignClient.getUserById(EMPLOYEE_ID)).thenReturn(Optional.of(userDto));
+        when(userInfoCache.getUserById(EMPLOYEE_ID)).thenReturn(Optional.of(userDto));
 
         Optional<Long> result = adapter.getRestaurantIdByEmployeeId(EMPLOYEE_ID);
 
@@ -51,7 +51,7 @@ class EmployeeRestaurantFeignAdapterTest {
 
     @Test
     void getRestaurantIdByEmployeeId_ShouldReturnEmptyWhenFeignFails() {
-        when(userFeignClient.getUserById(EMPLOYEE_ID)).thenThrow(notFoundException());
+        when(userInfoCache.getUserById(EMPLOYEE_ID)).thenThrow(notFoundException());
 
         Optional<Long> result = adapter.getRestaurantIdByEmployeeId(EMPLOYEE_ID);
 
@@ -60,7 +60,7 @@ class EmployeeRestaurantFeignAdapterTest {
 
     @Test
     void getEmployeeEmailById_ShouldReturnEmailWhenUserExists() {
-        when(userFeignClient.getUserById(EMPLOYEE_ID)).thenReturn(Optional.of(userDto));
+        when(userInfoCache.getUserById(EMPLOYEE_ID)).thenReturn(Optional.of(userDto));
 
         Optional<String> result = adapter.getEmployeeEmailById(EMPLOYEE_ID);
 
@@ -70,7 +70,7 @@ class EmployeeRestaurantFeignAdapterTest {
 
     @Test
     void getEmployeeEmailById_ShouldReturnEmptyWhenFeignFails() {
-        when(userFeignClient.getUserById(EMPLOYEE_ID)).thenThrow(notFoundException());
+        when(userInfoCache.getUserById(EMPLOYEE_ID)).thenThrow(notFoundException());
 
         Optional<String> result = adapter.getEmployeeEmailById(EMPLOYEE_ID);
 
@@ -0,0 +1,79 @@
+package com.pragma.plazoleta.infrastructure.output.feign.adapter;
+
+import com.pragma.plazoleta.domain.model.Traceability;
+import com.pragma.plazoleta.infrastructure.output.feign.dto.TraceabilityRequestDto;
+import com.pragma.plazoleta.infrastructure.output.feign.mapper.TraceabilityFeignMapper;
+import com.pragma.plazoleta.infrastructure.output.jpa.entity.TraceabilityOutboxEntity;
+import com.pragma.plazoleta.infrastructure.output.jpa.repository.ITraceabilityOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TraceabilityOutboxAdapterTest {
+
+    @Mock
+    private ITraceabilityOutboxRepository outboxRepository;
+
+    @Mock
+    private TraceabilityFeignMapper traceabilityFeignMapper;
+
+    @Mock
+    private TraceabilityFeignAdapter traceabilityFeignAdapter;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private TraceabilityOutboxAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new TraceabilityOutboxAdapter(
+                outboxRepository, traceabilityFeignMapper, traceabilityFeignAdapter, jsonMapper);
+    }
+
+    @Test
+    void saveTraceability_ShouldWriteEventToOutboxWithoutCallingService() {
+        Traceability traceability = new Traceability();
+        traceability.setOrderId(7L);
+        TraceabilityRequestDto requestDto = new TraceabilityRequestDto();
+        requestDto.setOrderId(7L);
+        requestDto.setNewStatus("PENDING");
+        when(traceabilityFeignMapper.toRequest(traceability)).thenReturn(requestDto);
+
+        adapter.saveTraceability(traceability);
+
+        ArgumentCaptor<TraceabilityOutboxEntity> captor = ArgumentCaptor.forClass(TraceabilityOutboxEntity.class);
+        verify(outboxRepository).save(captor.capture());
+        TraceabilityOutboxEntity event = captor.getValue();
+        assertEquals(7L, event.getOrderId());
+        assertEquals(0, event.getAttempts());
+        assertNotNull(event.getCreatedAt());
+        assertEquals(event.getCreatedAt(), event.getNextAttemptAt());
+        TraceabilityRequestDto payload = jsonMapper.readValue(event.getPayload(), TraceabilityRequestDto.class);
+        assertEquals(7L, payload.getOrderId());
+        assertEquals("PENDING", payload.getNewStatus());
+        verifyNoInteractions(traceabilityFeignAdapter);
+    }
+
+    @Test
+    void getTraceabilityByOrderId_ShouldDelegateToFeignAdapter() {
+        List<Traceability> expected = List.of(new Traceability());
+        when(traceabilityFeignAdapter.getTraceabilityByOrderId(1L)).thenReturn(expected);
+
+        assertSame(expected, adapter.getTraceabilityByOrderId(1L));
+        verifyNoInteractions(outboxRepository);
+    }
+}
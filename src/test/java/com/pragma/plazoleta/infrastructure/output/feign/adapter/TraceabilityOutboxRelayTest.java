@@ -0,0 +1,247 @@
+package com.pragma.plazoleta.infrastructure.output.feign.adapter;
+
+import com.pragma.plazoleta.domain.spi.IClientInfoPort;
+import com.pragma.plazoleta.infrastructure.output.feign.client.ITraceabilityFeignClient;
+import com.pragma.plazoleta.infrastructure.output.feign.dto.TraceabilityRequestDto;
+import com.pragma.plazoleta.infrastructure.output.jpa.entity.TraceabilityOutboxEntity;
+import com.pragma.plazoleta.infrastructure.output.jpa.repository.ITraceabilityOutboxRepository;
+import feign.FeignException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TraceabilityOutboxRelayTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Mock
+    private ITraceabilityOutboxRepository outboxRepository;
+
+    @Mock
+    private ITraceabilityFeignClient traceabilityFeignClient;
+
+    @Mock
+    private IClientInfoPort clientInfoPort;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private TraceabilityOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new TraceabilityOutboxRelay(outboxRepository, traceabilityFeignClient, clientInfoPort, jsonMapper,
+                transactionManager, meterRegistry, BATCH_SIZE, MAX_ATTEMPTS, 1000, 60000, 120000);
+    }
+
+    @Test
+    void relay_ShouldDeliverBatchAndDeleteDeliveredEvents() {
+        TraceabilityOutboxEntity event = event(1L, 10L);
+        when(outboxRepository.lockNextBatch(any(Instant.class), anyInt())).thenReturn(List.of(event));
+        when(outboxRepository.findFirstByParkedAtIsNullOrderByIdAsc()).thenReturn(Optional.empty());
+
+        relay.relay();
+
+        verify(traceabilityFeignClient).saveTraceability(argThat(dto -> dto.getOrderId().equals(10L)));
+        verify(outboxRepository).deleteAllInBatch(List.of(event));
+        assertEquals(1.0, meterRegistry.get("traceability.outbox.relayed").counter().count());
+    }
+
+    @Test
+    void relay_ShouldLookUpMissingClientEmailBeforePosting() {
+        TraceabilityRequestDto dto = new TraceabilityRequestDto();
+        dto.setOrderId(10L);
+        dto.setClientId(1L);
+        TraceabilityOutboxEntity event = event(1L, 10L);
+        event.setPayload(jsonMapper.writeValueAsString(dto));
+        when(outboxRepository.lockNextBatch(any(Instant.class), anyInt())).thenReturn(List.of(event));
+        when(outboxRepository.findFirstByParkedAtIsNullOrderByIdAsc()).thenReturn(Optional.empty());
+        when(clientInfoPort.getClientEmailById(1L)).thenReturn(Optional.of("client@test.com"));
+
+        relay.relay();
+
+        verify(traceabilityFeignClient).saveTraceability(argThat(request -> "client@test.com".equals(request.getClientEmail())));
+    }
+
+    @Test
+    void relay_ShouldKeepDrainingWhileBatchesAreFull() {
+        TraceabilityOutboxEntity first = event(1L, 10L);
+        TraceabilityOutboxEntity second = event(2L, 11L);
+        TraceabilityOutboxEntity third = event(3L, 10L);
+        when(outboxRepository.lockNextBatch(any(Instant.class), anyInt()))
+                .thenReturn(List.of(first, second))
+                .thenReturn(List.of(third));
+        when(outboxRepository.findFirstByParkedAtIsNullOrderByIdAsc()).thenReturn(Optional.empty());
+
+        relay.relay();
+
+        verify(outboxRepository, times(2)).lockNextBatch(any(Instant.class), anyInt());
+        verify(traceabilityFeignClient, times(3)).saveTraceability(any(TraceabilityRequestDto.class));
+    }
+
+    @Test
+    void relay_ShouldLeaseBatchBeforePostingIt() {
+        TraceabilityOutboxEntity event = event(1L, 10L);
+        Instant dueAt = event.getNextAttemptAt();
+        when(outboxRepository.lockNextBatch(any(Instant.class), anyInt())).thenReturn(List.of(event));
+        when(outboxRepository.findFirstByParkedAtIsNullOrderByIdAsc()).thenReturn(Optional.empty());
+        doAnswer(_ -> {
+            assertTrue(event.getNextAttemptAt().isAfter(dueAt.plusSeconds(60)));
+            return null;
+        }).when(traceabilityFeignClient).saveTraceability(any(TraceabilityRequestDto.class));
+
+        relay.relay();
+
+        InOrder inOrder = inOrder(transactionManager, traceabilityFeignClient, outboxRepository);
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(traceabilityFeignClient).saveTraceability(any(TraceabilityRequestDto.class));
+        inOrder.verify(outboxRepository).deleteAllInBatch(List.of(event));
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void relay_ShouldScheduleRetryWithBackoffOnTransientError() {
+        TraceabilityOutboxEntity failing = event(1L, 10L);
+        TraceabilityOutboxEntity next = event(2L, 11L);
+        when(outboxRepository.lockNextBatch(any(Instant.class), anyInt())).thenReturn(List.of(failing, next));
+        when(outboxRepository.findFirstByParkedAtIsNullOrderByIdAsc()).thenReturn(Optional.of(failing));
+        FeignException tooManyRequests = mock(FeignException.class);
+        when(tooManyRequests.status()).thenReturn(429);
+        when(tooManyRequests.getMessage()).thenReturn("too many requests");
+        doThrow(tooManyRequests).doNothing().when(traceabilityFeignClient).saveTraceability(any(TraceabilityRequestDto.class));
+
+        relay.relay();
+
+        assertEquals(1, failing.getAttempts());
+        assertEquals("too many requests", failing.getLastError());
+        assertNull(failing.getParkedAt());
+        assertTrue(failing.getNextAttemptAt().isAfter(failing.getCreatedAt()));
+        verify(outboxRepository).deleteAllInBatch(List.of(next));
+        verify(outboxRepository).saveAll(List.of(failing));
+        assertEquals(1.0, meterRegistry.get("traceability.outbox.failures").counter().count());
+    }
+
+    @Test
+    void relay_ShouldParkEventRejectedByService() {
+        TraceabilityOutboxEntity rejected = event(1L, 10L);
+        TraceabilityOutboxEntity next = event(2L, 11L);
+        when(outboxRepository.lockNextBatch(any(Instant.class), anyInt())).thenReturn(List.of(rejected, next));
+        when(outboxRepository.countByParkedAtIsNotNull()).thenReturn(1L);
+        when(outboxRepository.findFirstByParkedAtIsNullOrderByIdAsc()).thenReturn(Optional.empty());
+        FeignException badRequest = mock(FeignException.class);
+        when(badRequest.status()).thenReturn(400);
+        when(badRequest.getMessage()).thenReturn("bad request");
+        doThrow(badRequest).doNothing().when(traceabilityFeignClient).saveTraceability(any(TraceabilityRequestDto.class));
+
+        relay.relay();
+
+        assertNotNull(rejected.getParkedAt());
+        assertEquals("bad request", rejected.getLastError());
+        verify(outboxRepository).deleteAllInBatch(List.of(next));
+        assertEquals(1.0, meterRegistry.get("traceability.outbox.parked").counter().count());
+        assertEquals(1.0, meterRegistry.get("traceability.outbox.parked.size").gauge().value());
+    }
+
+    @Test
+    void relay_ShouldParkEventAfterMaxAttempts() {
+        TraceabilityOutboxEntity failing = event(1L, 10L);
+        failing.setAttempts(MAX_ATTEMPTS - 1);
+        when(outboxRepository.lockNextBatch(any(Instant.class), anyInt())).thenReturn(List.of(failing));
+        when(outboxRepository.findFirstByParkedAtIsNullOrderByIdAsc()).thenReturn(Optional.empty());
+        doThrow(new IllegalStateException("unexpected")).when(traceabilityFeignClient)
+                .saveTraceability(any(TraceabilityRequestDto.class));
+
+        relay.relay();
+
+        assertEquals(MAX_ATTEMPTS, failing.getAttempts());
+        assertNotNull(failing.getParkedAt());
+        verify(outboxRepository, never()).deleteAllInBatch(any());
+    }
+
+    @Test
+    void relay_ShouldParkEventWithUnreadablePayload() {
+        TraceabilityOutboxEntity unreadable = event(1L, 10L);
+        unreadable.setPayload("{not json");
+        when(outboxRepository.lockNextBatch(any(Instant.class), anyInt())).thenReturn(List.of(unreadable));
+        when(outboxRepository.findFirstByParkedAtIsNullOrderByIdAsc()).thenReturn(Optional.empty());
+
+        relay.relay();
+
+        assertNotNull(unreadable.getParkedAt());
+        verify(traceabilityFeignClient, never()).saveTraceability(any());
+    }
+
+    @Test
+    void relay_ShouldStopBatchWhenServiceIsUnavailable() {
+        TraceabilityOutboxEntity failing = event(1L, 10L);
+        TraceabilityOutboxEntity next = event(2L, 11L);
+        when(outboxRepository.lockNextBatch(any(Instant.class), anyInt())).thenReturn(List.of(failing, next));
+        when(outboxRepository.countByParkedAtIsNull()).thenReturn(2L);
+        when(outboxRepository.findFirstByParkedAtIsNullOrderByIdAsc()).thenReturn(Optional.of(failing));
+        FeignException unavailable = mock(FeignException.class);
+        when(unavailable.status()).thenReturn(503);
+        doThrow(unavailable).when(traceabilityFeignClient).saveTraceability(any(TraceabilityRequestDto.class));
+
+        relay.relay();
+
+        verify(traceabilityFeignClient, times(1)).saveTraceability(any(TraceabilityRequestDto.class));
+        verify(outboxRepository, never()).deleteAllInBatch(any());
+        assertEquals(0, next.getAttempts());
+        assertTrue(next.getNextAttemptAt().isBefore(Instant.now().plusSeconds(1)));
+        assertEquals(2.0, meterRegistry.get("traceability.outbox.backlog").gauge().value());
+        assertNotNull(meterRegistry.get("traceability.outbox.lag").timeGauge());
+    }
+
+    @Test
+    void retryDelay_ShouldGrowExponentiallyUpToMaximum() {
+        assertEquals(Duration.ofSeconds(1), relay.retryDelay(1));
+        assertEquals(Duration.ofSeconds(4), relay.retryDelay(3));
+        assertEquals(Duration.ofSeconds(60), relay.retryDelay(50));
+    }
+
+    private TraceabilityOutboxEntity event(Long id, Long orderId) {
+        TraceabilityRequestDto dto = new TraceabilityRequestDto();
+        dto.setOrderId(orderId);
+        Instant createdAt = Instant.now().minusSeconds(5);
+        return TraceabilityOutboxEntity.builder()
+                .id(id)
+                .orderId(orderId)
+                .payload(jsonMapper.writeValueAsString(dto))
+                .createdAt(createdAt)
+                .nextAttemptAt(createdAt)
+                .build();
+    }
+}
@@ -1,6 +1,6 @@
 package com.pragma.plazoleta.infrastructure.output.feign.adapter;
 
-import com.pragma.plazoleta.infrastructure.output.feign.client.IUserFeignClient;
+import com.pragma.plazoleta.infrastructure.cache.UserInfoCache;
 import com.pragma.plazoleta.infrastructure.output.feign.dto.UserDto;
 import feign.FeignException;
 import feign.Request;
@@ -28,7 +28,7 @@ class UserFeignAdapterTest {
     private static final String OWNER_ROLE = "OWNER";
 
     @Mock
-    private IUserFeignClient userFeignClient;
+    private UserInfoCache userInfoCache;
 
     @InjectMocks
     private UserFeignAdapter userFeignAdapter;
@@ -53,21 +53,21 @@ class UserFeignAdapterTest {
         @DisplayName("Should return true when user exists")
         void shouldReturnTrueWhenUserExists() {
             // Arrange
-            when(userFeignClient.getUserById(USER_ID)).thenReturn(Optional.of(userDto));
+            when(userInfoCache.getUserById(USER_ID)).thenReturn(Optional.of(userDto));
 
             // Act
             boolean result = userFeignAdapter.existsById(USER_ID);
 
             // Assert
             assertTrue(result);
-            verify(userFeignClient).getUserById(USER_ID);
+            verify(userInfoCache).getUserById(USER_ID);
         }
 
         @Test
         @DisplayName("Should return false when user does not exist")
         void shouldReturnFalseWhenUserDoesNotExist() {
             // Arrange
-            when(userFeignClient.getUserById(USER_ID)).thenReturn(Optional.empty());
+            when(userInfoCache.getUserById(USER_ID)).thenReturn(Optional.empty());
 
             // Act
             boolean result = userFeignAdapter.existsById(USER_ID);
@@ -87,7 +87,7 @@ class UserFeignAdapterTest {
                     null,
                     new RequestTemplate()
             );
-            when(userFeignClient.getUserById(USER_ID))
+            when(userInfoCache.getUserById(USER_ID))
                     .thenThrow(new FeignException.NotFound("", request, null, null));
 
             // Act
@@ -106,7 +106,7 @@ class UserFeignAdapterTest {
         @DisplayName("Should return role when user exists")
         void shouldReturnRoleWhenUserExists() {
             // Arrange
-            when(userFeignClient.getUserById(USER_ID)).thenReturn(Optional.of(userDto));
+            when(userInfoCache.getUserById(USER_ID)).thenReturn(Optional.of(userDto));
 
             // Act
             Optional<String> result = userFeignAdapter.getUserRoleById(USER_ID);
@@ -114,14 +114,14 @@ class UserFeignAdapterTest {
             // Assert
             assertTrue(result.isPresent());
             assertEquals(OWNER_ROLE, result.get());
-            verify(userFeignClient).getUserById(USER_ID);
+            verify(userInfoCache).getUserById(USER_ID);
         }
 
         @Test
         @DisplayName("Should return empty when user does not exist")
         void shouldReturnEmptyWhenUserDoesNotExist() {
             // Arrange
-            when(userFeignClient.getUserById(USER_ID)).thenReturn(Optional.empty());
+            when(userInfoCache.getUserById(USER_ID)).thenReturn(Optional.empty());
 
             // Act
             Optional<String> result = userFeignAdapter.getUserRoleById(USER_ID);
@@ -141,7 +141,7 @@ class UserFeignAdapterTest {
                     null,
                     new RequestTemplate()
             );
-            when(userFeignClient.getUserById(USER_ID))
+            when(userInfoCache.getUserById(USER_ID))
                     .thenThrow(new FeignException.NotFound("", request, null, null));
 
             // Act
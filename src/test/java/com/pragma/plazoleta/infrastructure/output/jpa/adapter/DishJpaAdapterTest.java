@@ -18,6 +18,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import java.util.Arrays;
 import java.util.List;
@@ -26,6 +28,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -157,6 +160,34 @@ class DishJpaAdapterTest {
         }
     }
 
+    @Nested
+    @DisplayName("Find All By Ids Tests")
+    class FindAllByIdsTests {
+
+        @Test
+        @DisplayName("Should return all found dishes in a single repository call")
+        void shouldReturnAllFoundDishesInSingleCall() {
+            List<Long> ids = List.of(DISH_ID, 999L);
+            when(dishRepository.findAllById(ids)).thenReturn(List.of(savedDishEntity));
+            when(dishEntityMapper.toDish(savedDishEntity)).thenReturn(savedDish);
+
+            List<Dish> result = dishJpaAdapter.findAllByIds(ids);
+
+            assertThat(result).hasSize(1);
+            assertThat(result.getFirst().getId()).isEqualTo(DISH_ID);
+            verify(dishRepository).findAllById(ids);
+        }
+
+        @Test
+        @DisplayName("Should not query the repository when no ids are given")
+        void shouldNotQueryRepositoryWhenNoIds() {
+            List<Dish> result = dishJpaAdapter.findAllByIds(List.of());
+
+            assertThat(result).isEmpty();
+            verify(dishRepository, never()).findAllById(any());
+        }
+    }
+
     @Nested
     @DisplayName("Find Active Dishes By Restaurant Id Tests")
     class FindActiveDishesByRestaurantIdTests {
@@ -206,6 +237,26 @@ class DishJpaAdapterTest {
             assertThat(result.getContent()).isEmpty();
             assertThat(result.getTotalElements()).isZero();
         }
+
+        @Test
+        @DisplayName("Should return a slice without counting when totals are not requested")
+        void shouldReturnSliceWithoutCount() {
+            DishEntity dishEntity = createDishEntity(1L, "Hamburguesa", "Hamburguesas", new RestaurantEntity());
+            Slice<DishEntity> slice = new SliceImpl<>(List.of(dishEntity), PageRequest.of(0, 1), true);
+            Dish dish = createDish(1L, "Hamburguesa", "Hamburguesas");
+
+            when(dishRepository.findSliceByRestaurantIdAndActiveTrue(eq(RESTAURANT_ID), any(Pageable.class)))
+                    .thenReturn(slice);
+            when(dishEntityMapper.toDish(dishEntity)).thenReturn(dish);
+
+            PagedResult<Dish> result = dishJpaAdapter.findActiveDishesByRestaurantIdSlice(RESTAURANT_ID, 0, 1);
+
+            assertThat(result.getContent()).containsExactly(dish);
+            assertThat(result.isHasNext()).isTrue();
+            assertThat(result.isLast()).isFalse();
+            assertThat(result.getTotalElements()).isEqualTo(-1);
+            verify(dishRepository, never()).findByRestaurantIdAndActiveTrue(any(), any());
+        }
     }
 
     @Nested
@@ -0,0 +1,411 @@
+package com.pragma.plazoleta.infrastructure.output.jpa.adapter;
+
+import com.pragma.plazoleta.domain.model.CursorResult;
+import com.pragma.plazoleta.domain.model.Order;
+import com.pragma.plazoleta.domain.model.OrderCursor;
+import com.pragma.plazoleta.domain.model.OrderItem;
+import com.pragma.plazoleta.domain.model.OrderStatus;
+import com.pragma.plazoleta.domain.model.OrderTransition;
+import com.pragma.plazoleta.domain.model.OrderTransitionResult;
+import com.pragma.plazoleta.domain.model.PagedResult;
+import com.pragma.plazoleta.infrastructure.output.jpa.entity.DishEntity;
+import com.pragma.plazoleta.infrastructure.output.jpa.entity.OrderEntity;
+import com.pragma.plazoleta.infrastructure.output.jpa.entity.OrderItemEntity;
+import com.pragma.plazoleta.infrastructure.output.jpa.entity.OrderStatusEntity;
+import com.pragma.plazoleta.infrastructure.output.jpa.entity.RestaurantEntity;
+import com.pragma.plazoleta.infrastructure.output.jpa.mapper.OrderEntityMapper;
+import com.pragma.plazoleta.infrastructure.output.jpa.repository.IDishRepository;
+import com.pragma.plazoleta.infrastructure.output.jpa.repository.IOrderRepository;
+import com.pragma.plazoleta.infrastructure.output.jpa.repository.IRestaurantRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrderJpaAdapterTest {
+
+    private static final Long ORDER_ID = 1L;
+    private static final Long RESTAURANT_ID = 10L;
+    private static final Long DISH_ID = 100L;
+    private static final Long EMPLOYEE_ID = 50L;
+
+    @Mock
+    private IOrderRepository orderRepository;
+
+    @Mock
+    private IRestaurantRepository restaurantRepository;
+
+    @Mock
+    private IDishRepository dishRepository;
+
+    @Mock
+    private OrderEntityMapper orderEntityMapper;
+
+    @InjectMocks
+    private OrderJpaAdapter orderJpaAdapter;
+
+    @Nested
+    @DisplayName("Save New Order Tests")
+    class SaveNewOrderTests {
+
+        @Test
+        @DisplayName("Should attach restaurant and dishes by reference without loading them")
+        void shouldAttachAssociationsByReference() {
+            OrderItem item = new OrderItem(DISH_ID, 2);
+            Order order = Order.builder()
+                    .restaurantId(RESTAURANT_ID)
+                    .status(OrderStatus.PENDING)
+                    .items(List.of(item))
+                    .build();
+
+            OrderEntity orderEntity = new OrderEntity();
+            OrderItemEntity itemEntity = new OrderItemEntity();
+            RestaurantEntity restaurantReference = RestaurantEntity.builder().id(RESTAURANT_ID).build();
+            DishEntity dishReference = DishEntity.builder().id(DISH_ID).build();
+            Order savedOrder = Order.builder().id(ORDER_ID).restaurantId(RESTAURANT_ID).build();
+
+            when(orderEntityMapper.toEntity(order)).thenReturn(orderEntity);
+            when(orderEntityMapper.toItemEntity(item)).thenReturn(itemEntity);
+            when(restaurantRepository.getReferenceById(RESTAURANT_ID)).thenReturn(restaurantReference);
+            when(dishRepository.getReferenceById(DISH_ID)).thenReturn(dishReference);
+            when(orderRepository.save(orderEntity)).thenReturn(orderEntity);
+            when(orderEntityMapper.toDomain(orderEntity)).thenReturn(savedOrder);
+
+            Order result = orderJpaAdapter.saveOrder(order);
+
+            assertThat(result.getId()).isEqualTo(ORDER_ID);
+            assertThat(orderEntity.getRestaurant()).isSameAs(restaurantReference);
+            assertThat(orderEntity.getItems()).containsExactly(itemEntity);
+            assertThat(itemEntity.getDish()).isSameAs(dishReference);
+            assertThat(itemEntity.getOrder()).isSameAs(orderEntity);
+            verify(restaurantRepository, never()).findById(any());
+            verify(dishRepository, never()).findById(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Update Existing Order Tests")
+    class UpdateExistingOrderTests {
+
+        @Test
+        @DisplayName("Should only change scalar columns of the managed order")
+        void shouldOnlyChangeScalarColumns() {
+            LocalDateTime updatedAt = LocalDateTime.now();
+            Order order = Order.builder()
+                    .id(ORDER_ID)
+                    .restaurantId(RESTAURANT_ID)
+                    .employeeId(EMPLOYEE_ID)
+                    .status(OrderStatus.IN_PREPARATION)
+                    .updatedAt(updatedAt)
+                    .items(List.of(new OrderItem(DISH_ID, 1)))
+                    .build();
+            OrderEntity managedEntity = OrderEntity.builder()
+                    .id(ORDER_ID)
+                    .status(OrderStatusEntity.PENDING)
+                    .build();
+
+            when(orderRepository.findById(ORDER_ID)).thenReturn(Optional.of(managedEntity));
+            when(orderEntityMapper.toStatusEntity(OrderStatus.IN_PREPARATION))
+                    .thenReturn(OrderStatusEntity.IN_PREPARATION);
+
+            Order result = orderJpaAdapter.saveOrder(order);
+
+            assertThat(result).isSameAs(order);
+            assertThat(managedEntity.getStatus()).isEqualTo(OrderStatusEntity.IN_PREPARATION);
+            assertThat(managedEntity.getEmployeeId()).isEqualTo(EMPLOYEE_ID);
+            assertThat(managedEntity.getUpdatedAt()).isEqualTo(updatedAt);
+            verify(orderRepository, never()).save(any());
+            verify(restaurantRepository, never()).getReferenceById(any());
+            verify(dishRepository, never()).getReferenceById(any());
+        }
+
+        @Test
+        @DisplayName("Should throw IllegalArgumentException when order does not exist")
+        void shouldThrowWhenOrderDoesNotExist() {
+            Order order = Order.builder().id(ORDER_ID).status(OrderStatus.CANCELLED).build();
+
+            when(orderRepository.findById(ORDER_ID)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> orderJpaAdapter.saveOrder(order))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining(ORDER_ID.toString());
+        }
+    }
+
+    @Nested
+    @DisplayName("Find By Restaurant And Status Tests")
+    class FindByRestaurantAndStatusTests {
+
+        @Test
+        @DisplayName("Should load a page of orders and all their items with two queries")
+        void shouldLoadPageWithBoundedQueries() {
+            List<OrderEntity> page = List.of(orderEntity(3L), orderEntity(1L), orderEntity(2L));
+            PageRequest pageable = PageRequest.of(0, 3);
+            when(orderRepository.findByRestaurantIdAndStatus(RESTAURANT_ID, OrderStatusEntity.PENDING, pageable))
+                    .thenReturn(new PageImpl<>(page, pageable, 10));
+            when(orderRepository.findWithItemsByIdIn(List.of(3L, 1L, 2L)))
+                    .thenReturn(List.of(page.get(1), page.get(2), page.get(0)));
+            for (OrderEntity entity : page) {
+                when(orderEntityMapper.toDomain(entity)).thenReturn(Order.builder().id(entity.getId()).build());
+            }
+
+            PagedResult<Order> result = orderJpaAdapter.findByRestaurantIdAndStatusPaginated(
+                    RESTAURANT_ID, OrderStatus.PENDING, 0, 3);
+
+            assertThat(result.getContent()).extracting(Order::getId).containsExactly(3L, 1L, 2L);
+            assertThat(result.getTotalElements()).isEqualTo(10);
+            verify(orderRepository, times(1))
+                    .findByRestaurantIdAndStatus(RESTAURANT_ID, OrderStatusEntity.PENDING, pageable);
+            verify(orderRepository, times(1)).findWithItemsByIdIn(List.of(3L, 1L, 2L));
+            verifyNoMoreInteractions(orderRepository);
+            verifyNoInteractions(restaurantRepository, dishRepository);
+        }
+
+        @Test
+        @DisplayName("Should skip the items query for an empty page")
+        void shouldSkipItemsQueryForEmptyPage() {
+            PageRequest pageable = PageRequest.of(2, 5);
+            when(orderRepository.findByRestaurantIdAndStatus(RESTAURANT_ID, OrderStatusEntity.READY, pageable))
+                    .thenReturn(new PageImpl<>(List.of(), pageable, 0));
+
+            PagedResult<Order> result = orderJpaAdapter.findByRestaurantIdAndStatusPaginated(
+                    RESTAURANT_ID, OrderStatus.READY, 2, 5);
+
+            assertThat(result.getContent()).isEmpty();
+            verify(orderRepository, never()).findWithItemsByIdIn(any());
+        }
+
+        @Test
+        @DisplayName("Should read a slice without a count query")
+        void shouldReadSliceWithoutCount() {
+            List<OrderEntity> rows = List.of(orderEntity(4L), orderEntity(5L));
+            PageRequest pageable = PageRequest.of(1, 2);
+            when(orderRepository.findSliceByRestaurantIdAndStatus(RESTAURANT_ID, OrderStatusEntity.PENDING, pageable))
+                    .thenReturn(new SliceImpl<>(rows, pageable, true));
+            when(orderRepository.findWithItemsByIdIn(List.of(4L, 5L))).thenReturn(rows);
+            for (OrderEntity entity : rows) {
+                when(orderEntityMapper.toDomain(entity)).thenReturn(Order.builder().id(entity.getId()).build());
+            }
+
+            PagedResult<Order> result = orderJpaAdapter.findByRestaurantIdAndStatusSlice(
+                    RESTAURANT_ID, OrderStatus.PENDING, 1, 2);
+
+            assertThat(result.getContent()).extracting(Order::getId).containsExactly(4L, 5L);
+            assertThat(result.isHasNext()).isTrue();
+            assertThat(result.getTotalElements()).isEqualTo(-1);
+            verify(orderRepository, never()).findByRestaurantIdAndStatus(any(), any(), any());
+        }
+
+        private OrderEntity orderEntity(Long id) {
+            return OrderEntity.builder().id(id).status(OrderStatusEntity.PENDING).build();
+        }
+    }
+
+    @Nested
+    @DisplayName("Find Order Queue Tests")
+    class FindOrderQueueTests {
+
+        private final LocalDateTime createdAt = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+        @Test
+        @DisplayName("Should read the head of the queue and point the cursor at its last order")
+        void shouldReadHeadAndReturnNextCursor() {
+            List<OrderEntity> rows = List.of(orderEntity(1L), orderEntity(2L), orderEntity(3L));
+            when(orderRepository.findQueueHead(RESTAURANT_ID, OrderStatusEntity.PENDING, Limit.of(3)))
+                    .thenReturn(rows);
+            when(orderRepository.findWithItemsByIdIn(List.of(1L, 2L))).thenReturn(rows.subList(0, 2));
+            for (OrderEntity entity : rows.subList(0, 2)) {
+                when(orderEntityMapper.toDomain(entity)).thenReturn(Order.builder().id(entity.getId()).build());
+            }
+
+            CursorResult<Order> result = orderJpaAdapter.findByRestaurantIdAndStatusAfter(
+                    RESTAURANT_ID, OrderStatus.PENDING, null, 2);
+
+            assertThat(result.getContent()).extracting(Order::getId).containsExactly(1L, 2L);
+            assertThat(result.isHasNext()).isTrue();
+            assertThat(result.getNextCursor().getId()).isEqualTo(2L);
+            assertThat(result.getNextCursor().getCreatedAt()).isEqualTo(createdAt.plusMinutes(2));
+            verify(orderRepository, never()).findByRestaurantIdAndStatus(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should seek past the cursor and report the last page")
+        void shouldSeekPastCursor() {
+            OrderCursor after = new OrderCursor(createdAt.plusMinutes(2), 2L);
+            List<OrderEntity> rows = List.of(orderEntity(3L));
+            when(orderRepository.findQueueAfter(RESTAURANT_ID, OrderStatusEntity.PENDING,
+                    after.getCreatedAt(), 2L, Limit.of(3))).thenReturn(rows);
+            when(orderRepository.findWithItemsByIdIn(List.of(3L))).thenReturn(rows);
+            when(orderEntityMapper.toDomain(rows.getFirst())).thenReturn(Order.builder().id(3L).build());
+
+            CursorResult<Order> result = orderJpaAdapter.findByRestaurantIdAndStatusAfter(
+                    RESTAURANT_ID, OrderStatus.PENDING, after, 2);
+
+            assertThat(result.getContent()).extracting(Order::getId).containsExactly(3L);
+            assertThat(result.isHasNext()).isFalse();
+            assertThat(result.getNextCursor()).isNull();
+        }
+
+        private OrderEntity orderEntity(Long id) {
+            return OrderEntity.builder()
+                    .id(id)
+                    .status(OrderStatusEntity.PENDING)
+                    .createdAt(createdAt.plusMinutes(id))
+                    .build();
+        }
+    }
+
+    @Nested
+    @DisplayName("Find Header By Id Tests")
+    class FindHeaderByIdTests {
+
+        @Test
+        @DisplayName("Should map the order without its items")
+        void shouldMapOrderWithoutItems() {
+            OrderEntity entity = OrderEntity.builder().id(ORDER_ID).status(OrderStatusEntity.PENDING).build();
+            Order header = Order.builder().id(ORDER_ID).status(OrderStatus.PENDING).build();
+            when(orderRepository.findById(ORDER_ID)).thenReturn(Optional.of(entity));
+            when(orderEntityMapper.toHeaderDomain(entity)).thenReturn(header);
+
+            assertThat(orderJpaAdapter.findHeaderById(ORDER_ID)).containsSame(header);
+            verify(orderEntityMapper, never()).toDomain(any());
+            verify(orderRepository, never()).findWithItemsByIdIn(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Transition Status Tests")
+    class TransitionStatusTests {
+
+        private final LocalDateTime updatedAt = LocalDateTime.now();
+
+        private final OrderTransition transition = OrderTransition.builder()
+                .orderId(ORDER_ID)
+                .fromStatus(OrderStatus.PENDING)
+                .toStatus(OrderStatus.IN_PREPARATION)
+                .restaurantId(RESTAURANT_ID)
+                .employeeId(EMPLOYEE_ID)
+                .updatedAt(updatedAt)
+                .build();
+
+        @Test
+        @DisplayName("Should update with one conditional statement and read the order with its items")
+        void shouldApplyTransition() {
+            OrderEntity updatedEntity = OrderEntity.builder().id(ORDER_ID).status(OrderStatusEntity.IN_PREPARATION).build();
+            Order updatedOrder = Order.builder().id(ORDER_ID).status(OrderStatus.IN_PREPARATION).build();
+            stubStatuses();
+            when(orderRepository.transitionStatus(ORDER_ID, OrderStatusEntity.PENDING, OrderStatusEntity.IN_PREPARATION,
+                    RESTAURANT_ID, null, false, null, EMPLOYEE_ID, null, updatedAt)).thenReturn(1);
+            when(orderRepository.findWithItemsByIdIn(List.of(ORDER_ID))).thenReturn(List.of(updatedEntity));
+            when(orderEntityMapper.toDomain(updatedEntity)).thenReturn(updatedOrder);
+
+            OrderTransitionResult result = orderJpaAdapter.transitionStatus(transition);
+
+            assertThat(result.isApplied()).isTrue();
+            assertThat(result.getOrder()).isSameAs(updatedOrder);
+            verify(orderRepository, never()).findById(any());
+            verify(orderRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Should report the current order without its items when the update does not apply")
+        void shouldReportCurrentOrderWhenRejected() {
+            OrderEntity currentEntity = OrderEntity.builder().id(ORDER_ID).status(OrderStatusEntity.READY).build();
+            Order currentOrder = Order.builder().id(ORDER_ID).status(OrderStatus.READY).build();
+            stubStatuses();
+            when(orderRepository.transitionStatus(any(), any(), any(), any(), any(), anyBoolean(), any(), any(), any(), any()))
+                    .thenReturn(0);
+            when(orderRepository.findById(ORDER_ID)).thenReturn(Optional.of(currentEntity));
+            when(orderEntityMapper.toHeaderDomain(currentEntity)).thenReturn(currentOrder);
+
+            OrderTransitionResult result = orderJpaAdapter.transitionStatus(transition);
+
+            assertThat(result.isApplied()).isFalse();
+            assertThat(result.getOrder()).isSameAs(currentOrder);
+            verify(orderRepository, never()).findWithItemsByIdIn(any());
+            verify(orderEntityMapper, never()).toDomain(any());
+        }
+
+        @Test
+        @DisplayName("Should report a missing order when no row matches the id")
+        void shouldReportMissingOrder() {
+            stubStatuses();
+            when(orderRepository.transitionStatus(any(), any(), any(), any(), any(), anyBoolean(), any(), any(), any(), any()))
+                    .thenReturn(0);
+            when(orderRepository.findById(ORDER_ID)).thenReturn(Optional.empty());
+
+            OrderTransitionResult result = orderJpaAdapter.transitionStatus(transition);
+
+            assertThat(result.isApplied()).isFalse();
+            assertThat(result.getOrder()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should lock the oldest order skipping locked rows and apply the transition to it")
+        void shouldClaimNextOrder() {
+            OrderTransition claim = OrderTransition.builder()
+                    .fromStatus(OrderStatus.PENDING)
+                    .toStatus(OrderStatus.IN_PREPARATION)
+                    .restaurantId(RESTAURANT_ID)
+                    .employeeId(EMPLOYEE_ID)
+                    .updatedAt(updatedAt)
+                    .build();
+            OrderEntity claimedEntity = OrderEntity.builder().id(ORDER_ID).status(OrderStatusEntity.IN_PREPARATION).build();
+            Order claimedOrder = Order.builder().id(ORDER_ID).status(OrderStatus.IN_PREPARATION).build();
+            stubStatuses();
+            when(orderRepository.lockNextOrderId(RESTAURANT_ID, "PENDING")).thenReturn(Optional.of(ORDER_ID));
+            when(orderRepository.transitionStatus(ORDER_ID, OrderStatusEntity.PENDING, OrderStatusEntity.IN_PREPARATION,
+                    RESTAURANT_ID, null, false, null, EMPLOYEE_ID, null, updatedAt)).thenReturn(1);
+            when(orderRepository.findWithItemsByIdIn(List.of(ORDER_ID))).thenReturn(List.of(claimedEntity));
+            when(orderEntityMapper.toDomain(claimedEntity)).thenReturn(claimedOrder);
+
+            Optional<Order> result = orderJpaAdapter.claimNextOrder(claim);
+
+            assertThat(result).contains(claimedOrder);
+        }
+
+        @Test
+        @DisplayName("Should return empty when every matching order is taken")
+        void shouldReturnEmptyWhenNothingToClaim() {
+            OrderTransition claim = OrderTransition.builder()
+                    .fromStatus(OrderStatus.PENDING)
+                    .toStatus(OrderStatus.IN_PREPARATION)
+                    .restaurantId(RESTAURANT_ID)
+                    .build();
+            when(orderEntityMapper.toStatusEntity(OrderStatus.PENDING)).thenReturn(OrderStatusEntity.PENDING);
+            when(orderRepository.lockNextOrderId(RESTAURANT_ID, "PENDING")).thenReturn(Optional.empty());
+
+            assertThat(orderJpaAdapter.claimNextOrder(claim)).isEmpty();
+            verify(orderRepository, never()).transitionStatus(any(), any(), any(), any(), any(), anyBoolean(),
+                    any(), any(), any(), any());
+        }
+
+        private void stubStatuses() {
+            when(orderEntityMapper.toStatusEntity(OrderStatus.PENDING)).thenReturn(OrderStatusEntity.PENDING);
+            when(orderEntityMapper.toStatusEntity(OrderStatus.IN_PREPARATION)).thenReturn(OrderStatusEntity.IN_PREPARATION);
+        }
+    }
+}
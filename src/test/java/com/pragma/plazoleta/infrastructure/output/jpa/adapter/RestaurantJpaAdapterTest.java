@@ -1,5 +1,6 @@
 package com.pragma.plazoleta.infrastructure.output.jpa.adapter;
 
+import com.pragma.plazoleta.domain.model.PagedResult;
 import com.pragma.plazoleta.domain.model.Restaurant;
 import com.pragma.plazoleta.infrastructure.output.jpa.entity.RestaurantEntity;
 import com.pragma.plazoleta.infrastructure.output.jpa.mapper.RestaurantEntityMapper;
@@ -12,11 +13,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -188,4 +194,65 @@ class RestaurantJpaAdapterTest {
             verify(restaurantRepository).findById(restaurantId);
         }
     }
+
+    @Nested
+    @DisplayName("Find All By Ids Tests")
+    class FindAllByIdsTests {
+
+        @Test
+        @DisplayName("Should return all found restaurants in a single repository call")
+        void shouldReturnAllFoundRestaurantsInSingleCall() {
+            // Arrange
+            List<Long> ids = List.of(1L, 999L);
+            Restaurant foundRestaurant = new Restaurant();
+            foundRestaurant.setId(1L);
+
+            when(restaurantRepository.findAllById(ids)).thenReturn(List.of(savedEntity));
+            when(restaurantEntityMapper.toRestaurant(savedEntity)).thenReturn(foundRestaurant);
+
+            // Act
+            List<Restaurant> result = restaurantJpaAdapter.findAllByIds(ids);
+
+            // Assert
+            assertEquals(1, result.size());
+            assertEquals(1L, result.getFirst().getId());
+            verify(restaurantRepository).findAllById(ids);
+        }
+
+        @Test
+        @DisplayName("Should not query the repository when no ids are given")
+        void shouldNotQueryRepositoryWhenNoIds() {
+            // Act
+            List<Restaurant> result = restaurantJpaAdapter.findAllByIds(List.of());
+
+            // Assert
+            assertTrue(result.isEmpty());
+            verify(restaurantRepository, never()).findAllById(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Find All Ordered By Name Slice Tests")
+    class FindAllOrderedByNameSliceTests {
+
+        @Test
+        @DisplayName("Should report the last slice without a count query")
+        void shouldReportLastSliceWithoutCount() {
+            // Arrange
+            Slice<RestaurantEntity> slice = new SliceImpl<>(List.of(savedEntity), PageRequest.of(1, 10), false);
+            when(restaurantRepository.findSliceByOrderByNameAsc(PageRequest.of(1, 10))).thenReturn(slice);
+            when(restaurantEntityMapper.toRestaurant(savedEntity)).thenReturn(restaurant);
+
+            // Act
+            PagedResult<Restaurant> result = restaurantJpaAdapter.findAllOrderedByNameSlice(1, 10);
+
+            // Assert
+            assertEquals(1, result.getContent().size());
+            assertFalse(result.isHasNext());
+            assertTrue(result.isLast());
+            assertFalse(result.isFirst());
+            assertEquals(-1, result.getTotalElements());
+            verify(restaurantRepository, never()).findAllByOrderByNameAsc(any());
+        }
+    }
 }
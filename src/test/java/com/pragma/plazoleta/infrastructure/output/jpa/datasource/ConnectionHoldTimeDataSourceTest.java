@@ -0,0 +1,85 @@
+package com.pragma.plazoleta.infrastructure.output.jpa.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConnectionHoldTimeDataSourceTest {
+
+    @Mock
+    private DataSource targetDataSource;
+
+    @Mock
+    private Connection connection;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ConnectionHoldTimeDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(targetDataSource.getConnection()).thenReturn(connection);
+        dataSource = new ConnectionHoldTimeDataSource(targetDataSource, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Should time the connection under the endpoint that checked it out")
+    void shouldTagHoldTimeWithEndpoint() throws SQLException {
+        MockHttpServletRequest request = new MockHttpServletRequest("PATCH", "/api/v1/orders/assign");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/orders/assign");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        try (Connection held = dataSource.getConnection()) {
+            held.getAutoCommit();
+        }
+
+        assertThat(meterRegistry.get("db.connection.hold")
+                .tag("method", "PATCH")
+                .tag("uri", "/api/v1/orders/assign")
+                .timer()
+                .count()).isEqualTo(1);
+        verify(connection).getAutoCommit();
+        verify(connection).close();
+    }
+
+    @Test
+    @DisplayName("Should record a connection taken outside a request once, even if closed twice")
+    void shouldRecordOnceOutsideRequest() throws SQLException {
+        Connection held = dataSource.getConnection();
+
+        held.close();
+        held.close();
+
+        assertThat(meterRegistry.get("db.connection.hold")
+                .tag("method", "none")
+                .tag("uri", "none")
+                .timer()
+                .count()).isEqualTo(1);
+        verify(connection, times(2)).close();
+    }
+}
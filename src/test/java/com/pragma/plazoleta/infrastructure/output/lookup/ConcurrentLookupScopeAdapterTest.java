@@ -0,0 +1,189 @@
+package com.pragma.plazoleta.infrastructure.output.lookup;
+
+import com.pragma.plazoleta.domain.exception.ClientPhoneNotFoundException;
+import com.pragma.plazoleta.domain.exception.LookupDeadlineExceededException;
+import com.pragma.plazoleta.domain.spi.ILookupScopePort;
+import com.pragma.plazoleta.infrastructure.configuration.WorkerThreads;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcurrentLookupScopeAdapterTest {
+
+    private static final Duration DEADLINE = Duration.ofMillis(500);
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ConcurrentLookupScopeAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new ConcurrentLookupScopeAdapter(Executors.newFixedThreadPool(4), meterRegistry, DEADLINE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        adapter.shutdown();
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Nested
+    @DisplayName("Join")
+    class Join {
+
+        @Test
+        @DisplayName("Should run the lookups at the same time")
+        void shouldRunLookupsConcurrently() {
+            CountDownLatch bothStarted = new CountDownLatch(2);
+
+            try (ILookupScopePort.Scope scope = adapter.open()) {
+                Supplier<String> first = scope.fork(() -> awaitOther(bothStarted, "client@test.com"));
+                Supplier<String> second = scope.fork(() -> awaitOther(bothStarted, "employee@test.com"));
+                scope.join();
+
+                assertThat(first.get()).isEqualTo("client@test.com");
+                assertThat(second.get()).isEqualTo("employee@test.com");
+            }
+            assertThat(scopes("completed")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should rethrow the first failure and cancel the other lookups")
+        void shouldCancelRemainingLookupsOnFailure() throws InterruptedException {
+            CountDownLatch interrupted = new CountDownLatch(1);
+
+            try (ILookupScopePort.Scope scope = adapter.open()) {
+                scope.fork(() -> sleepUntilInterrupted(interrupted));
+                scope.fork(() -> {
+                    throw new ClientPhoneNotFoundException(1L);
+                });
+
+                assertThatThrownBy(scope::join).isInstanceOf(ClientPhoneNotFoundException.class);
+            }
+            assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+            assertThat(scopes("failed")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should give up on the lookups once the deadline passes")
+        void shouldCancelLookupsAfterDeadline() throws InterruptedException {
+            CountDownLatch interrupted = new CountDownLatch(1);
+
+            try (ILookupScopePort.Scope scope = adapter.open()) {
+                Supplier<String> slow = scope.fork(() -> sleepUntilInterrupted(interrupted));
+
+                assertThatThrownBy(scope::join)
+                        .isInstanceOf(LookupDeadlineExceededException.class)
+                        .hasMessageContaining("500");
+                assertThatThrownBy(slow::get).isInstanceOf(IllegalStateException.class);
+            }
+            assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+            assertThat(scopes("deadline_exceeded")).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Context")
+    class Context {
+
+        @Test
+        @DisplayName("Should hand the request and security context of the caller to each lookup")
+        void shouldPropagateCallerContext() {
+            Authentication authentication = new UsernamePasswordAuthenticationToken("employee@test.com", "jwt-token", List.of());
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+            RequestAttributes requestAttributes = new ServletRequestAttributes(new MockHttpServletRequest());
+            RequestContextHolder.setRequestAttributes(requestAttributes);
+
+            try (ILookupScopePort.Scope scope = adapter.open()) {
+                Supplier<Authentication> seenAuthentication = scope.fork(
+                        () -> SecurityContextHolder.getContext().getAuthentication());
+                Supplier<RequestAttributes> seenAttributes = scope.fork(RequestContextHolder::getRequestAttributes);
+                scope.join();
+
+                assertThat(seenAuthentication.get()).isSameAs(authentication);
+                assertThat(seenAttributes.get()).isSameAs(requestAttributes);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Executor")
+    class Executor {
+
+        @Test
+        @DisplayName("Should run each lookup on its own virtual thread when virtual threads are on")
+        void shouldUseVirtualThreadPerLookup() throws Exception {
+            ExecutorService executor = ConcurrentLookupScopeAdapter.lookupExecutor(new WorkerThreads(true), 8);
+            try {
+                assertThat(executor.submit(() -> Thread.currentThread().isVirtual()).get()).isTrue();
+                assertThat(executor).isNotInstanceOf(ThreadPoolExecutor.class);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("Should size the platform pool to the lookups of every request thread")
+        void shouldSizePlatformPoolToRequestConcurrency() {
+            ExecutorService executor = ConcurrentLookupScopeAdapter.lookupExecutor(new WorkerThreads(false), 800);
+            try {
+                assertThat(executor).isInstanceOfSatisfying(ThreadPoolExecutor.class, pool -> {
+                    assertThat(pool.getMaximumPoolSize()).isEqualTo(800);
+                    assertThat(pool.allowsCoreThreadTimeOut()).isTrue();
+                });
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    private long scopes(String outcome) {
+        return meterRegistry.get("order.lookups.scope").tag("outcome", outcome).timer().count();
+    }
+
+    private static String awaitOther(CountDownLatch bothStarted, String result) {
+        bothStarted.countDown();
+        try {
+            if (!bothStarted.await(DEADLINE.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("The other lookup did not start");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        return result;
+    }
+
+    private static String sleepUntilInterrupted(CountDownLatch interrupted) {
+        try {
+            Thread.sleep(Duration.ofSeconds(10));
+        } catch (InterruptedException e) {
+            interrupted.countDown();
+        }
+        return "too late";
+    }
+}
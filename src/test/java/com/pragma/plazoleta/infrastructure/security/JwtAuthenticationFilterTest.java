@@ -8,6 +8,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.util.Optional;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -52,10 +54,8 @@ class JwtAuthenticationFilterTest {
 
         when(request.getHeader(AUTHORIZATION_HEADER)).thenReturn(BEARER_PREFIX + TEST_TOKEN);
 
-        when(validator.isTokenValid(TEST_TOKEN)).thenReturn(true);
-        when(validator.extractEmail(TEST_TOKEN)).thenReturn(TEST_EMAIL);
-        when(validator.extractRole(TEST_TOKEN)).thenReturn(ROLE_CLIENT);
-        when(validator.extractUserId(TEST_TOKEN)).thenReturn(42L);
+        when(validator.authenticate(TEST_TOKEN))
+                .thenReturn(Optional.of(new AuthenticatedUser(42L, TEST_EMAIL, ROLE_CLIENT, null)));
 
         filter.doFilter(request, response, chain);
 
@@ -63,9 +63,35 @@ class JwtAuthenticationFilterTest {
 
         var auth = SecurityContextHolder.getContext().getAuthentication();
         assertNotNull(auth);
-        assertEquals(TEST_EMAIL, auth.getPrincipal());
+        assertEquals(new AuthenticatedUser(42L, TEST_EMAIL, ROLE_CLIENT, null), auth.getPrincipal());
+        assertEquals(TEST_EMAIL, auth.getName());
         assertEquals(42L, auth.getDetails());
+        assertEquals(TEST_TOKEN, auth.getCredentials());
         assertTrue(auth.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_" + ROLE_CLIENT)));
+        verify(validator, times(1)).authenticate(TEST_TOKEN);
+        verifyNoMoreInteractions(validator);
+    }
+
+    @Test
+    void doFilter_withRestaurantClaim_exposesRestaurantIdOnPrincipal() throws Exception {
+        JwtTokenValidator validator = mock(JwtTokenValidator.class);
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(validator);
+
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        FilterChain chain = mock(FilterChain.class);
+
+        when(request.getHeader(AUTHORIZATION_HEADER)).thenReturn(BEARER_PREFIX + TEST_TOKEN);
+
+        when(validator.authenticate(TEST_TOKEN))
+                .thenReturn(Optional.of(new AuthenticatedUser(42L, TEST_EMAIL, "EMPLOYEE", 7L)));
+
+        filter.doFilter(request, response, chain);
+
+        var auth = SecurityContextHolder.getContext().getAuthentication();
+        assertNotNull(auth);
+        AuthenticatedUser principal = assertInstanceOf(AuthenticatedUser.class, auth.getPrincipal());
+        assertEquals(7L, principal.restaurantId());
     }
 
     @Test
@@ -80,7 +106,7 @@ class JwtAuthenticationFilterTest {
         String token = TEST_TOKEN;
         when(request.getHeader(AUTHORIZATION_HEADER)).thenReturn(BEARER_PREFIX + token);
 
-        when(validator.isTokenValid(token)).thenReturn(false);
+        when(validator.authenticate(token)).thenReturn(Optional.empty());
 
         filter.doFilter(request, response, chain);
 
@@ -0,0 +1,87 @@
+package com.pragma.plazoleta.infrastructure.security;
+
+import com.pragma.plazoleta.infrastructure.output.feign.adapter.EmployeeRestaurantFeignAdapter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JwtEmployeeRestaurantAdapterTest {
+
+    private static final Long EMPLOYEE_ID = 42L;
+    private static final Long RESTAURANT_ID = 7L;
+    private static final String EMAIL = "employee@test.com";
+
+    @Mock
+    private EmployeeRestaurantFeignAdapter employeeRestaurantFeignAdapter;
+
+    @InjectMocks
+    private JwtEmployeeRestaurantAdapter adapter;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void getRestaurantIdByEmployeeId_ShouldUseTokenClaimForCurrentUser() {
+        authenticate(new AuthenticatedUser(EMPLOYEE_ID, EMAIL, "EMPLOYEE", RESTAURANT_ID));
+
+        assertEquals(Optional.of(RESTAURANT_ID), adapter.getRestaurantIdByEmployeeId(EMPLOYEE_ID));
+        verifyNoInteractions(employeeRestaurantFeignAdapter);
+    }
+
+    @Test
+    void getRestaurantIdByEmployeeId_ShouldFallBackWhenClaimIsMissing() {
+        authenticate(new AuthenticatedUser(EMPLOYEE_ID, EMAIL, "EMPLOYEE", null));
+        when(employeeRestaurantFeignAdapter.getRestaurantIdByEmployeeId(EMPLOYEE_ID))
+                .thenReturn(Optional.of(RESTAURANT_ID));
+
+        assertEquals(Optional.of(RESTAURANT_ID), adapter.getRestaurantIdByEmployeeId(EMPLOYEE_ID));
+        verify(employeeRestaurantFeignAdapter).getRestaurantIdByEmployeeId(EMPLOYEE_ID);
+    }
+
+    @Test
+    void getRestaurantIdByEmployeeId_ShouldFallBackForOtherUsers() {
+        authenticate(new AuthenticatedUser(EMPLOYEE_ID, EMAIL, "EMPLOYEE", RESTAURANT_ID));
+        when(employeeRestaurantFeignAdapter.getRestaurantIdByEmployeeId(99L)).thenReturn(Optional.of(3L));
+
+        assertEquals(Optional.of(3L), adapter.getRestaurantIdByEmployeeId(99L));
+    }
+
+    @Test
+    void getRestaurantIdByEmployeeId_ShouldFallBackWithoutAuthentication() {
+        when(employeeRestaurantFeignAdapter.getRestaurantIdByEmployeeId(EMPLOYEE_ID)).thenReturn(Optional.empty());
+
+        assertEquals(Optional.empty(), adapter.getRestaurantIdByEmployeeId(EMPLOYEE_ID));
+        verify(employeeRestaurantFeignAdapter).getRestaurantIdByEmployeeId(EMPLOYEE_ID);
+    }
+
+    @Test
+    void getEmployeeEmailById_ShouldUseTokenSubjectForCurrentUser() {
+        authenticate(new AuthenticatedUser(EMPLOYEE_ID, EMAIL, "EMPLOYEE", null));
+
+        assertEquals(Optional.of(EMAIL), adapter.getEmployeeEmailById(EMPLOYEE_ID));
+        verifyNoInteractions(employeeRestaurantFeignAdapter);
+    }
+
+    private void authenticate(AuthenticatedUser user) {
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(user, "token", List.of());
+        authentication.setDetails(user.userId());
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+}
@@ -3,10 +3,13 @@ package com.pragma.plazoleta.infrastructure.security;
 import com.pragma.plazoleta.infrastructure.constant.SecurityConstants;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -17,54 +20,93 @@ class JwtTokenValidatorTest {
     private static final Long TEST_USER_ID = 42L;
 
     @Test
-    void validToken_extractsClaimsAndIsValid() {
+    void authenticate_readsRestaurantClaim() {
         var key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
 
         String token = Jwts.builder()
                 .subject(TEST_EMAIL)
-                .claim("role", SecurityConstants.ROLE_CLIENT)
+                .claim("role", SecurityConstants.ROLE_EMPLOYEE)
                 .claim("userId", TEST_USER_ID)
+                .claim("restaurantId", 7L)
                 .expiration(new Date(System.currentTimeMillis() + 60_000))
                 .signWith(key)
                 .compact();
 
-        JwtTokenValidator validator = new JwtTokenValidator(SECRET);
+        JwtTokenValidator validator = validator();
 
-        assertEquals(TEST_EMAIL, validator.extractEmail(token));
-        assertEquals(SecurityConstants.ROLE_CLIENT, validator.extractRole(token));
-        assertEquals(TEST_USER_ID, validator.extractUserId(token));
-        assertTrue(validator.isTokenValid(token));
+        assertEquals(Optional.of(new AuthenticatedUser(TEST_USER_ID, TEST_EMAIL, SecurityConstants.ROLE_EMPLOYEE, 7L)),
+                validator.authenticate(token));
     }
 
     @Test
-    void expiredToken_returnsNullsAndIsInvalid() {
-        var key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
-
+    void authenticate_rejectsTokenSignedWithAnotherSecret() {
+        var otherKey = Keys.hmacShaKeyFor("98765432109876543210987654321098".getBytes(StandardCharsets.UTF_8));
         String token = Jwts.builder()
                 .subject(TEST_EMAIL)
                 .claim("role", SecurityConstants.ROLE_CLIENT)
                 .claim("userId", TEST_USER_ID)
-                .expiration(new Date(System.currentTimeMillis() - 1_000))
-                .signWith(key)
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(otherKey)
                 .compact();
 
-        JwtTokenValidator validator = new JwtTokenValidator(SECRET);
+        assertTrue(validator().authenticate(token).isEmpty());
+    }
+
+    @Test
+    void authenticate_buildsPrincipalFromClaims() {
+        String token = signedToken(60_000);
+
+        JwtTokenValidator validator = validator();
 
-        assertNull(validator.extractEmail(token));
-        assertNull(validator.extractRole(token));
-        assertNull(validator.extractUserId(token));
-        assertFalse(validator.isTokenValid(token));
+        assertEquals(Optional.of(new AuthenticatedUser(TEST_USER_ID, TEST_EMAIL, SecurityConstants.ROLE_CLIENT, null)),
+                validator.authenticate(token));
     }
 
     @Test
-    void malformedToken_returnsNullsAndIsInvalid() {
-        JwtTokenValidator validator = new JwtTokenValidator(SECRET);
+    void authenticate_servesRepeatedTokensFromCache() {
+        String token = signedToken(60_000);
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        JwtTokenValidator validator = new JwtTokenValidator(SECRET, 100, meterRegistry);
 
-        String bad = "not-a-token";
+        Optional<AuthenticatedUser> first = validator.authenticate(token);
+        Optional<AuthenticatedUser> second = validator.authenticate(token);
+
+        assertEquals(first, second);
+        assertEquals(1.0, meterRegistry.get("jwt.cache.requests").tag("result", "hit").counter().count());
+        assertEquals(1.0, meterRegistry.get("jwt.cache.requests").tag("result", "miss").counter().count());
+        assertEquals(1L, meterRegistry.get("jwt.verification").timer().count());
+    }
 
-        assertNull(validator.extractEmail(bad));
-        assertNull(validator.extractRole(bad));
-        assertNull(validator.extractUserId(bad));
-        assertFalse(validator.isTokenValid(bad));
+    @Test
+    void authenticate_rejectsExpiredMalformedAndIncompleteTokens() {
+        var key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        String withoutRole = Jwts.builder()
+                .subject(TEST_EMAIL)
+                .claim("userId", TEST_USER_ID)
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(key)
+                .compact();
+
+        JwtTokenValidator validator = validator();
+
+        assertTrue(validator.authenticate(signedToken(-1_000)).isEmpty());
+        assertTrue(validator.authenticate("not-a-token").isEmpty());
+        assertTrue(validator.authenticate(withoutRole).isEmpty());
+    }
+
+    private static JwtTokenValidator validator() {
+        return new JwtTokenValidator(SECRET, 100, new SimpleMeterRegistry());
+    }
+
+    private String signedToken(long expiresInMillis) {
+        var key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        return Jwts.builder()
+                .subject(TEST_EMAIL)
+                .claim("role", SecurityConstants.ROLE_CLIENT)
+                .claim("userId", TEST_USER_ID)
+                .expiration(new Date(System.currentTimeMillis() + expiresInMillis))
+                .signWith(key)
+                .compact();
     }
 }